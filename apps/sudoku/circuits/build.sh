@@ -44,7 +44,9 @@ $snarkjsCmd zkey contribute ${circuitName}_0000.zkey ${circuitName}_0001.zkey --
 
 $snarkjsCmd zkey export verificationkey ${circuitName}_0001.zkey verification_key.json
 
-$snarkjsCmd zkey export javaverifier ${circuitName}_0001.zkey SnarkJSVerifier.java
+# the contracts build generates the verifier class from this key
+mkdir -p ../../contracts/contracts/zk/${circuitName}
+cp verification_key.json ../../contracts/contracts/zk/${circuitName}/
 
 node ${circuitName}_js/generate_witness.js ${circuitName}_js/${circuitName}.wasm $inputFileName ${witnessFileName}
 
@@ -53,3 +55,6 @@ $snarkjsCmd groth16 prove ${circuitName}_0001.zkey ${witnessFileName} proof.json
 $snarkjsCmd groth16 verify verification_key.json public.json proof.json
 
 $snarkjsCmd zkey export javacalldata | tee calldata.json
+
+# a proof for the key above; the contracts tests verify it against the generated verifier
+cp calldata.json ../../contracts/contracts/zk/${circuitName}/
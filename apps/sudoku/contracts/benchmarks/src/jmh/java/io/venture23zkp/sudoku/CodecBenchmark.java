@@ -0,0 +1,103 @@
+package io.venture23zkp.sudoku;
+
+import io.venture23zkp.sudoku.curves.JvmCurveOps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import score.ByteArrayObjectWriter;
+import score.Context;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CodecBenchmark {
+
+    @Param({Fixtures.BN128, Fixtures.BLS12381})
+    public String curve;
+
+    private Curve c;
+    private P1 p1;
+    private P2 p2;
+    private byte[] p1Bytes;
+    private byte[] p2Bytes;
+    private byte[] buffer;
+    private Board board;
+    private byte[] boardBytes;
+
+    @Setup
+    public void setup() {
+        c = Fixtures.curve(curve);
+        p1 = P1.generator(c).scalarMul(JvmCurveOps.INSTANCE, BigInteger.valueOf(7));
+        p2 = P2.generator(c).scalarMul(JvmCurveOps.INSTANCE, BigInteger.valueOf(7));
+        p1Bytes = p1.bytes();
+        p2Bytes = p2.bytes();
+        buffer = new byte[c.pairSize];
+        board = new Board(
+                new BigInteger("20508280487233337829117787098579484117180647220128235675540805714795266829330"),
+                new BigInteger("20508280487233337829117787098579484117180647220128235675540805714795266829330"),
+                new int[][] {
+                        {1, 2, 7, 5, 8, 4, 6, 9, 3},
+                        {8, 5, 6, 3, 7, 9, 1, 2, 4},
+                        {3, 4, 9, 6, 2, 1, 8, 7, 5},
+                        {4, 7, 1, 9, 5, 8, 2, 3, 6},
+                        {2, 6, 8, 7, 1, 3, 5, 4, 9},
+                        {9, 3, 5, 4, 6, 2, 7, 1, 8},
+                        {5, 8, 3, 2, 9, 7, 4, 6, 1},
+                        {7, 1, 4, 8, 3, 6, 9, 5, 2},
+                        {6, 9, 2, 1, 4, 5, 3, 0, 7}});
+        boardBytes = writeBoard();
+    }
+
+    @Benchmark
+    public byte[] encodeP1() {
+        return p1.bytes();
+    }
+
+    @Benchmark
+    public P1 decodeP1() {
+        return new P1(c, p1Bytes);
+    }
+
+    @Benchmark
+    public byte[] encodeP2() {
+        return p2.bytes();
+    }
+
+    @Benchmark
+    public P2 decodeP2() {
+        return new P2(c, p2Bytes);
+    }
+
+    // writing a pair into a shared buffer, the replacement for the old concat()
+    @Benchmark
+    public byte[] writePair() {
+        p1.writeTo(buffer, 0);
+        p2.writeTo(buffer, c.g1Size);
+        return buffer;
+    }
+
+    @Benchmark
+    public byte[] writeBoard() {
+        ByteArrayObjectWriter w = Context.newByteArrayObjectWriter("RLPn");
+        Board.writeObject(w, board);
+        return w.toByteArray();
+    }
+
+    @Benchmark
+    public Board readBoard() {
+        return Board.readObject(Context.newByteArrayObjectReader("RLPn", boardBytes));
+    }
+
+    @Benchmark
+    public int[][] readBoardData() {
+        return Board.readObject(Context.newByteArrayObjectReader("RLPn", boardBytes)).getData();
+    }
+}
@@ -0,0 +1,67 @@
+package io.venture23zkp.sudoku;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Paths;
+
+/**
+ * A verifying key with one valid proof for each curve.
+ * If {@code -Dsudoku.calldata.<curve>} names a snarkjs calldata.json, its proof is checked
+ * against the built-in key. Otherwise the key and proof come from {@link TestKeys}, which
+ * runs the verifier through the same steps.
+ */
+final class Fixtures {
+    static final String BN128 = "bn128";
+    static final String BLS12381 = "bls12381";
+
+    final Curve curve;
+    final VerifyingKey vk;
+    final BigInteger[] a;
+    final BigInteger[][] b;
+    final BigInteger[] c;
+    final BigInteger[] input;
+
+    private Fixtures(Curve curve, VerifyingKey vk, BigInteger[] a, BigInteger[][] b, BigInteger[] c,
+                     BigInteger[] input) {
+        this.curve = curve;
+        this.vk = vk;
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.input = input;
+    }
+
+    static Curve curve(String name) {
+        if (BN128.equals(name)) {
+            return Curve.BN128;
+        }
+        if (BLS12381.equals(name)) {
+            return Curve.BLS12_381;
+        }
+        throw new IllegalArgumentException("unknown curve " + name);
+    }
+
+    static VerifyingKey builtinVerifyingKey(Curve curve) {
+        return curve == Curve.BN128 ? PedersenBN128Verifier.builtinVerifyingKey()
+                : Sha256BLS12381Verifier.builtinVerifyingKey();
+    }
+
+    static Fixtures load(String curveName, CurveOps ops) throws IOException {
+        Curve curve = curve(curveName);
+        String calldata = System.getProperty("sudoku.calldata." + curveName);
+        return calldata != null ? fromCalldata(curve, Calldata.read(Paths.get(calldata)))
+                : synthetic(curve, ops);
+    }
+
+    static Fixtures fromCalldata(Curve curve, Calldata proof) {
+        return new Fixtures(curve, builtinVerifyingKey(curve), proof.a, proof.b, proof.c, proof.input);
+    }
+
+    // a one-input key from the contracts test fixture, and a proof solved for it
+    static Fixtures synthetic(Curve curve, CurveOps ops) {
+        TestKeys keys = new TestKeys(curve, 1, curve.getId(), ops);
+        BigInteger[] input = { BigInteger.valueOf(0x5ad0c0) };
+        TestKeys.TestProof proof = keys.prove(input);
+        return new Fixtures(curve, keys.vk, proof.a, proof.b, proof.c, input);
+    }
+}
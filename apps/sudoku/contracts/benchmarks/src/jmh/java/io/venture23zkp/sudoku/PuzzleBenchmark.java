@@ -0,0 +1,68 @@
+package io.venture23zkp.sudoku;
+
+import io.venture23zkp.sudoku.boards.PuzzleGenerator;
+import io.venture23zkp.sudoku.boards.SudokuSolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Puzzles per second for the board pipeline: solving, the uniqueness check the generator
+ * runs once per removed clue, and whole generation, single-threaded and across all cores.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PuzzleBenchmark {
+    private static final int BATCH = 64;
+
+    private final SudokuSolver solver = new SudokuSolver();
+    private int[][][] puzzles;
+    private int next;
+    private PuzzleGenerator generator;
+    private long seed;
+
+    @Setup
+    public void setup() {
+        List<PuzzleGenerator.Puzzle> generated = PuzzleGenerator.generate(BATCH, 1);
+        puzzles = new int[BATCH][][];
+        for (int i = 0; i < BATCH; i++) {
+            puzzles[i] = generated.get(i).getBoard();
+        }
+        generator = new PuzzleGenerator(2);
+    }
+
+    private int[][] nextPuzzle() {
+        next = (next + 1) % BATCH;
+        return puzzles[next];
+    }
+
+    @Benchmark
+    public int[][] solve() {
+        return solver.solve(nextPuzzle());
+    }
+
+    @Benchmark
+    public int countSolutions() {
+        return solver.countSolutions(nextPuzzle(), 2);
+    }
+
+    @Benchmark
+    public PuzzleGenerator.Puzzle generate() {
+        return generator.next();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<PuzzleGenerator.Puzzle> generateParallel() {
+        return PuzzleGenerator.generate(BATCH, seed++);
+    }
+}
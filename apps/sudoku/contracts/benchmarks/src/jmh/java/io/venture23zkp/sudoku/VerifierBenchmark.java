@@ -0,0 +1,66 @@
+package io.venture23zkp.sudoku;
+
+import io.venture23zkp.sudoku.curves.JvmCurveOps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VerifierBenchmark {
+
+    @Param({Fixtures.BN128, Fixtures.BLS12381})
+    public String curve;
+
+    private Fixtures fixtures;
+    private Groth16Verifier verifier;
+    private Groth16Verifier.Proof proof;
+    private byte[] encodedKey;
+    private byte[] preparedInput;
+
+    @Setup
+    public void setup() throws IOException {
+        fixtures = Fixtures.load(curve, JvmCurveOps.INSTANCE);
+        verifier = new Groth16Verifier(fixtures.vk, JvmCurveOps.INSTANCE);
+        proof = verifier.proof(fixtures.a, fixtures.b, fixtures.c);
+        encodedKey = fixtures.vk.encode();
+        preparedInput = verifier.prepareInputs(fixtures.input);
+        if (!verifier.verifyProof(fixtures.a, fixtures.b, fixtures.c, fixtures.input)) {
+            throw new IllegalStateException("fixture proof does not verify on " + curve);
+        }
+    }
+
+    @Benchmark
+    public VerifyingKey decodeVerifyingKey() {
+        return VerifyingKey.decode(encodedKey);
+    }
+
+    @Benchmark
+    public byte[] prepareInputs() {
+        return verifier.prepareInputs(fixtures.input);
+    }
+
+    @Benchmark
+    public int checkProof() {
+        return verifier.checkProof(fixtures.a, fixtures.b, fixtures.c, fixtures.input);
+    }
+
+    @Benchmark
+    public boolean verifyPrepared() {
+        return verifier.verifyPrepared(preparedInput, proof);
+    }
+
+    @Benchmark
+    public boolean verifyProof() {
+        return verifier.verifyProof(fixtures.a, fixtures.b, fixtures.c, fixtures.input);
+    }
+}
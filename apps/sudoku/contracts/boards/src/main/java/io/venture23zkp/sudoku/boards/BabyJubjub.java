@@ -0,0 +1,58 @@
+package io.venture23zkp.sudoku.boards;
+
+import java.math.BigInteger;
+
+/**
+ * The twisted Edwards curve a x^2 + y^2 = 1 + d x^2 y^2 over the BN254 scalar field,
+ * as used by circomlib. Points are {x, y} in affine form; sums are accumulated in
+ * projective {X, Y, Z} so a chain of additions needs a single inversion. The addition
+ * law is complete on this curve, so no case needs special handling.
+ */
+final class BabyJubjub {
+    static final BigInteger P =
+            new BigInteger("21888242871839275222246405745257275088548364400416034343698204186575808495617");
+    static final BigInteger A = BigInteger.valueOf(168700);
+    static final BigInteger D = BigInteger.valueOf(168696);
+
+    static final BigInteger[] IDENTITY = { BigInteger.ZERO, BigInteger.ONE };
+
+    private BabyJubjub() {
+    }
+
+    static boolean isOnCurve(BigInteger[] p) {
+        BigInteger x2 = p[0].multiply(p[0]);
+        BigInteger y2 = p[1].multiply(p[1]);
+        return A.multiply(x2).add(y2).subtract(BigInteger.ONE).subtract(D.multiply(x2).multiply(y2)).mod(P).signum() == 0;
+    }
+
+    static BigInteger[] neg(BigInteger[] p) {
+        return new BigInteger[] { p[0].signum() == 0 ? p[0] : P.subtract(p[0]), p[1] };
+    }
+
+    static BigInteger[] add(BigInteger[] p, BigInteger[] q) {
+        return toAffine(addMixed(new BigInteger[] { p[0], p[1], BigInteger.ONE }, q));
+    }
+
+    /**
+     * Projective {@code r} plus affine {@code q} (add-2008-bbjlp with Z2 = 1).
+     */
+    static BigInteger[] addMixed(BigInteger[] r, BigInteger[] q) {
+        BigInteger a = r[2];
+        BigInteger b = a.multiply(a).mod(P);
+        BigInteger c = r[0].multiply(q[0]).mod(P);
+        BigInteger d = r[1].multiply(q[1]).mod(P);
+        BigInteger e = D.multiply(c).multiply(d).mod(P);
+        BigInteger f = b.subtract(e);
+        BigInteger g = b.add(e);
+        BigInteger cross = r[0].add(r[1]).multiply(q[0].add(q[1])).subtract(c).subtract(d);
+        return new BigInteger[] {
+                a.multiply(f).mod(P).multiply(cross).mod(P),
+                a.multiply(g).mod(P).multiply(d.subtract(A.multiply(c))).mod(P),
+                f.multiply(g).mod(P) };
+    }
+
+    static BigInteger[] toAffine(BigInteger[] r) {
+        BigInteger zInv = r[2].modInverse(P);
+        return new BigInteger[] { r[0].multiply(zInv).mod(P), r[1].multiply(zInv).mod(P) };
+    }
+}
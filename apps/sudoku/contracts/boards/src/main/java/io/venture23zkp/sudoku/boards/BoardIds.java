@@ -0,0 +1,94 @@
+package io.venture23zkp.sudoku.boards;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.stream.IntStream;
+
+/**
+ * Board ids as the sudoku circuits compute them. Both circuits hash the same 328-bit
+ * message: four zero bits, then the 81 cells row-major, four bits each, most significant
+ * bit first, which is 41 bytes.
+ * <ul>
+ * <li>{@code sudoku_sha256}: SHA-256 of those bytes, read big-endian. {@code Bits2Num(256)}
+ * runs in the BLS12-381 scalar field, so the public input is the digest reduced modulo r.</li>
+ * <li>{@code sudoku_pedersen}: the x coordinate of circomlib's Pedersen hash on Baby Jubjub.</li>
+ * </ul>
+ */
+public final class BoardIds {
+    public static final BigInteger BLS12_381_SCALAR_FIELD =
+            new BigInteger("52435875175126190479447740508185965837690552500527637822603658699938581184513");
+
+    static final int MESSAGE_NIBBLES = 82;
+
+    private static final PedersenBoardHasher PEDERSEN = new PedersenBoardHasher(MESSAGE_NIBBLES);
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private BoardIds() {
+    }
+
+    static int[] nibbles(int[][] board) {
+        if (board.length != 9) {
+            throw new IllegalArgumentException("BoardIds: expected 9 rows");
+        }
+        int[] nibbles = new int[MESSAGE_NIBBLES];
+        for (int i = 0; i < 9; i++) {
+            if (board[i].length != 9) {
+                throw new IllegalArgumentException("BoardIds: expected 9 columns");
+            }
+            for (int j = 0; j < 9; j++) {
+                int v = board[i][j];
+                if (v < 0 || v > 9) {
+                    throw new IllegalArgumentException("BoardIds: invalid cell value " + v);
+                }
+                nibbles[1 + 9 * i + j] = v;
+            }
+        }
+        return nibbles;
+    }
+
+    /**
+     * The full SHA-256 digest of the board message. This is what the built-in boards store
+     * as their {@code sha256Id}.
+     */
+    public static BigInteger sha256Digest(int[][] board) {
+        int[] nibbles = nibbles(board);
+        byte[] message = new byte[MESSAGE_NIBBLES / 2];
+        for (int k = 0; k < message.length; k++) {
+            message[k] = (byte) (nibbles[2 * k] << 4 | nibbles[2 * k + 1]);
+        }
+        return new BigInteger(1, SHA256.get().digest(message));
+    }
+
+    /**
+     * The public input of {@code sudoku_sha256} for this board: the digest modulo the
+     * BLS12-381 scalar field. Differs from {@link #sha256Digest} for about half of all
+     * boards, and only this value can be proven.
+     */
+    public static BigInteger sha256Id(int[][] board) {
+        return sha256Digest(board).mod(BLS12_381_SCALAR_FIELD);
+    }
+
+    /**
+     * The public input of {@code sudoku_pedersen} for this board.
+     */
+    public static BigInteger pedersenId(int[][] board) {
+        return PEDERSEN.hash(nibbles(board));
+    }
+
+    /**
+     * Computes {@code {sha256Id, pedersenId}} for every board across the common fork-join pool.
+     */
+    public static BigInteger[][] computeAll(int[][][] boards) {
+        BigInteger[][] ids = new BigInteger[boards.length][];
+        IntStream.range(0, boards.length).parallel()
+                .forEach(i -> ids[i] = new BigInteger[] { sha256Id(boards[i]), pedersenId(boards[i]) });
+        return ids;
+    }
+}
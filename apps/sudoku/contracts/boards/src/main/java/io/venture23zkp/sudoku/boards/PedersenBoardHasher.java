@@ -0,0 +1,70 @@
+package io.venture23zkp.sudoku.boards;
+
+import java.math.BigInteger;
+
+/**
+ * circomlib {@code Pedersen(n)}, specialised to the circuits' input of nibbles: the bits
+ * are cut into segments of 200, each on its own base point, and every segment into
+ * windows of 4 bits. Window j of a segment adds {@code +-(1 + b0 + 2 b1 + 4 b2) 32^j B},
+ * negated when b3 is set. Each window is exactly one nibble, so all 16 outcomes of every
+ * window are tabulated up front and a hash is one point addition per nibble.
+ */
+final class PedersenBoardHasher {
+    static final int WINDOW_BITS = 4;
+    static final int SEGMENT_BITS = 200;
+    static final int WINDOWS_PER_SEGMENT = SEGMENT_BITS / WINDOW_BITS;
+
+    // circomlib pedersen.circom BASE[0..1]; 328 input bits use two segments
+    static final BigInteger[][] BASES = {
+            { new BigInteger("10457101036533406547632367118273992217979173478358440826365724437999023779287"),
+                    new BigInteger("19824078218392094440610104313265183977899662750282163392862422243483260492317") },
+            { new BigInteger("2671756056509184035029146175565761955751135805354291559563293617232983272177"),
+                    new BigInteger("2663205510731142763556352975002641716101654201788071096152948830924149045094") },
+    };
+
+    // table[window][nibble]: the point window contributes for that nibble value
+    private final BigInteger[][][] table;
+
+    PedersenBoardHasher(int nibbles) {
+        if (nibbles > BASES.length * WINDOWS_PER_SEGMENT) {
+            throw new IllegalArgumentException("PedersenBoardHasher: input needs more base points");
+        }
+        table = new BigInteger[nibbles][16][];
+        BigInteger[] windowBase = null;
+        for (int w = 0; w < nibbles; w++) {
+            windowBase = w % WINDOWS_PER_SEGMENT == 0 ? BASES[w / WINDOWS_PER_SEGMENT] : times32(windowBase);
+            BigInteger[][] multiples = new BigInteger[8][];
+            multiples[0] = windowBase;
+            for (int k = 1; k < 8; k++) {
+                multiples[k] = BabyJubjub.add(multiples[k - 1], windowBase);
+            }
+            for (int v = 0; v < 16; v++) {
+                // bits enter the hash most significant first: b0 = v >> 3, ..., b3 = v & 1
+                int magnitude = ((v >> 3) & 1) + 2 * ((v >> 2) & 1) + 4 * ((v >> 1) & 1);
+                table[w][v] = (v & 1) == 0 ? multiples[magnitude] : BabyJubjub.neg(multiples[magnitude]);
+            }
+        }
+    }
+
+    private static BigInteger[] times32(BigInteger[] p) {
+        for (int i = 0; i < 5; i++) {
+            p = BabyJubjub.add(p, p);
+        }
+        return p;
+    }
+
+    /**
+     * Hashes {@code nibbles.length} 4-bit values and returns the x coordinate of the
+     * resulting point, which is the circuit's {@code out[0]}.
+     */
+    BigInteger hash(int[] nibbles) {
+        if (nibbles.length != table.length) {
+            throw new IllegalArgumentException("PedersenBoardHasher: expected " + table.length + " nibbles");
+        }
+        BigInteger[] acc = { BigInteger.ZERO, BigInteger.ONE, BigInteger.ONE };
+        for (int w = 0; w < nibbles.length; w++) {
+            acc = BabyJubjub.addMixed(acc, table[w][nibbles[w]]);
+        }
+        return BabyJubjub.toAffine(acc)[0];
+    }
+}
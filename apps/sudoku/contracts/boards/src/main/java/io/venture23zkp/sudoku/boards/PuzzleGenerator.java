@@ -0,0 +1,95 @@
+package io.venture23zkp.sudoku.boards;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Generates proper puzzles: a random complete grid, then clues removed in random order
+ * as long as the puzzle keeps exactly one solution. The uniqueness check stops at the
+ * second solution. Every puzzle that comes out is minimal: removing any further clue
+ * would admit another solution.
+ */
+public final class PuzzleGenerator {
+
+    public static final class Puzzle {
+        final int[][] board;
+        final int[][] solution;
+        final int clues;
+        final long difficulty;
+
+        Puzzle(int[][] board, int[][] solution, int clues, long difficulty) {
+            this.board = board;
+            this.solution = solution;
+            this.clues = clues;
+            this.difficulty = difficulty;
+        }
+
+        /**
+         * The puzzle with 0 for empty cells, ready for {@code Board} and {@link BoardIds}.
+         */
+        public int[][] getBoard() {
+            return board;
+        }
+
+        public int[][] getSolution() {
+            return solution;
+        }
+
+        public int getClues() {
+            return clues;
+        }
+
+        /**
+         * Branch points the solver needs to prove the solution unique; 0 means singles
+         * alone solve it.
+         */
+        public long getDifficulty() {
+            return difficulty;
+        }
+    }
+
+    private final SudokuSolver solver = new SudokuSolver();
+    private final SplittableRandom random;
+
+    public PuzzleGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    public Puzzle next() {
+        int[][] solution = solver.solveRandom(new int[9][9], random);
+        int[][] board = new int[9][];
+        for (int i = 0; i < 9; i++) {
+            board[i] = solution[i].clone();
+        }
+        int[] order = new int[81];
+        for (int k = 0; k < 81; k++) {
+            int j = random.nextInt(k + 1);
+            order[k] = order[j];
+            order[j] = k;
+        }
+        int clues = 81;
+        for (int k : order) {
+            int v = board[k / 9][k % 9];
+            board[k / 9][k % 9] = 0;
+            if (solver.countSolutions(board, 2) == 1) {
+                clues--;
+            } else {
+                board[k / 9][k % 9] = v;
+            }
+        }
+        solver.countSolutions(board, 2);
+        return new Puzzle(board, solution, clues, solver.guesses());
+    }
+
+    /**
+     * Generates {@code count} puzzles across the common fork-join pool. Puzzle i depends
+     * only on {@code seed} and i, so the output is the same for any parallelism.
+     */
+    public static List<Puzzle> generate(int count, long seed) {
+        return IntStream.range(0, count).parallel()
+                .mapToObj(i -> new PuzzleGenerator(seed + i * 0x9e3779b97f4a7c15L).next())
+                .collect(Collectors.toList());
+    }
+}
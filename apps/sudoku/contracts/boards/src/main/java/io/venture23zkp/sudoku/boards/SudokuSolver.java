@@ -0,0 +1,221 @@
+package io.venture23zkp.sudoku.boards;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Backtracking solver on bitmask candidate sets. Rows, columns and boxes each keep the
+ * set of digits they hold, so a cell's candidates are one complemented OR. Every node
+ * picks the exact-cover constraint with the fewest options: a cell with a single
+ * candidate, or a digit with a single place left in some row, column or box, and
+ * otherwise the cell with the fewest candidates. A cell without candidates or a digit
+ * without a place fails the branch at once.
+ *
+ * <p>Cells hold 0 for empty and 1-9 otherwise, as in {@code Board}. Instances keep their
+ * search state between calls and are not thread-safe.
+ */
+public final class SudokuSolver {
+    // digits 1-9 as bits 1-9
+    private static final int ALL = 0x3fe;
+
+    private static final int[] ROW = new int[81];
+    private static final int[] COL = new int[81];
+    private static final int[] BOX = new int[81];
+    private static final int[][] UNITS = new int[27][9];
+
+    static {
+        for (int k = 0; k < 81; k++) {
+            int r = k / 9;
+            int c = k % 9;
+            int b = 3 * (r / 3) + c / 3;
+            ROW[k] = r;
+            COL[k] = c;
+            BOX[k] = b;
+            UNITS[r][c] = k;
+            UNITS[9 + c][r] = k;
+            UNITS[18 + b][3 * (r % 3) + c % 3] = k;
+        }
+    }
+
+    private final int[] cells = new int[81];
+    private final int[] rows = new int[9];
+    private final int[] cols = new int[9];
+    private final int[] boxes = new int[9];
+
+    private SplittableRandom random;
+    private int limit;
+    private int solutions;
+    private int[] first;
+    private long guesses;
+
+    /**
+     * Counts the solutions of {@code board}, stopping at {@code limit}. A puzzle is proper
+     * if {@code countSolutions(board, 2) == 1}.
+     */
+    public int countSolutions(int[][] board, int limit) {
+        run(board, limit, null);
+        return solutions;
+    }
+
+    /**
+     * Returns a solution of {@code board}, or null if it has none.
+     */
+    public int[][] solve(int[][] board) {
+        run(board, 1, null);
+        return first == null ? null : toBoard(first);
+    }
+
+    /**
+     * Like {@link #solve}, but tries candidates in random order, so solving the empty
+     * board yields a uniformly shuffled complete grid.
+     */
+    public int[][] solveRandom(int[][] board, SplittableRandom random) {
+        run(board, 1, random);
+        return first == null ? null : toBoard(first);
+    }
+
+    /**
+     * Branch points with more than one option in the last search. A puzzle that
+     * singles alone solve scores 0.
+     */
+    public long guesses() {
+        return guesses;
+    }
+
+    private void run(int[][] board, int limit, SplittableRandom random) {
+        this.limit = limit;
+        this.random = random;
+        this.solutions = 0;
+        this.first = null;
+        this.guesses = 0;
+        Arrays.fill(rows, 0);
+        Arrays.fill(cols, 0);
+        Arrays.fill(boxes, 0);
+        if (board.length != 9) {
+            throw new IllegalArgumentException("SudokuSolver: expected 9 rows");
+        }
+        boolean consistent = true;
+        for (int k = 0; k < 81; k++) {
+            if (board[k / 9].length != 9) {
+                throw new IllegalArgumentException("SudokuSolver: expected 9 columns");
+            }
+            int v = board[k / 9][k % 9];
+            if (v < 0 || v > 9) {
+                throw new IllegalArgumentException("SudokuSolver: invalid cell value " + v);
+            }
+            cells[k] = 0;
+            if (v != 0) {
+                int bit = 1 << v;
+                if ((candidates(k) & bit) == 0) {
+                    consistent = false;
+                }
+                place(k, bit);
+            }
+        }
+        if (consistent) {
+            search();
+        }
+    }
+
+    private int candidates(int k) {
+        return ALL & ~(rows[ROW[k]] | cols[COL[k]] | boxes[BOX[k]]);
+    }
+
+    private void place(int k, int bit) {
+        cells[k] = Integer.numberOfTrailingZeros(bit);
+        rows[ROW[k]] |= bit;
+        cols[COL[k]] |= bit;
+        boxes[BOX[k]] |= bit;
+    }
+
+    private void unplace(int k, int bit) {
+        cells[k] = 0;
+        rows[ROW[k]] &= ~bit;
+        cols[COL[k]] &= ~bit;
+        boxes[BOX[k]] &= ~bit;
+    }
+
+    private void search() {
+        int cell = -1;
+        int options = 0;
+        int count = 10;
+        for (int k = 0; k < 81 && count > 1; k++) {
+            if (cells[k] == 0) {
+                int m = candidates(k);
+                int n = Integer.bitCount(m);
+                if (n < count) {
+                    cell = k;
+                    options = m;
+                    count = n;
+                }
+            }
+        }
+        if (cell < 0) {
+            if (solutions++ == 0) {
+                first = cells.clone();
+            }
+            return;
+        }
+        if (count == 0) {
+            return;
+        }
+        if (count > 1) {
+            // a digit with one place left in a unit is a forced move, one with none a dead end
+            for (int[] unit : UNITS) {
+                int once = 0;
+                int twice = 0;
+                int placed = 0;
+                for (int k : unit) {
+                    if (cells[k] != 0) {
+                        placed |= 1 << cells[k];
+                    } else {
+                        int m = candidates(k);
+                        twice |= once & m;
+                        once |= m;
+                    }
+                }
+                if ((once | placed) != ALL) {
+                    return;
+                }
+                int single = once & ~twice;
+                if (single != 0) {
+                    int bit = Integer.lowestOneBit(single);
+                    for (int k : unit) {
+                        if (cells[k] == 0 && (candidates(k) & bit) != 0) {
+                            cell = k;
+                            break;
+                        }
+                    }
+                    options = bit;
+                    count = 1;
+                    break;
+                }
+            }
+        }
+        if (count > 1) {
+            guesses++;
+        }
+        while (options != 0 && solutions < limit) {
+            int bit = random == null ? Integer.lowestOneBit(options) : randomBit(options);
+            options &= ~bit;
+            place(cell, bit);
+            search();
+            unplace(cell, bit);
+        }
+    }
+
+    private int randomBit(int mask) {
+        for (int skip = random.nextInt(Integer.bitCount(mask)); skip > 0; skip--) {
+            mask &= mask - 1;
+        }
+        return Integer.lowestOneBit(mask);
+    }
+
+    private static int[][] toBoard(int[] cells) {
+        int[][] board = new int[9][9];
+        for (int k = 0; k < 81; k++) {
+            board[k / 9][k % 9] = cells[k];
+        }
+        return board;
+    }
+}
@@ -0,0 +1,133 @@
+package io.venture23zkp.sudoku.boards;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardIdsTest {
+    // the boards and ids hard-coded in Sudoku()
+    private static final int[][][] BOARDS = {
+            {
+                    { 1, 2, 7, 5, 8, 4, 6, 9, 3 },
+                    { 8, 5, 6, 3, 7, 9, 1, 2, 4 },
+                    { 3, 4, 9, 6, 2, 1, 8, 7, 5 },
+                    { 4, 7, 1, 9, 5, 8, 2, 3, 6 },
+                    { 2, 6, 8, 7, 1, 3, 5, 4, 9 },
+                    { 9, 3, 5, 4, 6, 2, 7, 1, 8 },
+                    { 5, 8, 3, 2, 9, 7, 4, 6, 1 },
+                    { 7, 1, 4, 8, 3, 6, 9, 5, 2 },
+                    { 6, 9, 2, 1, 4, 5, 3, 0, 7 }
+            },
+            {
+                    { 0, 2, 7, 5, 0, 4, 0, 0, 0 },
+                    { 0, 0, 0, 3, 7, 0, 0, 0, 4 },
+                    { 3, 0, 0, 0, 0, 0, 8, 0, 0 },
+                    { 4, 7, 0, 9, 5, 8, 0, 3, 6 },
+                    { 2, 6, 8, 7, 1, 0, 0, 4, 9 },
+                    { 0, 0, 0, 0, 0, 2, 0, 1, 8 },
+                    { 0, 8, 3, 0, 9, 0, 4, 0, 0 },
+                    { 7, 1, 0, 0, 0, 0, 9, 0, 2 },
+                    { 0, 0, 0, 0, 0, 5, 0, 0, 7 }
+            },
+            {
+                    { 0, 0, 0, 0, 0, 6, 0, 0, 0 },
+                    { 0, 0, 7, 2, 0, 0, 8, 0, 0 },
+                    { 9, 0, 6, 8, 0, 0, 0, 1, 0 },
+                    { 3, 0, 0, 7, 0, 0, 0, 2, 9 },
+                    { 0, 0, 0, 0, 0, 0, 0, 0, 0 },
+                    { 4, 0, 0, 5, 0, 0, 0, 7, 0 },
+                    { 6, 5, 0, 1, 0, 0, 0, 0, 0 },
+                    { 8, 0, 1, 0, 5, 0, 3, 0, 0 },
+                    { 7, 9, 2, 0, 0, 0, 0, 0, 4 }
+            },
+    };
+    private static final BigInteger[] SHA256_IDS = {
+            new BigInteger("12946702913587076100588339357837874244737833722059782620840121604018902625880"),
+            new BigInteger("3020670305408525277123577460710778495640985416360085275148045460669777933779"),
+            new BigInteger("50213289574608008120354010172600564686142848648930442262797942174114227273539"),
+    };
+    private static final BigInteger[] PEDERSEN_IDS = {
+            new BigInteger("20508280487233337829117787098579484117180647220128235675540805714795266829330"),
+            new BigInteger("4734607875457860383511038714947529190779064469715356965082230943676408289143"),
+            new BigInteger("8152119989451001230856454209031619574707505319220427314377706000948347561614"),
+    };
+
+    @Test
+    void matchesTheBuiltinBoards() {
+        for (int i = 0; i < BOARDS.length; i++) {
+            assertEquals(SHA256_IDS[i], BoardIds.sha256Id(BOARDS[i]));
+            assertEquals(SHA256_IDS[i], BoardIds.sha256Digest(BOARDS[i]).mod(BoardIds.BLS12_381_SCALAR_FIELD));
+            assertEquals(PEDERSEN_IDS[i], BoardIds.pedersenId(BOARDS[i]));
+        }
+        // the second board's digest exceeds the field, and its id is the reduced digest
+        assertNotEquals(SHA256_IDS[1], BoardIds.sha256Digest(BOARDS[1]));
+    }
+
+    private static BigInteger[] mul(BigInteger[] p, BigInteger k) {
+        if (k.signum() < 0) {
+            return mul(BabyJubjub.neg(p), k.negate());
+        }
+        BigInteger[] r = BabyJubjub.IDENTITY;
+        for (int i = k.bitLength() - 1; i >= 0; i--) {
+            r = BabyJubjub.add(r, r);
+            if (k.testBit(i)) {
+                r = BabyJubjub.add(r, p);
+            }
+        }
+        return r;
+    }
+
+    @Test
+    void tablesMatchPlainScalarMultiplication() {
+        for (BigInteger[] base : PedersenBoardHasher.BASES) {
+            assertTrue(BabyJubjub.isOnCurve(base));
+        }
+        int[] nibbles = new int[BoardIds.MESSAGE_NIBBLES];
+        Random rnd = new Random(17);
+        for (int k = 0; k < nibbles.length; k++) {
+            nibbles[k] = rnd.nextInt(16);
+        }
+        // segment scalar: sum over its windows of +-(1 + b0 + 2 b1 + 4 b2) 32^j, b3 the sign
+        BigInteger[] expected = BabyJubjub.IDENTITY;
+        int perSegment = PedersenBoardHasher.WINDOWS_PER_SEGMENT;
+        for (int s = 0; s * perSegment < nibbles.length; s++) {
+            BigInteger scalar = BigInteger.ZERO;
+            for (int j = 0; j < perSegment && s * perSegment + j < nibbles.length; j++) {
+                int v = nibbles[s * perSegment + j];
+                int d = 1 + ((v >> 3) & 1) + 2 * ((v >> 2) & 1) + 4 * ((v >> 1) & 1);
+                scalar = scalar.add(BigInteger.valueOf((v & 1) == 0 ? d : -d).shiftLeft(5 * j));
+            }
+            expected = BabyJubjub.add(expected, mul(PedersenBoardHasher.BASES[s], scalar));
+        }
+        assertEquals(expected[0], new PedersenBoardHasher(nibbles.length).hash(nibbles));
+    }
+
+    @Test
+    void computesInParallel() {
+        Random rnd = new Random(1);
+        int[][][] boards = new int[64][9][9];
+        for (int[][] board : boards) {
+            for (int[] row : board) {
+                for (int j = 0; j < 9; j++) {
+                    row[j] = rnd.nextInt(10);
+                }
+            }
+        }
+        BigInteger[][] ids = BoardIds.computeAll(boards);
+        for (int i = 0; i < boards.length; i++) {
+            assertEquals(BoardIds.sha256Id(boards[i]), ids[i][0]);
+            assertEquals(BoardIds.pedersenId(boards[i]), ids[i][1]);
+        }
+    }
+
+    @Test
+    void rejectsInvalidCells() {
+        int[][] board = new int[9][9];
+        board[4][4] = 10;
+        assertThrows(IllegalArgumentException.class, () -> BoardIds.pedersenId(board));
+        assertThrows(IllegalArgumentException.class, () -> BoardIds.sha256Id(new int[8][9]));
+    }
+}
@@ -0,0 +1,132 @@
+package io.venture23zkp.sudoku.boards;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PuzzleGeneratorTest {
+    private static final int[][] HARD = {
+            { 8, 0, 0, 0, 0, 0, 0, 0, 0 },
+            { 0, 0, 3, 6, 0, 0, 0, 0, 0 },
+            { 0, 7, 0, 0, 9, 0, 2, 0, 0 },
+            { 0, 5, 0, 0, 0, 7, 0, 0, 0 },
+            { 0, 0, 0, 0, 4, 5, 7, 0, 0 },
+            { 0, 0, 0, 1, 0, 0, 0, 3, 0 },
+            { 0, 0, 1, 0, 0, 0, 0, 6, 8 },
+            { 0, 0, 8, 5, 0, 0, 0, 1, 0 },
+            { 0, 9, 0, 0, 0, 0, 4, 0, 0 }
+    };
+
+    private static void assertComplete(int[][] grid) {
+        for (int i = 0; i < 9; i++) {
+            int row = 0;
+            int col = 0;
+            int box = 0;
+            for (int j = 0; j < 9; j++) {
+                row |= 1 << grid[i][j];
+                col |= 1 << grid[j][i];
+                box |= 1 << grid[3 * (i / 3) + j / 3][3 * (i % 3) + j % 3];
+            }
+            assertEquals(0x3fe, row, "row " + i);
+            assertEquals(0x3fe, col, "column " + i);
+            assertEquals(0x3fe, box, "box " + i);
+        }
+    }
+
+    private static void assertExtends(int[][] puzzle, int[][] solution) {
+        for (int k = 0; k < 81; k++) {
+            int v = puzzle[k / 9][k % 9];
+            assertTrue(v == 0 || v == solution[k / 9][k % 9], "clue " + k);
+        }
+    }
+
+    @Test
+    void solvesAndCountsSolutions() {
+        SudokuSolver solver = new SudokuSolver();
+        int[][] solution = solver.solve(HARD);
+        assertNotNull(solution);
+        assertComplete(solution);
+        assertExtends(HARD, solution);
+        assertEquals(1, solver.countSolutions(HARD, 2));
+        assertTrue(solver.guesses() > 0);
+
+        // stops at the limit
+        assertEquals(2, solver.countSolutions(new int[9][9], 2));
+        int[][] twoWays = new int[9][];
+        for (int i = 0; i < 9; i++) {
+            twoWays[i] = solution[i].clone();
+        }
+        // swapping digits on a rectangle of cells in two boxes leaves another solution
+        int[][] open = findDeadlyPattern(solution);
+        assertNotNull(open);
+        for (int[] cell : open) {
+            twoWays[cell[0]][cell[1]] = 0;
+        }
+        assertEquals(2, solver.countSolutions(twoWays, 10));
+
+        int[][] clash = new int[9][9];
+        clash[0][0] = 5;
+        clash[8][0] = 5;
+        assertEquals(0, solver.countSolutions(clash, 2));
+        assertNull(solver.solve(clash));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(new int[][] { { 10 } }));
+    }
+
+    // cells (r1,c1),(r1,c2),(r2,c1),(r2,c2) in two boxes holding only two digits
+    private static int[][] findDeadlyPattern(int[][] s) {
+        for (int r1 = 0; r1 < 9; r1++) {
+            for (int r2 = r1 + 1; r2 < 9; r2++) {
+                for (int c1 = 0; c1 < 9; c1++) {
+                    for (int c2 = c1 + 1; c2 < 9; c2++) {
+                        boolean twoBoxes = (r1 / 3 == r2 / 3) != (c1 / 3 == c2 / 3);
+                        if (twoBoxes && s[r1][c1] == s[r2][c2] && s[r1][c2] == s[r2][c1]) {
+                            return new int[][] { { r1, c1 }, { r1, c2 }, { r2, c1 }, { r2, c2 } };
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    @Test
+    void generatedPuzzlesAreProperAndMinimal() {
+        SudokuSolver solver = new SudokuSolver();
+        List<PuzzleGenerator.Puzzle> puzzles = PuzzleGenerator.generate(8, 42);
+        for (PuzzleGenerator.Puzzle p : puzzles) {
+            int[][] board = p.getBoard();
+            assertComplete(p.getSolution());
+            assertExtends(board, p.getSolution());
+            assertEquals(1, solver.countSolutions(board, 2));
+            int clues = 0;
+            for (int k = 0; k < 81; k++) {
+                int v = board[k / 9][k % 9];
+                if (v == 0) {
+                    continue;
+                }
+                clues++;
+                board[k / 9][k % 9] = 0;
+                assertEquals(2, solver.countSolutions(board, 2), "clue " + k + " is redundant");
+                board[k / 9][k % 9] = v;
+            }
+            assertEquals(clues, p.getClues());
+            assertTrue(clues >= 17 && clues < 40, "clues " + clues);
+            // the board feeds straight into the id calculator
+            assertNotNull(BoardIds.pedersenId(board));
+        }
+    }
+
+    @Test
+    void generationDependsOnlyOnTheSeed() {
+        List<PuzzleGenerator.Puzzle> first = PuzzleGenerator.generate(4, 7);
+        List<PuzzleGenerator.Puzzle> second = PuzzleGenerator.generate(4, 7);
+        for (int i = 0; i < 4; i++) {
+            assertArrayEquals(first.get(i).getBoard(), second.get(i).getBoard());
+            assertEquals(first.get(i).getDifficulty(), second.get(i).getDifficulty());
+        }
+        assertFalse(Arrays.deepEquals(first.get(0).getBoard(), first.get(1).getBoard()));
+    }
+}
@@ -0,0 +1,236 @@
+package io.venture23zkp.sudoku.codegen;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns a snarkjs {@code verification_key.json} into a Groth16 verifier class. The key is
+ * emitted in its {@code VerifyingKey.encode()} form, whose points already have the
+ * fixed-width layout ecPairingCheck takes, as a string constant with one char per byte.
+ * A string lives in the class constant pool at one to two bytes per byte, where a byte[]
+ * initializer would cost several bytecode instructions per element.
+ */
+public final class VerifierGenerator {
+    // VerifyingKey.FORMAT_VERSION
+    private static final int FORMAT_VERSION = 1;
+
+    private static final class CurveInfo {
+        final int id;
+        final String constant;
+        final int fieldSize;
+
+        CurveInfo(int id, String constant, int fieldSize) {
+            this.id = id;
+            this.constant = constant;
+            this.fieldSize = fieldSize;
+        }
+    }
+
+    private VerifierGenerator() {
+    }
+
+    // the key's curve field picks Curve.id, the Curve constant and the coordinate width
+    private static CurveInfo curve(String name) {
+        switch (name) {
+            case "bn128":
+            case "bn254":
+            case "alt_bn128":
+                return new CurveInfo(0, "BN128", 32);
+            case "bls12381":
+            case "bls12-381":
+                return new CurveInfo(1, "BLS12_381", 48);
+            default:
+                throw new IllegalArgumentException("unsupported curve " + name);
+        }
+    }
+
+    /**
+     * @param json       the verification_key.json contents
+     * @param pkg        package of the generated class
+     * @param className  name of the generated class
+     * @param source     where the key came from, for the header comment
+     */
+    public static String generate(String json, String pkg, String className, String source) {
+        Map<?, ?> vk = (Map<?, ?>) new Json(json).value();
+        require("groth16".equals(vk.get("protocol")), "protocol must be groth16");
+        String curveName = (String) vk.get("curve");
+        CurveInfo curve = curve(curveName);
+        List<?> ic = (List<?>) vk.get("IC");
+        int nPublic = ic.size() - 1;
+        if (vk.get("nPublic") != null) {
+            require(new BigInteger(vk.get("nPublic").toString()).intValue() == nPublic, "nPublic does not match IC");
+        }
+        require(nPublic >= 0 && nPublic < 0x10000, "bad IC length");
+
+        int w = curve.fieldSize;
+        byte[] buf = new byte[4 + (2 + nPublic) * 2 * w + 3 * 4 * w];
+        buf[0] = FORMAT_VERSION;
+        buf[1] = (byte) curve.id;
+        buf[2] = (byte) (nPublic >>> 8);
+        buf[3] = (byte) nPublic;
+        int offset = 4;
+        offset = writeG1(buf, offset, w, vk.get("vk_alpha_1"));
+        offset = writeG2(buf, offset, w, vk.get("vk_beta_2"));
+        offset = writeG2(buf, offset, w, vk.get("vk_gamma_2"));
+        offset = writeG2(buf, offset, w, vk.get("vk_delta_2"));
+        for (Object p : ic) {
+            offset = writeG1(buf, offset, w, p);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("// Generated from ").append(source).append(" by :contracts:generateVerifiers. Do not edit.\n");
+        sb.append("package ").append(pkg).append(";\n\n");
+        sb.append("public class ").append(className).append(" extends Groth16Verifier {\n");
+        sb.append("    static final String curve = \"").append(curveName).append("\";\n");
+        sb.append("    static final int nPublic = ").append(nPublic).append(";\n\n");
+        sb.append("    // VerifyingKey.encode() of the ").append(curve.constant).append(" key, one char per byte\n");
+        sb.append("    private static final String ENCODED_KEY =");
+        // the header on the first line, then one G1 point or half a G2 point per line
+        for (int i = 0; i < buf.length; i = i == 0 ? 4 : i + 2 * w) {
+            sb.append(i == 0 ? "\n            \"" : "\n            + \"");
+            for (int j = i; j < (i == 0 ? 4 : i + 2 * w); j++) {
+                int b = buf[j] & 0xff;
+                if (b >= 0x20 && b < 0x7f && b != '"' && b != '\\') {
+                    sb.append((char) b);
+                } else {
+                    // octal, not \\u: unicode escapes are resolved before the literal is lexed
+                    sb.append('\\').append((char) ('0' + (b >> 6))).append((char) ('0' + ((b >> 3) & 7)))
+                            .append((char) ('0' + (b & 7)));
+                }
+            }
+            sb.append('"');
+        }
+        sb.append(";\n\n");
+        sb.append("    private static VerifyingKey verifyingKey;\n\n");
+        sb.append("    public ").append(className).append("() {\n");
+        sb.append("        super(builtinVerifyingKey());\n");
+        sb.append("    }\n\n");
+        sb.append("    public ").append(className).append("(CurveOps ops) {\n");
+        sb.append("        super(builtinVerifyingKey(), ops);\n");
+        sb.append("    }\n\n");
+        sb.append("    static VerifyingKey builtinVerifyingKey() {\n");
+        sb.append("        if (verifyingKey == null) {\n");
+        sb.append("            verifyingKey = buildVerifyingKey();\n");
+        sb.append("        }\n");
+        sb.append("        return verifyingKey;\n");
+        sb.append("    }\n\n");
+        sb.append("    private static VerifyingKey buildVerifyingKey() {\n");
+        sb.append("        return VerifyingKey.decodeConstant(ENCODED_KEY);\n");
+        sb.append("    }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    // snarkjs writes affine points as projective [x, y, 1]
+    private static int writeG1(byte[] buf, int offset, int w, Object point) {
+        List<?> p = (List<?>) point;
+        require(p != null && p.size() >= 2, "bad G1 point");
+        offset = writeFixed(buf, offset, w, p.get(0));
+        return writeFixed(buf, offset, w, p.get(1));
+    }
+
+    // [[x_re, x_im], [y_re, y_im], [1, 0]] becomes x_im | x_re | y_im | y_re
+    private static int writeG2(byte[] buf, int offset, int w, Object point) {
+        List<?> p = (List<?>) point;
+        require(p != null && p.size() >= 2, "bad G2 point");
+        for (int i = 0; i < 2; i++) {
+            List<?> c = (List<?>) p.get(i);
+            offset = writeFixed(buf, offset, w, c.get(1));
+            offset = writeFixed(buf, offset, w, c.get(0));
+        }
+        return offset;
+    }
+
+    private static int writeFixed(byte[] buf, int offset, int w, Object value) {
+        BigInteger v = new BigInteger(value.toString());
+        require(v.signum() >= 0 && v.bitLength() <= 8 * w, "coordinate does not fit in " + w + " bytes");
+        byte[] b = v.toByteArray();
+        int len = Math.min(b.length, w);
+        System.arraycopy(b, b.length - len, buf, offset + w - len, len);
+        return offset + w;
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException("verification key: " + message);
+        }
+    }
+
+    // just enough JSON for a verification key: objects, arrays, strings and numbers as text
+    private static final class Json {
+        private final String s;
+        private int pos;
+
+        Json(String s) {
+            this.s = s;
+        }
+
+        Object value() {
+            skipWhitespace();
+            require(pos < s.length(), "unexpected end of input");
+            char ch = s.charAt(pos);
+            if (ch == '{') {
+                Map<String, Object> map = new LinkedHashMap<>();
+                pos++;
+                if (!consume('}')) {
+                    do {
+                        skipWhitespace();
+                        String key = string();
+                        skipWhitespace();
+                        require(consume(':'), "expected ':' at " + pos);
+                        map.put(key, value());
+                    } while (consume(','));
+                    require(consume('}'), "expected '}' at " + pos);
+                }
+                return map;
+            }
+            if (ch == '[') {
+                List<Object> list = new ArrayList<>();
+                pos++;
+                if (!consume(']')) {
+                    do {
+                        list.add(value());
+                    } while (consume(','));
+                    require(consume(']'), "expected ']' at " + pos);
+                }
+                return list;
+            }
+            if (ch == '"') {
+                return string();
+            }
+            int start = pos;
+            while (pos < s.length() && ",]} \t\r\n".indexOf(s.charAt(pos)) < 0) {
+                pos++;
+            }
+            require(pos > start, "unexpected '" + ch + "' at " + pos);
+            return s.substring(start, pos);
+        }
+
+        private String string() {
+            require(pos < s.length() && s.charAt(pos) == '"', "expected a string at " + pos);
+            int end = s.indexOf('"', pos + 1);
+            require(end > 0, "unterminated string");
+            String value = s.substring(pos + 1, end);
+            pos = end + 1;
+            return value;
+        }
+
+        private boolean consume(char ch) {
+            skipWhitespace();
+            if (pos < s.length() && s.charAt(pos) == ch) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) {
+                pos++;
+            }
+        }
+    }
+}
@@ -7,9 +7,16 @@ import score.ObjectWriter;
 
 public class Board {
 
+    // compact layout: version | sha256Id | pedersenId | cells, two 4-bit cells per byte, row-major
+    static final int FORMAT_VERSION = 1;
+    static final int ID_SIZE = 32; // bytes
+    static final int CELLS_SIZE = 41; // bytes, 81 cells rounded up
+    static final int ENCODED_SIZE = 1 + 2 * ID_SIZE + CELLS_SIZE;
+
     private final BigInteger sha256Id;
     private final BigInteger pedersenId;
-    private final int[][] data;
+    private byte[] cells;
+    private int[][] data;
 
     Board(BigInteger sha256Id, BigInteger pedersenId, int[][] data) {
         this.sha256Id = sha256Id;
@@ -17,6 +24,12 @@ public class Board {
         this.data = data;
     }
 
+    private Board(BigInteger sha256Id, BigInteger pedersenId, byte[] cells) {
+        this.sha256Id = sha256Id;
+        this.pedersenId = pedersenId;
+        this.cells = cells;
+    }
+
     public BigInteger getSha256Id() {
         return sha256Id;
     }
@@ -26,6 +39,9 @@ public class Board {
     }
 
     public int[][] getData() {
+        if (this.data == null) {
+            this.data = unpackCells(this.cells);
+        }
         return this.data;
     }
 
@@ -34,20 +50,26 @@ public class Board {
     }
 
     public void writeObject(ObjectWriter w) {
-        w.beginList(81+2);
-        w.write(sha256Id);
-        w.write(pedersenId);
-        for (int i = 0; i < 9; i++) {
-            for (int j = 0; j < 9; j++) {
-                w.write(this.data[i][j]);
-            }
-        }
+        w.beginList(1);
+        w.write(encode());
         w.end();
     }
 
     public static Board readObject(ObjectReader r) {
         r.beginList();
-        BigInteger sha256Id = r.readBigInteger();
+        byte[] first = r.readByteArray();
+        Board board;
+        if (r.hasNext()) {
+            board = readLegacy(first, r);
+        } else {
+            board = decode(first);
+        }
+        r.end();
+        return board;
+    }
+
+    // list of sha256Id, pedersenId and the 81 cells, as written before the compact format
+    private static Board readLegacy(byte[] sha256Id, ObjectReader r) {
         BigInteger pedersenId = r.readBigInteger();
         int[][] data = new int[9][9];
         for (int i = 0; i < 9; i++) {
@@ -55,7 +77,107 @@ public class Board {
                 data[i][j] = r.readInt();
             }
         }
-        r.end();
-        return new Board(sha256Id, pedersenId, data);
+        return new Board(new BigInteger(sha256Id), pedersenId, data);
+    }
+
+    public byte[] encode() {
+        byte[] buf = new byte[ENCODED_SIZE];
+        buf[0] = FORMAT_VERSION;
+        writeId(sha256Id, buf, 1);
+        writeId(pedersenId, buf, 1 + ID_SIZE);
+        byte[] packed = this.cells != null ? this.cells : packCells(this.data);
+        System.arraycopy(packed, 0, buf, 1 + 2 * ID_SIZE, CELLS_SIZE);
+        return buf;
+    }
+
+    public static Board decode(byte[] buf) {
+        if (buf.length != ENCODED_SIZE) {
+            throw new IllegalArgumentException("Board.decode: invalid data layout!");
+        }
+        return decode(buf, 0);
+    }
+
+    /**
+     * Decodes the {@link #ENCODED_SIZE} bytes at {@code buf[offset]}.
+     */
+    static Board decode(byte[] buf, int offset) {
+        if (offset < 0 || buf.length - offset < ENCODED_SIZE || buf[offset] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Board.decode: invalid data layout!");
+        }
+        byte[] cells = new byte[CELLS_SIZE];
+        System.arraycopy(buf, offset + 1 + 2 * ID_SIZE, cells, 0, CELLS_SIZE);
+        return new Board(readId(buf, offset + 1), readId(buf, offset + 1 + ID_SIZE), cells);
+    }
+
+    /**
+     * Checks that every cell is empty (0) or a digit, that the padding nibble is clear
+     * and that no row, column or box repeats a digit.
+     */
+    void validate() {
+        if (this.cells != null && (this.cells[CELLS_SIZE - 1] & 0xf) != 0) {
+            throw new IllegalArgumentException("Board: padding nibble is not zero");
+        }
+        int[][] data = getData();
+        int[] rows = new int[9];
+        int[] cols = new int[9];
+        int[] boxes = new int[9];
+        for (int i = 0; i < 9; i++) {
+            for (int j = 0; j < 9; j++) {
+                int v = data[i][j];
+                if (v < 0 || v > 9) {
+                    throw new IllegalArgumentException("Board: invalid cell value " + v);
+                }
+                if (v == 0) {
+                    continue;
+                }
+                int bit = 1 << v;
+                int box = 3 * (i / 3) + j / 3;
+                if (((rows[i] | cols[j] | boxes[box]) & bit) != 0) {
+                    throw new IllegalArgumentException("Board: digit " + v + " repeats at " + i + "," + j);
+                }
+                rows[i] |= bit;
+                cols[j] |= bit;
+                boxes[box] |= bit;
+            }
+        }
+    }
+
+    static byte[] packCells(int[][] data) {
+        byte[] packed = new byte[CELLS_SIZE];
+        for (int i = 0; i < 9; i++) {
+            for (int j = 0; j < 9; j++) {
+                int v = data[i][j];
+                if (v < 0 || v > 9) {
+                    throw new IllegalArgumentException("Board: invalid cell value " + v);
+                }
+                int k = 9 * i + j;
+                packed[k >> 1] |= (k & 1) == 0 ? v << 4 : v;
+            }
+        }
+        return packed;
+    }
+
+    static int[][] unpackCells(byte[] packed) {
+        int[][] data = new int[9][9];
+        for (int k = 0; k < 81; k++) {
+            int b = packed[k >> 1];
+            data[k / 9][k % 9] = (k & 1) == 0 ? (b >> 4) & 0xf : b & 0xf;
+        }
+        return data;
+    }
+
+    private static void writeId(BigInteger id, byte[] buf, int offset) {
+        if (id.signum() < 0 || id.bitLength() > 8 * ID_SIZE) {
+            throw new IllegalArgumentException("Board: id does not fit in " + ID_SIZE + " bytes");
+        }
+        byte[] b = id.toByteArray();
+        int len = Math.min(b.length, ID_SIZE);
+        System.arraycopy(b, b.length - len, buf, offset + ID_SIZE - len, len);
+    }
+
+    private static BigInteger readId(byte[] buf, int offset) {
+        byte[] b = new byte[ID_SIZE];
+        System.arraycopy(buf, offset, b, 0, ID_SIZE);
+        return new BigInteger(1, b);
     }
 }
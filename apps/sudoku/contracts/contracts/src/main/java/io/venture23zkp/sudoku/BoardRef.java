@@ -0,0 +1,66 @@
+package io.venture23zkp.sudoku;
+
+import score.ObjectReader;
+import score.ObjectWriter;
+
+/**
+ * Index entry pointing from a board id to the board it belongs to and the curve
+ * whose circuit produced that id. It also keeps the prepared public input vk_x
+ * for that id, since the board id is the circuit's only public input, together with
+ * the version of the verifying key it was prepared with.
+ */
+public class BoardRef {
+
+    public static final int CURVE_BN128 = 0;
+    public static final int CURVE_BLS12381 = 1;
+
+    private final int index;
+    private final int curve;
+    private final byte[] preparedInput;
+    private final int keyVersion;
+
+    BoardRef(int index, int curve, byte[] preparedInput, int keyVersion) {
+        this.index = index;
+        this.curve = curve;
+        this.preparedInput = preparedInput;
+        this.keyVersion = keyVersion;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getCurve() {
+        return curve;
+    }
+
+    /**
+     * Returns the encoded vk_x for this id, or null if it could not be prepared.
+     */
+    public byte[] getPreparedInput() {
+        return preparedInput;
+    }
+
+    public int getKeyVersion() {
+        return keyVersion;
+    }
+
+    public static void writeObject(ObjectWriter w, BoardRef r) {
+        w.beginList(4);
+        w.write(r.index);
+        w.write(r.curve);
+        w.writeNullable(r.preparedInput);
+        w.write(r.keyVersion);
+        w.end();
+    }
+
+    public static BoardRef readObject(ObjectReader r) {
+        r.beginList();
+        int index = r.readInt();
+        int curve = r.readInt();
+        byte[] preparedInput = r.hasNext() ? r.readNullable(byte[].class) : null;
+        int keyVersion = r.hasNext() ? r.readInt() : 0;
+        r.end();
+        return new BoardRef(index, curve, preparedInput, keyVersion);
+    }
+}
@@ -0,0 +1,31 @@
+package io.venture23zkp.sudoku;
+
+import score.Context;
+
+public final class ContextCurveOps implements CurveOps {
+
+    public static final ContextCurveOps INSTANCE = new ContextCurveOps();
+
+    private ContextCurveOps() {
+    }
+
+    @Override
+    public byte[] ecAdd(String curve, byte[] data, boolean compressed) {
+        return Context.ecAdd(curve, data, compressed);
+    }
+
+    @Override
+    public byte[] ecScalarMul(String curve, byte[] scalar, byte[] data, boolean compressed) {
+        return Context.ecScalarMul(curve, scalar, data, compressed);
+    }
+
+    @Override
+    public boolean ecPairingCheck(String curve, byte[] data, boolean compressed) {
+        return Context.ecPairingCheck(curve, data, compressed);
+    }
+
+    @Override
+    public byte[] hash(String algorithm, byte[] msg) {
+        return Context.hash(algorithm, msg);
+    }
+}
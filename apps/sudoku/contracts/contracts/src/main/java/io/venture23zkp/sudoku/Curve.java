@@ -0,0 +1,120 @@
+package io.venture23zkp.sudoku;
+
+import java.math.BigInteger;
+
+/**
+ * Pairing-friendly curve parameters as used by the {@code Context} EC operations.
+ * G2 coordinates are encoded imaginary part first: (x0 * i + x1, y0 * i + y1).
+ */
+public final class Curve {
+
+    // the point at infinity in BLS12-381 has the 0x40 flag set in its first byte
+    private static final BigInteger BLS12381_INFINITY_FLAG = BigInteger.ONE.shiftLeft(8 * 48 - 2);
+
+    public static final Curve BN128 = new Curve(
+            0,
+            "bn128",
+            "bn128",
+            "bn128-g1",
+            "bn128-g2",
+            new BigInteger("21888242871839275222246405745257275088696311157297823662689037894645226208583"),
+            new BigInteger("21888242871839275222246405745257275088548364400416034343698204186575808495617"),
+            32,
+            BigInteger.valueOf(3),
+            new BigInteger[] {
+                    new BigInteger("19485874751759354771024239261021720505790618469301721065564631296452457478373"),
+                    new BigInteger("266929791119991161246907387137283842545076965332900288569378510910307636690") },
+            new BigInteger[] { BigInteger.ZERO, BigInteger.ZERO },
+            new BigInteger[] { BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO },
+            new BigInteger[] { BigInteger.ONE, BigInteger.valueOf(2) },
+            new BigInteger[] {
+                    new BigInteger("11559732032986387107991004021392285783925812861821192530917403151452391805634"),
+                    new BigInteger("10857046999023057135944570762232829481370756359578518086990519993285655852781"),
+                    new BigInteger("4082367875863433681332203403145435568316851327593401208105741076214120093531"),
+                    new BigInteger("8495653923123431417604973247489272438418190587263600148770280649306958101930") });
+
+    public static final Curve BLS12_381 = new Curve(
+            1,
+            "bls12381",
+            "bls12-381",
+            "bls12-381-g1",
+            "bls12-381-g2",
+            new BigInteger("4002409555221667393417789825735904156556882819939007885332058136124031650490837864442687629129015664037894272559787"),
+            new BigInteger("52435875175126190479447740508185965837690552500527637822603658699938581184513"),
+            48,
+            BigInteger.valueOf(4),
+            new BigInteger[] { BigInteger.valueOf(4), BigInteger.valueOf(4) },
+            new BigInteger[] { BLS12381_INFINITY_FLAG, BigInteger.ZERO },
+            new BigInteger[] { BLS12381_INFINITY_FLAG, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO },
+            new BigInteger[] {
+                    new BigInteger("3685416753713387016781088315183077757961620795782546409894578378688607592378376318836054947676345821548104185464507"),
+                    new BigInteger("1339506544944476473020471379941921221584933875938349620426543736416511423956333506472724655353366534992391756441569") },
+            new BigInteger[] {
+                    new BigInteger("3059144344244213709971259814753781636986470325476647558659373206291635324768958432433509563104347017837885763365758"),
+                    new BigInteger("352701069587466618187139116011060144890029952792775240219908644239793785735715026873347600343865175952761926303160"),
+                    new BigInteger("927553665492332455747201965776037880757740193453592970025027978793976877002675564980949289727957565575433344219582"),
+                    new BigInteger("1985150602287291935568054521177171638300868978215655730859378665066344726373823718423869104263333984641494340347905") });
+
+    final int id;
+    final String name; // as in verification_key.json
+    final String curveName;
+    final String g1CurveName;
+    final String g2CurveName;
+    final BigInteger baseField;
+    final byte[] baseFieldBytes; // baseField at baseFieldSize bytes
+    final BigInteger scalarField;
+    final int baseFieldSize; // bytes
+    final int g1Size;
+    final int g2Size;
+    final int pairSize;
+    // y^2 = x^3 + g1B on G1 and y^2 = x^3 + g2B on the twist, g2B given as (real, imaginary)
+    final BigInteger g1B;
+    final BigInteger[] g2B;
+    final BigInteger[] g1Zero;
+    final BigInteger[] g2Zero;
+    final BigInteger[] g1Generator;
+    final BigInteger[] g2Generator;
+
+    private Curve(int id, String name, String curveName, String g1CurveName, String g2CurveName,
+                  BigInteger baseField, BigInteger scalarField, int baseFieldSize,
+                  BigInteger g1B, BigInteger[] g2B, BigInteger[] g1Zero, BigInteger[] g2Zero,
+                  BigInteger[] g1Generator, BigInteger[] g2Generator) {
+        this.id = id;
+        this.name = name;
+        this.curveName = curveName;
+        this.g1CurveName = g1CurveName;
+        this.g2CurveName = g2CurveName;
+        this.baseField = baseField;
+        this.scalarField = scalarField;
+        this.baseFieldSize = baseFieldSize;
+        this.baseFieldBytes = new byte[baseFieldSize];
+        PointCodec.writeFixed(baseField, this.baseFieldBytes, 0, baseFieldSize);
+        this.g1Size = 2 * baseFieldSize;
+        this.g2Size = 4 * baseFieldSize;
+        this.pairSize = this.g1Size + this.g2Size;
+        this.g1B = g1B;
+        this.g2B = g2B;
+        this.g1Zero = g1Zero;
+        this.g2Zero = g2Zero;
+        this.g1Generator = g1Generator;
+        this.g2Generator = g2Generator;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static Curve byId(int id) {
+        if (id == BN128.id) {
+            return BN128;
+        }
+        if (id == BLS12_381.id) {
+            return BLS12_381;
+        }
+        throw new IllegalArgumentException("Curve: unknown curve id " + id);
+    }
+}
@@ -0,0 +1,20 @@
+package io.venture23zkp.sudoku;
+
+/**
+ * The elliptic curve operations the verifiers need, with the same curve names and byte
+ * encodings as {@code score.Context}. On chain they are backed by {@link ContextCurveOps};
+ * off chain any implementation of the same operations can be plugged in.
+ */
+public interface CurveOps {
+
+    byte[] ecAdd(String curve, byte[] data, boolean compressed);
+
+    byte[] ecScalarMul(String curve, byte[] scalar, byte[] data, boolean compressed);
+
+    boolean ecPairingCheck(String curve, byte[] data, boolean compressed);
+
+    /**
+     * Hash used for the batch verification transcript, with {@code Context.hash} names.
+     */
+    byte[] hash(String algorithm, byte[] msg);
+}
@@ -0,0 +1,307 @@
+package io.venture23zkp.sudoku;
+
+import score.annotation.External;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+
+public class Groth16Verifier {
+    static final String protocol = "groth16";
+
+    // public so that off-chain callers can validate a proof once and then verify it
+    public static class Proof {
+        P1 A;
+        P2 B;
+        P1 C;
+    }
+
+    private final VerifyingKey vk;
+    private final CurveOps ops;
+
+    public Groth16Verifier(VerifyingKey vk) {
+        this(vk, ContextCurveOps.INSTANCE);
+    }
+
+    public Groth16Verifier(VerifyingKey vk, CurveOps ops) {
+        this.vk = vk;
+        this.ops = ops;
+    }
+
+    // thrown rather than require() so the engine behaves the same off chain
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    public VerifyingKey verifyingKey() {
+        return vk;
+    }
+
+    public Curve curve() {
+        return vk.curve;
+    }
+
+    /**
+     * Builds a proof from its coordinates without validating them; callers that pass it to
+     * {@link #verifyPrepared} or {@link #verifyBatch} run {@link #checkProof} first.
+     */
+    public Proof proof(BigInteger[] a, BigInteger[][] b, BigInteger[] c) {
+        Curve curve = vk.curve;
+        Proof proof = new Proof();
+        proof.A = new P1(curve, a[0], a[1]);
+        proof.B = new P2(curve, b[0][0], b[0][1], b[1][0], b[1][1]);
+        proof.C = new P1(curve, c[0], c[1]);
+        return proof;
+    }
+
+    public boolean verify(BigInteger[] input, Proof proof) {
+        require(input.length == vk.nPublic(), "verifier-bad-input");
+        for (int i = 0; i < input.length; i++) {
+            require(input[i].signum() >= 0, "verifier-negative-input");
+            require(input[i].compareTo(vk.curve.scalarField) < 0, "verifier-gte-snark-scalar-field");
+        }
+        return verifyPrepared(prepareInputs(input), proof);
+    }
+
+    /**
+     * Computes the linear combination vk_x = IC[0] + sum(IC[i + 1] * input[i]) in its
+     * pairing encoding, so callers with fixed public inputs can compute it once and
+     * pass it to {@link #verifyPrepared}. Returns null if the input does not fit the key.
+     */
+    public byte[] prepareInputs(BigInteger[] input) {
+        if (input.length != vk.nPublic()) {
+            return null;
+        }
+        P1 vk_x = new P1(vk.curve);
+        for (int i = 0; i < input.length; i++) {
+            if (input[i].signum() < 0 || input[i].compareTo(vk.curve.scalarField) >= 0) {
+                return null;
+            }
+            vk_x = vk_x.add(ops, vk.IC[i + 1].scalarMul(ops, input[i]));
+        }
+        vk_x = vk_x.add(ops, vk.IC[0]);
+        return vk_x.bytes();
+    }
+
+    public boolean verifyPrepared(byte[] preparedInput, Proof proof) {
+        require(preparedInput.length == vk.curve.g1Size, "verifier-bad-input");
+        return ops.ecPairingCheck(vk.curve.curveName, pairingInput(preparedInput, proof), false);
+    }
+
+    // (-A, B), (alfa1, beta2), (vk_x, gamma2), (C, delta2) in one buffer
+    private byte[] pairingInput(byte[] preparedInput, Proof proof) {
+        Curve curve = vk.curve;
+        byte[] data = pairingTemplate(preparedInput);
+        proof.A.neg().writeTo(data, 0);
+        proof.B.writeTo(data, curve.g1Size);
+        proof.C.writeTo(data, 3 * curve.pairSize);
+        return data;
+    }
+
+    // the same buffer with the proof copied from its raw layout; only y of A is rewritten
+    private byte[] pairingInput(byte[] preparedInput, byte[] proof, int offset) {
+        Curve curve = vk.curve;
+        int size = curve.baseFieldSize;
+        int g1 = curve.g1Size;
+        byte[] data = pairingTemplate(preparedInput);
+        System.arraycopy(proof, offset, data, 0, size);
+        PointCodec.writeNegated(curve.baseFieldBytes, proof, offset + size, data, size, size);
+        System.arraycopy(proof, offset + g1, data, g1, curve.g2Size);
+        System.arraycopy(proof, offset + g1 + curve.g2Size, data, 3 * curve.pairSize, g1);
+        return data;
+    }
+
+    private byte[] pairingTemplate(byte[] preparedInput) {
+        Curve curve = vk.curve;
+        int g1 = curve.g1Size;
+        int g2 = curve.g2Size;
+        int pair = curve.pairSize;
+        byte[] data = new byte[4 * pair];
+        System.arraycopy(vk.alfa1Bytes, 0, data, pair, g1);
+        System.arraycopy(vk.beta2Bytes, 0, data, pair + g1, g2);
+        System.arraycopy(preparedInput, 0, data, 2 * pair, g1);
+        System.arraycopy(vk.gamma2Bytes, 0, data, 2 * pair + g1, g2);
+        System.arraycopy(vk.delta2Bytes, 0, data, 3 * pair + g1, g2);
+        return data;
+    }
+
+    /**
+     * Size of a proof in the raw layout A | B | C: every coordinate big-endian at the
+     * curve's field width, B imaginary part first, which is how the points sit in the
+     * pairing input.
+     */
+    public static int rawProofSize(Curve curve) {
+        return 2 * curve.g1Size + curve.g2Size;
+    }
+
+    /**
+     * {@link #verifyProof} for a raw proof from {@code proof[offset]} to the end of the
+     * array. The coordinates are read for validation only; the pairing input is copied
+     * from the proof bytes.
+     */
+    public boolean verifyRaw(byte[] proof, int offset, BigInteger[] input) {
+        if (ProofValidator.validateRaw(vk, proof, offset, input) != ProofValidator.OK) {
+            return false;
+        }
+        byte[] preparedInput = prepareInputs(input);
+        return ops.ecPairingCheck(vk.curve.curveName, pairingInput(preparedInput, proof, offset), false);
+    }
+
+    /**
+     * {@link #verifyProofPrepared} for a raw proof.
+     */
+    public boolean verifyPreparedRaw(byte[] preparedInput, byte[] proof, int offset) {
+        if (ProofValidator.validateRaw(vk, proof, offset, null) != ProofValidator.OK) {
+            return false;
+        }
+        require(preparedInput.length == vk.curve.g1Size, "verifier-bad-input");
+        return ops.ecPairingCheck(vk.curve.curveName, pairingInput(preparedInput, proof, offset), false);
+    }
+
+    /**
+     * Checks n proofs with a single multi-pairing of n + 3 pairs by folding them
+     * with a random linear combination:
+     * prod e(-r_i A_i, B_i) * e(sum(r_i) alfa1, beta2) * e(sum(r_i vk_x_i), gamma2)
+     * * e(sum(r_i C_i), delta2) == 1.
+     * The coefficients are derived from a hash of all proofs and inputs, so they are
+     * fixed before anyone can see them.
+     */
+    public boolean verifyBatch(BigInteger[][] inputs, Proof[] proofs) {
+        Curve curve = vk.curve;
+        int g1 = curve.g1Size;
+        int g2 = curve.g2Size;
+        int pair = curve.pairSize;
+        int n = proofs.length;
+        require(n > 0 && inputs.length == n, "verifier-bad-input");
+        for (int i = 0; i < n; i++) {
+            require(inputs[i].length == vk.nPublic(), "verifier-bad-input");
+            for (int j = 0; j < inputs[i].length; j++) {
+                require(inputs[i][j].signum() >= 0, "verifier-negative-input");
+                require(inputs[i][j].compareTo(curve.scalarField) < 0, "verifier-gte-snark-scalar-field");
+            }
+        }
+        BigInteger[] r = batchCoefficients(curve, inputs, proofs);
+
+        // sum(r_i * vk_x_i) = IC[0] * sum(r_i) + sum_j(IC[j + 1] * sum_i(r_i * input_i[j]))
+        BigInteger rSum = BigInteger.ZERO;
+        BigInteger[] inputSum = new BigInteger[vk.nPublic()];
+        for (int j = 0; j < inputSum.length; j++) {
+            inputSum[j] = BigInteger.ZERO;
+        }
+        P1 accC = new P1(curve);
+        byte[] data = new byte[(n + 3) * pair];
+        for (int i = 0; i < n; i++) {
+            rSum = rSum.add(r[i]);
+            for (int j = 0; j < inputSum.length; j++) {
+                inputSum[j] = inputSum[j].add(r[i].multiply(inputs[i][j])).mod(curve.scalarField);
+            }
+            P1 negA = proofs[i].A.neg();
+            (i == 0 ? negA : negA.scalarMul(ops, r[i])).writeTo(data, i * pair);
+            proofs[i].B.writeTo(data, i * pair + g1);
+            accC = accC.add(ops, i == 0 ? proofs[i].C : proofs[i].C.scalarMul(ops, r[i]));
+        }
+        rSum = rSum.mod(curve.scalarField);
+        P1 vk_x = vk.IC[0].scalarMul(ops, rSum);
+        for (int j = 0; j < inputSum.length; j++) {
+            vk_x = vk_x.add(ops, vk.IC[j + 1].scalarMul(ops, inputSum[j]));
+        }
+        int offset = n * pair;
+        vk.alfa1.scalarMul(ops, rSum).writeTo(data, offset);
+        System.arraycopy(vk.beta2Bytes, 0, data, offset + g1, g2);
+        vk_x.writeTo(data, offset + pair);
+        System.arraycopy(vk.gamma2Bytes, 0, data, offset + pair + g1, g2);
+        accC.writeTo(data, offset + 2 * pair);
+        System.arraycopy(vk.delta2Bytes, 0, data, offset + 2 * pair + g1, g2);
+        return ops.ecPairingCheck(curve.curveName, data, false);
+    }
+
+    // r_0 = 1 and r_i = first 128 bits of sha3(seed || i), where seed hashes every proof and input
+    BigInteger[] batchCoefficients(Curve curve, BigInteger[][] inputs, Proof[] proofs) {
+        int size = curve.baseFieldSize;
+        int length = 0;
+        for (int i = 0; i < proofs.length; i++) {
+            length += curve.pairSize + curve.g1Size + inputs[i].length * size;
+        }
+        byte[] transcript = new byte[length];
+        int offset = 0;
+        for (int i = 0; i < proofs.length; i++) {
+            proofs[i].A.writeTo(transcript, offset);
+            proofs[i].B.writeTo(transcript, offset + curve.g1Size);
+            proofs[i].C.writeTo(transcript, offset + curve.pairSize);
+            offset += curve.pairSize + curve.g1Size;
+            for (int j = 0; j < inputs[i].length; j++) {
+                PointCodec.writeFixed(inputs[i][j], transcript, offset, size);
+                offset += size;
+            }
+        }
+        byte[] seed = ops.hash("sha3-256", transcript);
+
+        BigInteger[] r = new BigInteger[proofs.length];
+        r[0] = BigInteger.ONE;
+        byte[] buf = new byte[seed.length + 4];
+        System.arraycopy(seed, 0, buf, 0, seed.length);
+        for (int i = 1; i < r.length; i++) {
+            buf[seed.length] = (byte) (i >>> 24);
+            buf[seed.length + 1] = (byte) (i >>> 16);
+            buf[seed.length + 2] = (byte) (i >>> 8);
+            buf[seed.length + 3] = (byte) i;
+            r[i] = new BigInteger(1, Arrays.copyOf(ops.hash("sha3-256", buf), 16));
+        }
+        return r;
+    }
+
+    /**
+     * Returns {@link ProofValidator#OK} or the reason code of the first validation
+     * step the proof fails. Rejected proofs never reach the pairing check.
+     */
+    @External(readonly = true)
+    public int checkProof(BigInteger[] a, BigInteger[][] b, BigInteger[] c, BigInteger[] input) {
+        return ProofValidator.validate(vk, a, b, c, input);
+    }
+
+    @External(readonly = true)
+    public boolean verifyProof(BigInteger[] a, BigInteger[][] b, BigInteger[] c, BigInteger[] input) {
+        if (ProofValidator.validate(vk, a, b, c, input) != ProofValidator.OK) {
+            return false;
+        }
+        return verify(input, proof(a, b, c));
+    }
+
+    /**
+     * {@link #verifyProof} for points in the {@link PointCompression} encoding, which takes
+     * half the bytes of the affine coordinates. The points are decompressed once and then
+     * validated and verified exactly like their uncompressed form.
+     */
+    @External(readonly = true)
+    public boolean verifyProofCompressed(byte[] a, byte[] b, byte[] c, BigInteger[] input) {
+        Curve curve = vk.curve;
+        return verifyProof(PointCompression.decompressG1(curve, a), PointCompression.decompressG2(curve, b),
+                PointCompression.decompressG1(curve, c), input);
+    }
+
+    // not @External: with a caller-chosen vk_x = 0, A = alfa1, B = beta2, C = 0 passes for
+    // any statement, so preparedInput must be one the contract computed itself
+    boolean verifyProofPrepared(BigInteger[] a, BigInteger[][] b, BigInteger[] c, byte[] preparedInput) {
+        if (ProofValidator.validate(vk, a, b, c, null) != ProofValidator.OK) {
+            return false;
+        }
+        return verifyPrepared(preparedInput, proof(a, b, c));
+    }
+
+    @External(readonly = true)
+    public boolean verifyProofs(BigInteger[][] a, BigInteger[][][] b, BigInteger[][] c, BigInteger[][] inputs) {
+        require(a.length == b.length && a.length == c.length && a.length == inputs.length,
+                "verifier-bad-input");
+        Proof[] proofs = new Proof[a.length];
+        for (int i = 0; i < a.length; i++) {
+            if (ProofValidator.validate(vk, a[i], b[i], c[i], inputs[i]) != ProofValidator.OK) {
+                return false;
+            }
+            proofs[i] = proof(a[i], b[i], c[i]);
+        }
+        return verifyBatch(inputs, proofs);
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.venture23zkp.sudoku;
+
+import java.math.BigInteger;
+
+public class P1 {
+    final Curve curve;
+    BigInteger x;
+    BigInteger y;
+
+    public static P1 generator(Curve curve) {
+        return new P1(curve, curve.g1Generator[0], curve.g1Generator[1]);
+    }
+
+    P1(Curve curve) {
+        this(curve, curve.g1Zero[0], curve.g1Zero[1]);
+    }
+
+    P1(Curve curve, BigInteger x, BigInteger y) {
+        this.curve = curve;
+        this.x = x;
+        this.y = y;
+    }
+
+    P1(Curve curve, byte[] data) {
+        this(curve, requireLength(data, curve.g1Size), 0);
+    }
+
+    P1(Curve curve, byte[] data, int offset) {
+        if (offset < 0 || data.length - offset < curve.g1Size) {
+            throw new IllegalArgumentException("P1(byte[] data): invalid data layout!");
+        }
+        this.curve = curve;
+        this.x = PointCodec.readUnsigned(data, offset, curve.baseFieldSize);
+        this.y = PointCodec.readUnsigned(data, offset + curve.baseFieldSize, curve.baseFieldSize);
+    }
+
+    // checked before any coordinate is read
+    private static byte[] requireLength(byte[] data, int size) {
+        if (data.length != size) {
+            throw new IllegalArgumentException("P1(byte[] data): invalid data layout!");
+        }
+        return data;
+    }
+
+    public byte[] bytes() {
+        byte[] buf = new byte[curve.g1Size];
+        writeTo(buf, 0);
+        return buf;
+    }
+
+    public void writeTo(byte[] buf, int offset) {
+        PointCodec.writeFixed(this.x, buf, offset, curve.baseFieldSize);
+        PointCodec.writeFixed(this.y, buf, offset + curve.baseFieldSize, curve.baseFieldSize);
+    }
+
+    public boolean isZero() {
+        return this.x.equals(curve.g1Zero[0]) && this.y.equals(curve.g1Zero[1]);
+    }
+
+    public boolean equals(P1 p) {
+        return this.x.equals(p.x) && this.y.equals(p.y);
+    }
+
+    public P1 neg() {
+        return isZero() ? this : new P1(curve, this.x, curve.baseField.subtract(this.y.mod(curve.baseField)));
+    }
+
+    public P1 add(CurveOps ops, P1 other) {
+        byte[] buf = new byte[2 * curve.g1Size];
+        this.writeTo(buf, 0);
+        other.writeTo(buf, curve.g1Size);
+        byte[] res = ops.ecAdd(curve.g1CurveName, buf, false);
+        return new P1(curve, res);
+    }
+
+    public P1 scalarMul(CurveOps ops, BigInteger scalar) {
+        byte[] res = ops.ecScalarMul(curve.g1CurveName, scalar.toByteArray(), this.bytes(), false);
+        return new P1(curve, res);
+    }
+
+}
@@ -0,0 +1,96 @@
+package io.venture23zkp.sudoku;
+
+import java.math.BigInteger;
+
+public class P2 {
+    // (x0 * i + x1, y0 * i + y1)
+    final Curve curve;
+    BigInteger x0;
+    BigInteger x1;
+    BigInteger y0;
+    BigInteger y1;
+
+    public static P2 generator(Curve curve) {
+        BigInteger[] g = curve.g2Generator;
+        return new P2(curve, g[0], g[1], g[2], g[3]);
+    }
+
+    P2(Curve curve) {
+        this(curve, curve.g2Zero[0], curve.g2Zero[1], curve.g2Zero[2], curve.g2Zero[3]);
+    }
+
+    P2(Curve curve, BigInteger x0, BigInteger x1, BigInteger y0, BigInteger y1) {
+        this.curve = curve;
+        this.x0 = x0;
+        this.x1 = x1;
+        this.y0 = y0;
+        this.y1 = y1;
+    }
+
+    P2(Curve curve, byte[] data) {
+        this(curve, requireLength(data, curve.g2Size), 0);
+    }
+
+    P2(Curve curve, byte[] data, int offset) {
+        if (offset < 0 || data.length - offset < curve.g2Size) {
+            throw new IllegalArgumentException("P2(byte[] data): invalid data layout!");
+        }
+        int size = curve.baseFieldSize;
+        this.curve = curve;
+        this.x0 = PointCodec.readUnsigned(data, offset, size);
+        this.x1 = PointCodec.readUnsigned(data, offset + size, size);
+        this.y0 = PointCodec.readUnsigned(data, offset + 2 * size, size);
+        this.y1 = PointCodec.readUnsigned(data, offset + 3 * size, size);
+    }
+
+    // checked before any coordinate is read
+    private static byte[] requireLength(byte[] data, int size) {
+        if (data.length != size) {
+            throw new IllegalArgumentException("P2(byte[] data): invalid data layout!");
+        }
+        return data;
+    }
+
+    public byte[] bytes() {
+        byte[] buf = new byte[curve.g2Size];
+        writeTo(buf, 0);
+        return buf;
+    }
+
+    public void writeTo(byte[] buf, int offset) {
+        int size = curve.baseFieldSize;
+        PointCodec.writeFixed(this.x0, buf, offset, size);
+        PointCodec.writeFixed(this.x1, buf, offset + size, size);
+        PointCodec.writeFixed(this.y0, buf, offset + 2 * size, size);
+        PointCodec.writeFixed(this.y1, buf, offset + 3 * size, size);
+    }
+
+    public boolean isZero() {
+        BigInteger[] zero = curve.g2Zero;
+        return this.x0.equals(zero[0]) && this.x1.equals(zero[1]) && this.y0.equals(zero[2]) && this.y1.equals(zero[3]);
+    }
+
+    public boolean equals(P2 p) {
+        return this.x0.equals(p.x0) && this.x1.equals(p.x1) && this.y0.equals(p.y0) && this.y1.equals(p.y1);
+    }
+
+    public P2 neg() {
+        BigInteger q = curve.baseField;
+        return isZero() ? this
+                : new P2(curve, this.x0, this.x1, q.subtract(this.y0.mod(q)), q.subtract(this.y1.mod(q)));
+    }
+
+    public P2 add(CurveOps ops, P2 other) {
+        byte[] buf = new byte[2 * curve.g2Size];
+        this.writeTo(buf, 0);
+        other.writeTo(buf, curve.g2Size);
+        byte[] res = ops.ecAdd(curve.g2CurveName, buf, false);
+        return new P2(curve, res);
+    }
+
+    public P2 scalarMul(CurveOps ops, BigInteger scalar) {
+        byte[] res = ops.ecScalarMul(curve.g2CurveName, scalar.toByteArray(), this.bytes(), false);
+        return new P2(curve, res);
+    }
+
+}
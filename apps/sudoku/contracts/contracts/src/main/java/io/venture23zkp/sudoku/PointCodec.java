@@ -0,0 +1,58 @@
+package io.venture23zkp.sudoku;
+
+import java.math.BigInteger;
+
+/**
+ * Fixed-width big-endian encoding of field elements as used by the
+ * {@code Context.ecAdd}, {@code ecScalarMul} and {@code ecPairingCheck} inputs.
+ */
+final class PointCodec {
+
+    private PointCodec() {
+    }
+
+    /**
+     * Writes {@code value} as an unsigned big-endian number of exactly {@code width}
+     * bytes at {@code buf[offset]}, zero-filling the leading bytes.
+     */
+    static void writeFixed(BigInteger value, byte[] buf, int offset, int width) {
+        if (value.signum() < 0 || value.bitLength() > 8 * width) {
+            throw new IllegalArgumentException("PointCodec: value does not fit in " + width + " bytes");
+        }
+        byte[] b = value.toByteArray();
+        // toByteArray() may carry one extra leading sign byte, which is always zero here
+        int len = Math.min(b.length, width);
+        int pad = width - len;
+        for (int i = 0; i < pad; i++) {
+            buf[offset + i] = 0;
+        }
+        System.arraycopy(b, b.length - len, buf, offset + pad, len);
+    }
+
+    /**
+     * Reads {@code width} bytes at {@code buf[offset]} as an unsigned big-endian number.
+     */
+    static BigInteger readUnsigned(byte[] buf, int offset, int width) {
+        byte[] b = new byte[width];
+        System.arraycopy(buf, offset, b, 0, width);
+        return new BigInteger(1, b);
+    }
+
+    /**
+     * Writes {@code modulus - value} for the {@code width}-byte value at {@code src[srcOffset]},
+     * with {@code modulus} given in the same width, without leaving the byte encoding. Zero
+     * stays zero.
+     */
+    static void writeNegated(byte[] modulus, byte[] src, int srcOffset, byte[] dst, int dstOffset, int width) {
+        int zero = 0;
+        for (int i = 0; i < width; i++) {
+            zero |= src[srcOffset + i];
+        }
+        int borrow = 0;
+        for (int i = width - 1; i >= 0; i--) {
+            int d = zero == 0 ? 0 : (modulus[i] & 0xff) - (src[srcOffset + i] & 0xff) - borrow;
+            borrow = d < 0 ? 1 : 0;
+            dst[dstOffset + i] = (byte) d;
+        }
+    }
+}
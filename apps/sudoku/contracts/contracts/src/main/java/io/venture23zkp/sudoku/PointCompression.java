@@ -0,0 +1,189 @@
+package io.venture23zkp.sudoku;
+
+import java.math.BigInteger;
+
+/**
+ * Compressed point encoding of snarkjs ({@code toRprCompressed}): the x coordinate alone,
+ * big-endian in {@code baseFieldSize} bytes per Fp element, G2 imaginary part first, with
+ * flags in the two spare top bits of the first byte: 0x80 when y is the larger of its two
+ * roots (greater than (q - 1) / 2, for Fp2 compared on the imaginary part unless it is 0)
+ * and 0x40 for the point at infinity.
+ *
+ * <p>Decompression never rejects: malformed data comes back as coordinates that
+ * {@link ProofValidator} turns into the same reason code as the uncompressed form would
+ * get. A wrong length yields null, the point at infinity the curve's zero encoding, an x
+ * outside the field that x with y = 0, and an x without a y a point that is not on the
+ * curve.
+ */
+public final class PointCompression {
+    static final int SIGN_FLAG = 0x80;
+    static final int INFINITY_FLAG = 0x40;
+    private static final BigInteger TWO = BigInteger.valueOf(2);
+
+    private PointCompression() {
+    }
+
+    public static int g1Size(Curve curve) {
+        return curve.baseFieldSize;
+    }
+
+    public static int g2Size(Curve curve) {
+        return 2 * curve.baseFieldSize;
+    }
+
+    public static byte[] compress(P1 p) {
+        Curve curve = p.curve;
+        byte[] buf = new byte[g1Size(curve)];
+        if (p.isZero()) {
+            buf[0] = (byte) INFINITY_FLAG;
+            return buf;
+        }
+        PointCodec.writeFixed(p.x, buf, 0, curve.baseFieldSize);
+        if (isLarger(curve.baseField, p.y)) {
+            buf[0] |= (byte) SIGN_FLAG;
+        }
+        return buf;
+    }
+
+    public static byte[] compress(P2 p) {
+        Curve curve = p.curve;
+        int size = curve.baseFieldSize;
+        byte[] buf = new byte[g2Size(curve)];
+        if (p.isZero()) {
+            buf[0] = (byte) INFINITY_FLAG;
+            return buf;
+        }
+        PointCodec.writeFixed(p.x0, buf, 0, size);
+        PointCodec.writeFixed(p.x1, buf, size, size);
+        if (isLarger(curve.baseField, p.y0.signum() != 0 ? p.y0 : p.y1)) {
+            buf[0] |= (byte) SIGN_FLAG;
+        }
+        return buf;
+    }
+
+    /**
+     * Compresses a G1 point given in the uncompressed encoding of the {@code Context} EC
+     * operations.
+     */
+    public static byte[] compressG1(Curve curve, byte[] data) {
+        return compress(new P1(curve, data));
+    }
+
+    /**
+     * Compresses a G2 point given in the uncompressed encoding of the {@code Context} EC
+     * operations.
+     */
+    public static byte[] compressG2(Curve curve, byte[] data) {
+        return compress(new P2(curve, data));
+    }
+
+    /**
+     * Returns {x, y} as {@code verifyProof} takes {@code a} and {@code c}.
+     */
+    public static BigInteger[] decompressG1(Curve curve, byte[] data) {
+        if (data == null || data.length != g1Size(curve)) {
+            return null;
+        }
+        if ((data[0] & INFINITY_FLAG) != 0) {
+            return new BigInteger[] { curve.g1Zero[0], curve.g1Zero[1] };
+        }
+        boolean larger = (data[0] & SIGN_FLAG) != 0;
+        BigInteger q = curve.baseField;
+        BigInteger x = readX(data, 0, curve.baseFieldSize, true);
+        if (x.compareTo(q) >= 0) {
+            return new BigInteger[] { x, BigInteger.ZERO };
+        }
+        BigInteger y = sqrt(x.multiply(x).mod(q).multiply(x).add(curve.g1B).mod(q), q);
+        if (y != null && isLarger(q, y) != larger) {
+            y = q.subtract(y).mod(q);
+        }
+        // without a square root any y fails the curve equation
+        return new BigInteger[] { x, y != null ? y : BigInteger.ZERO };
+    }
+
+    /**
+     * Returns {{x0, x1}, {y0, y1}} as {@code verifyProof} takes {@code b}.
+     */
+    public static BigInteger[][] decompressG2(Curve curve, byte[] data) {
+        int size = curve.baseFieldSize;
+        if (data == null || data.length != g2Size(curve)) {
+            return null;
+        }
+        BigInteger[] zero = curve.g2Zero;
+        if ((data[0] & INFINITY_FLAG) != 0) {
+            return new BigInteger[][] { { zero[0], zero[1] }, { zero[2], zero[3] } };
+        }
+        boolean larger = (data[0] & SIGN_FLAG) != 0;
+        BigInteger q = curve.baseField;
+        BigInteger x0 = readX(data, 0, size, true);
+        BigInteger x1 = readX(data, size, size, false);
+        if (x0.compareTo(q) >= 0 || x1.compareTo(q) >= 0) {
+            return new BigInteger[][] { { x0, x1 }, { BigInteger.ZERO, BigInteger.ZERO } };
+        }
+        // x^3 + b' over Fp[u] / (u^2 + 1), as (real, imaginary)
+        BigInteger[] x = { x1, x0 };
+        BigInteger[] rhs = fp2Mul(fp2Mul(x, x, q), x, q);
+        rhs[0] = rhs[0].add(curve.g2B[0]).mod(q);
+        rhs[1] = rhs[1].add(curve.g2B[1]).mod(q);
+        BigInteger[] y = fp2Sqrt(rhs, q);
+        if (y == null) {
+            return new BigInteger[][] { { x0, x1 }, { BigInteger.ZERO, BigInteger.ZERO } };
+        }
+        if (isLarger(q, y[1].signum() != 0 ? y[1] : y[0]) != larger) {
+            y[0] = q.subtract(y[0]).mod(q);
+            y[1] = q.subtract(y[1]).mod(q);
+        }
+        return new BigInteger[][] { { x0, x1 }, { y[1], y[0] } };
+    }
+
+    private static BigInteger readX(byte[] data, int offset, int size, boolean flags) {
+        byte[] b = new byte[size];
+        System.arraycopy(data, offset, b, 0, size);
+        if (flags) {
+            b[0] &= (byte) ~(SIGN_FLAG | INFINITY_FLAG);
+        }
+        return new BigInteger(1, b);
+    }
+
+    private static boolean isLarger(BigInteger q, BigInteger v) {
+        return v.shiftLeft(1).compareTo(q) > 0;
+    }
+
+    // both base fields are 3 mod 4, so a root is a^((q + 1) / 4) if there is one
+    private static BigInteger sqrt(BigInteger a, BigInteger q) {
+        BigInteger r = a.modPow(q.add(BigInteger.ONE).shiftRight(2), q);
+        return r.multiply(r).mod(q).equals(a) ? r : null;
+    }
+
+    // (re + im u)^(1/2) through the norm: re' = sqrt((re +- sqrt(re^2 + im^2)) / 2), im' = im / (2 re')
+    private static BigInteger[] fp2Sqrt(BigInteger[] a, BigInteger q) {
+        if (a[1].signum() == 0) {
+            BigInteger r = sqrt(a[0], q);
+            if (r != null) {
+                return new BigInteger[] { r, BigInteger.ZERO };
+            }
+            r = sqrt(q.subtract(a[0]).mod(q), q);
+            return r == null ? null : new BigInteger[] { BigInteger.ZERO, r };
+        }
+        BigInteger s = sqrt(a[0].multiply(a[0]).add(a[1].multiply(a[1])).mod(q), q);
+        if (s == null) {
+            return null;
+        }
+        BigInteger half = TWO.modInverse(q);
+        BigInteger re = sqrt(a[0].add(s).multiply(half).mod(q), q);
+        if (re == null) {
+            re = sqrt(a[0].subtract(s).multiply(half).mod(q), q);
+            if (re == null) {
+                return null;
+            }
+        }
+        BigInteger im = a[1].multiply(re.shiftLeft(1).modInverse(q)).mod(q);
+        return new BigInteger[] { re, im };
+    }
+
+    private static BigInteger[] fp2Mul(BigInteger[] a, BigInteger[] b, BigInteger q) {
+        BigInteger re = a[0].multiply(b[0]).subtract(a[1].multiply(b[1])).mod(q);
+        BigInteger im = a[0].multiply(b[1]).add(a[1].multiply(b[0])).mod(q);
+        return new BigInteger[] { re, im };
+    }
+}
@@ -0,0 +1,127 @@
+package io.venture23zkp.sudoku;
+
+import java.math.BigInteger;
+
+/**
+ * Rejects malformed proofs before they reach the pairing check. The checks run
+ * cheapest first and the first failing one determines the returned reason code.
+ */
+public final class ProofValidator {
+
+    public static final int OK = 0;
+    public static final int BAD_SHAPE = 1;
+    public static final int POINT_AT_INFINITY = 2;
+    public static final int COORDINATE_OUT_OF_FIELD = 3;
+    public static final int INPUT_OUT_OF_FIELD = 4;
+    public static final int NOT_ON_CURVE = 5;
+
+    private ProofValidator() {
+    }
+
+    /**
+     * Validates a proof against {@code vk}. {@code input} may be null when the public
+     * inputs have already been folded into a prepared vk_x.
+     */
+    public static int validate(VerifyingKey vk, BigInteger[] a, BigInteger[][] b, BigInteger[] c,
+                               BigInteger[] input) {
+        Curve curve = vk.curve;
+        if (!hasShape(a, 2) || b == null || b.length != 2 || !hasShape(b[0], 2) || !hasShape(b[1], 2)
+                || !hasShape(c, 2) || (input != null && !hasShape(input, vk.nPublic()))) {
+            return BAD_SHAPE;
+        }
+        // compared on the encoding, since the BLS12-381 infinity flag lies outside the field
+        if (isG1Zero(curve, a) || isG1Zero(curve, c) || isG2Zero(curve, b)) {
+            return POINT_AT_INFINITY;
+        }
+        if (!inRange(a, curve.baseField) || !inRange(b[0], curve.baseField) || !inRange(b[1], curve.baseField)
+                || !inRange(c, curve.baseField)) {
+            return COORDINATE_OUT_OF_FIELD;
+        }
+        if (input != null && !inRange(input, curve.scalarField)) {
+            return INPUT_OUT_OF_FIELD;
+        }
+        if (!isOnG1(curve, a[0], a[1]) || !isOnG1(curve, c[0], c[1])
+                || !isOnG2(curve, b[0][0], b[0][1], b[1][0], b[1][1])) {
+            return NOT_ON_CURVE;
+        }
+        return OK;
+    }
+
+    /**
+     * Validates a proof in the {@link Groth16Verifier#rawProofSize raw layout} starting at
+     * {@code data[offset]} and running to the end of {@code data}.
+     */
+    public static int validateRaw(VerifyingKey vk, byte[] data, int offset, BigInteger[] input) {
+        Curve curve = vk.curve;
+        int size = curve.baseFieldSize;
+        if (data == null || offset < 0 || data.length - offset != Groth16Verifier.rawProofSize(curve)) {
+            return BAD_SHAPE;
+        }
+        BigInteger[] a = readCoordinates(data, offset, 2, size);
+        BigInteger[] b = readCoordinates(data, offset + curve.g1Size, 4, size);
+        BigInteger[] c = readCoordinates(data, offset + curve.g1Size + curve.g2Size, 2, size);
+        return validate(vk, a, new BigInteger[][] { { b[0], b[1] }, { b[2], b[3] } }, c, input);
+    }
+
+    private static BigInteger[] readCoordinates(byte[] data, int offset, int count, int size) {
+        BigInteger[] v = new BigInteger[count];
+        for (int i = 0; i < count; i++) {
+            v[i] = PointCodec.readUnsigned(data, offset + i * size, size);
+        }
+        return v;
+    }
+
+    private static boolean hasShape(BigInteger[] v, int length) {
+        if (v == null || v.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (v[i] == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean inRange(BigInteger[] v, BigInteger modulus) {
+        for (int i = 0; i < v.length; i++) {
+            if (v[i].signum() < 0 || v[i].compareTo(modulus) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isG1Zero(Curve curve, BigInteger[] p) {
+        return p[0].equals(curve.g1Zero[0]) && p[1].equals(curve.g1Zero[1]);
+    }
+
+    private static boolean isG2Zero(Curve curve, BigInteger[][] p) {
+        BigInteger[] zero = curve.g2Zero;
+        return p[0][0].equals(zero[0]) && p[0][1].equals(zero[1]) && p[1][0].equals(zero[2]) && p[1][1].equals(zero[3]);
+    }
+
+    // y^2 == x^3 + b
+    static boolean isOnG1(Curve curve, BigInteger x, BigInteger y) {
+        BigInteger q = curve.baseField;
+        BigInteger lhs = y.multiply(y).mod(q);
+        BigInteger rhs = x.multiply(x).mod(q).multiply(x).add(curve.g1B).mod(q);
+        return lhs.equals(rhs);
+    }
+
+    // y^2 == x^3 + b' over Fp2 = Fp[u] / (u^2 + 1), with x = x1 + x0 * u and y = y1 + y0 * u
+    static boolean isOnG2(Curve curve, BigInteger x0, BigInteger x1, BigInteger y0, BigInteger y1) {
+        BigInteger q = curve.baseField;
+        BigInteger[] x = { x1, x0 };
+        BigInteger[] y = { y1, y0 };
+        BigInteger[] lhs = fp2Mul(y, y, q);
+        BigInteger[] rhs = fp2Mul(fp2Mul(x, x, q), x, q);
+        return lhs[0].equals(rhs[0].add(curve.g2B[0]).mod(q)) && lhs[1].equals(rhs[1].add(curve.g2B[1]).mod(q));
+    }
+
+    private static BigInteger[] fp2Mul(BigInteger[] a, BigInteger[] b, BigInteger q) {
+        BigInteger re = a[0].multiply(b[0]).subtract(a[1].multiply(b[1])).mod(q);
+        BigInteger im = a[0].multiply(b[1]).add(a[1].multiply(b[0])).mod(q);
+        return new BigInteger[] { re, im };
+    }
+}
@@ -2,23 +2,66 @@ package io.venture23zkp.sudoku;
 
 import java.math.BigInteger;
 
+import score.Address;
 import score.ArrayDB;
 import score.Context;
+import score.DictDB;
+import score.VarDB;
+import score.annotation.EventLog;
 import score.annotation.External;
 
 public class Sudoku {
 
+    static final String SHA256_CIRCUIT = "sudoku_sha256";
+    static final String PEDERSEN_CIRCUIT = "sudoku_pedersen";
+
+    // addBoards payload: version (1) | start (4) | Board.encode() records
+    static final int BOARDS_FORMAT_VERSION = 1;
+    static final int BOARDS_HEADER_SIZE = 5;
+    static final int MAX_PAGE_SIZE = 200;
+    // verifyRaw payload: board id (32, big-endian) | A | B | C
+    static final int RAW_BOARD_ID_SIZE = 32;
+    // solvers kept by getRecentSolvers
+    static final int RECENT_SOLVERS = 32;
+
     private final PedersenBN128Verifier pedersenBN128Verifier;
     private final Sha256BLS12381Verifier sha256BLS12381Verifier;
+    private final VerifyingKeyStore verifyingKeys;
+    private final CurveOps ops;
 
     private final ArrayDB<Board> boards = Context.newArrayDB("boards", Board.class);
+    // sha256Id / pedersenId -> position in boards and curve of the id
+    private final DictDB<BigInteger, BoardRef> boardIndex = Context.newDictDB("boardIds", BoardRef.class);
+    // boards [0, indexedBoards) are in boardIndex; see indexBoards
+    private final VarDB<Integer> indexedBoards = Context.newVarDB("indexedBoards", Integer.class);
+    // sha3-256(board id | A | B | C) of every proof submitSolution has checked -> its verdict
+    private final DictDB<byte[], Boolean> submittedProofs = Context.newDictDB("submittedProofs", Boolean.class);
+    // position in boards (4) | solver address -> whether the solver was credited for the board
+    private final DictDB<byte[], Boolean> boardSolvers = Context.newDictDB("boardSolvers", Boolean.class);
+    // position in boards -> credited solvers, for either id of the board
+    private final DictDB<Integer, Integer> solveCounts = Context.newDictDB("solveCounts", Integer.class);
+    // ring of the last RECENT_SOLVERS solvers; the next write goes to totalSolves % RECENT_SOLVERS
+    private final ArrayDB<Address> recentSolvers = Context.newArrayDB("recentSolvers", Address.class);
+    private final VarDB<Integer> totalSolves = Context.newVarDB("totalSolves", Integer.class);
 
 
     public Sudoku() {
-        this.pedersenBN128Verifier = new PedersenBN128Verifier();
-        this.sha256BLS12381Verifier = new Sha256BLS12381Verifier();
+        this(ContextCurveOps.INSTANCE);
+    }
+
+    // lets tests and tools run the contract on another EC backend
+    protected Sudoku(CurveOps ops) {
+        this.pedersenBN128Verifier = new PedersenBN128Verifier(ops);
+        this.sha256BLS12381Verifier = new Sha256BLS12381Verifier(ops);
+        this.verifyingKeys = new VerifyingKeyStore(ops);
+        this.ops = ops;
 
-        boards.add(new Board(
+        if (boards.size() > 0) {
+            // boards stored before the id index existed are indexed by indexBoards
+            return;
+        }
+
+        addBoard(new Board(
                 new BigInteger("12946702913587076100588339357837874244737833722059782620840121604018902625880"),
                 new BigInteger("20508280487233337829117787098579484117180647220128235675540805714795266829330"),
                 new int[][] {
@@ -34,8 +77,8 @@ public class Sudoku {
                 }
         ));
 
-        boards.add(new Board(
-                new BigInteger("107892420655660906236019058477082710171022090417415360920355362860546940302805"),
+        addBoard(new Board(
+                new BigInteger("3020670305408525277123577460710778495640985416360085275148045460669777933779"),
                 new BigInteger("4734607875457860383511038714947529190779064469715356965082230943676408289143"),
                 new int[][] {
                         { 0, 2, 7, 5, 0, 4, 0, 0, 0 },
@@ -50,7 +93,7 @@ public class Sudoku {
                 }
         ));
 
-        boards.add(new Board(
+        addBoard(new Board(
             new BigInteger("50213289574608008120354010172600564686142848648930442262797942174114227273539"),
             new BigInteger("8152119989451001230856454209031619574707505319220427314377706000948347561614"),
             new int[][] {
@@ -68,6 +111,196 @@ public class Sudoku {
 
     }
 
+    /**
+     * Imports boards from a payload of version (1) | start (4, big-endian) | board records,
+     * each in {@link Board#encode()} form, where start is the catalogue position of the
+     * first record. Records already in the catalogue are skipped and at most
+     * {@code maxBoards} new ones are added. The catalogue size is the import cursor: a
+     * large catalogue is loaded in ceil(n / maxBoards) transactions by sending the slice
+     * that starts at the cursor, and resending a payload after a failed or partial
+     * transaction resumes where it stopped.
+     */
+    @External
+    public void addBoards(byte[] packed, int maxBoards) {
+        Context.require(Context.getCaller().equals(Context.getOwner()), "addBoards: only owner");
+        Context.require(maxBoards > 0, "addBoards: maxBoards must be positive");
+        Context.require(packed.length >= BOARDS_HEADER_SIZE && packed[0] == BOARDS_FORMAT_VERSION
+                && (packed.length - BOARDS_HEADER_SIZE) % Board.ENCODED_SIZE == 0, "addBoards: invalid data layout");
+        int start = ((packed[1] & 0xff) << 24) | ((packed[2] & 0xff) << 16) | ((packed[3] & 0xff) << 8)
+                | (packed[4] & 0xff);
+        int count = (packed.length - BOARDS_HEADER_SIZE) / Board.ENCODED_SIZE;
+        int cursor = boards.size();
+        Context.require(indexedBoards.getOrDefault(0) == cursor, "addBoards: stored boards are not indexed yet");
+        Context.require(start >= 0 && start <= cursor, "addBoards: payload starts past the cursor " + cursor);
+
+        int first = cursor - start;
+        int end = Math.min(count, first + maxBoards);
+        for (int i = first; i < end; i++) {
+            Board board = Board.decode(packed, BOARDS_HEADER_SIZE + i * Board.ENCODED_SIZE);
+            board.validate();
+            // an id outside its circuit's scalar field cannot be a public input of any proof
+            Context.require(board.getSha256Id().compareTo(Curve.BLS12_381.scalarField) < 0
+                    && board.getPedersenId().compareTo(Curve.BN128.scalarField) < 0,
+                    "addBoards: board id outside the scalar field");
+            Context.require(boardIndex.get(board.getSha256Id()) == null
+                    && boardIndex.get(board.getPedersenId()) == null, "addBoards: duplicate board id");
+            addBoard(board);
+        }
+        if (end > first) {
+            BoardsAdded(cursor, boards.size());
+        }
+    }
+
+    /**
+     * Boards at catalogue positions [start, end) were added.
+     */
+    @EventLog
+    public void BoardsAdded(int start, int end) {
+    }
+
+    /**
+     * {@code solver} was credited with its first valid proof for the board with id
+     * {@code boardId}, on the curve named {@code curve}.
+     */
+    @EventLog(indexed = 3)
+    public void BoardSolved(BigInteger boardId, Address solver, String curve) {
+    }
+
+    private void addBoard(Board board) {
+        boards.add(board);
+        indexBoard(boards.size() - 1, board);
+        indexedBoards.set(boards.size());
+    }
+
+    /**
+     * Adds up to {@code maxBoards} stored boards, from {@link #getIndexedBoardCount()} on, to
+     * the id index with their prepared inputs. Boards stored before the index existed cannot
+     * be looked up by id until they are indexed, and {@link #addBoards} waits for the whole
+     * catalogue; an upgrade is followed by calls to this until the count reaches
+     * {@link #getBoardCount()}, each costing two scalar multiplications per board.
+     * Registering a key for a sudoku circuit resets the count to 0: the prepared inputs of
+     * that circuit are stale, so verify computes vk_x per call until this has run over the
+     * catalogue again. Ids whose prepared input is current are skipped.
+     */
+    @External
+    public void indexBoards(int maxBoards) {
+        Context.require(Context.getCaller().equals(Context.getOwner()), "indexBoards: only owner");
+        Context.require(maxBoards > 0, "indexBoards: maxBoards must be positive");
+        int cursor = indexedBoards.getOrDefault(0);
+        int end = Math.min(boards.size(), cursor + maxBoards);
+        for (int i = cursor; i < end; i++) {
+            indexBoard(i, boards.get(i));
+        }
+        indexedBoards.set(end);
+    }
+
+    @External(readonly = true)
+    public int getIndexedBoardCount() {
+        return indexedBoards.getOrDefault(0);
+    }
+
+    private void indexBoard(int index, Board board) {
+        indexId(index, BoardRef.CURVE_BLS12381, board.getSha256Id());
+        indexId(index, BoardRef.CURVE_BN128, board.getPedersenId());
+    }
+
+    private void indexId(int index, int curve, BigInteger boardId) {
+        BoardRef ref = boardIndex.get(boardId);
+        if (ref != null && ref.getPreparedInput() != null
+                && ref.getKeyVersion() == verifyingKeys.version(circuitId(curve))) {
+            return;
+        }
+        boardIndex.set(boardId, newBoardRef(index, curve, boardId));
+    }
+
+    private BoardRef newBoardRef(int index, int curve, BigInteger boardId) {
+        byte[] preparedInput = verifier(curve).prepareInputs(new BigInteger[]{boardId});
+        return new BoardRef(index, curve, preparedInput, verifyingKeys.version(circuitId(curve)));
+    }
+
+    private static String circuitId(int curve) {
+        return curve == BoardRef.CURVE_BLS12381 ? SHA256_CIRCUIT : PEDERSEN_CIRCUIT;
+    }
+
+    // the registered key for the board circuit of this curve, or the built-in one
+    private Groth16Verifier verifier(int curve) {
+        Groth16Verifier registered = verifyingKeys.get(circuitId(curve));
+        if (registered != null) {
+            return registered;
+        }
+        return curve == BoardRef.CURVE_BLS12381 ? sha256BLS12381Verifier : pedersenBN128Verifier;
+    }
+
+    /**
+     * Registers an encoded {@link VerifyingKey} for a circuit. Registering a key for
+     * one of the sudoku circuits replaces the built-in key of that circuit.
+     */
+    @External
+    public void registerVerifyingKey(String circuitId, byte[] verifyingKey) {
+        Context.require(Context.getCaller().equals(Context.getOwner()), "registerVerifyingKey: only owner");
+        VerifyingKey vk = VerifyingKey.decode(verifyingKey);
+        if (SHA256_CIRCUIT.equals(circuitId) || PEDERSEN_CIRCUIT.equals(circuitId)) {
+            int curve = SHA256_CIRCUIT.equals(circuitId) ? BoardRef.CURVE_BLS12381 : BoardRef.CURVE_BN128;
+            Context.require(vk.getCurve().getId() == curve && vk.nPublic() == 1,
+                    "registerVerifyingKey: key does not match the circuit");
+            // every prepared input of this circuit was computed with the old key
+            indexedBoards.set(0);
+        }
+        verifyingKeys.register(circuitId, verifyingKey);
+    }
+
+    @External(readonly = true)
+    public boolean verifyCircuitProof(String circuitId, BigInteger[] a, BigInteger[][] b, BigInteger[] c,
+                                      BigInteger[] input) {
+        Groth16Verifier verifier = verifyingKeys.get(circuitId);
+        if (verifier == null) {
+            throw new IllegalArgumentException("Verifying key for circuit " + circuitId + " does not exist!");
+        }
+        return verifier.verifyProof(a, b, c, input);
+    }
+
+    @External(readonly = true)
+    public int getBoardCount() {
+        return boards.size();
+    }
+
+    /**
+     * Returns up to {@code limit} boards from catalogue position {@code offset} on, capped at
+     * {@link #MAX_PAGE_SIZE}, in the {@link #addBoards} payload layout. A client mirrors the
+     * catalogue by paging until it reaches {@link #getBoardCount()}, and later syncs only
+     * fetch the pages past its own count.
+     */
+    @External(readonly = true)
+    public byte[] getBoards(int offset, int limit) {
+        int size = boards.size();
+        Context.require(offset >= 0 && offset <= size, "getBoards: offset out of range");
+        Context.require(limit >= 0, "getBoards: negative limit");
+        int end = offset + Math.min(Math.min(limit, MAX_PAGE_SIZE), size - offset);
+        byte[] page = new byte[BOARDS_HEADER_SIZE + (end - offset) * Board.ENCODED_SIZE];
+        page[0] = BOARDS_FORMAT_VERSION;
+        page[1] = (byte) (offset >>> 24);
+        page[2] = (byte) (offset >>> 16);
+        page[3] = (byte) (offset >>> 8);
+        page[4] = (byte) offset;
+        for (int i = offset; i < end; i++) {
+            System.arraycopy(boards.get(i).encode(), 0, page,
+                    BOARDS_HEADER_SIZE + (i - offset) * Board.ENCODED_SIZE, Board.ENCODED_SIZE);
+        }
+        return page;
+    }
+
+    /**
+     * Looks a board up by either of its ids.
+     */
+    @External(readonly = true)
+    public Board getBoardById(BigInteger boardId) {
+        BoardRef ref = boardIndex.get(boardId);
+        if (ref == null) {
+            throw new IllegalArgumentException("Board with id = " + boardId + " does not exist!");
+        }
+        return boards.get(ref.getIndex());
+    }
+
     @External(readonly = true)
     public Board getRandomBoard() {
         int i = (int) (Context.getBlockTimestamp() % boards.size());
@@ -76,16 +309,228 @@ public class Sudoku {
 
     @External(readonly = true)
     public boolean verify(BigInteger boardId, BigInteger[] a, BigInteger[][] b, BigInteger[] c) {
-        for (int i = 0; i < boards.size(); i++) {
-            Board board = boards.get(i);
-            if (board.getSha256Id().equals(boardId)) {
-                return this.sha256BLS12381Verifier.verifyProof(a, b, c, new BigInteger[]{boardId});
+        BoardRef ref = boardIndex.get(boardId);
+        if (ref == null) {
+            throw new IllegalArgumentException("Board with id = " + boardId + " does not exist!");
+        }
+        return verify(ref, boardId, a, b, c);
+    }
+
+    /**
+     * {@link #verify} for a proof whose points are in the {@link PointCompression} encoding
+     * of the board's curve.
+     */
+    @External(readonly = true)
+    public boolean verifyCompressed(BigInteger boardId, byte[] a, byte[] b, byte[] c) {
+        BoardRef ref = boardIndex.get(boardId);
+        if (ref == null) {
+            throw new IllegalArgumentException("Board with id = " + boardId + " does not exist!");
+        }
+        Curve curve = verifier(ref.getCurve()).curve();
+        return verify(ref, boardId, PointCompression.decompressG1(curve, a), PointCompression.decompressG2(curve, b),
+                PointCompression.decompressG1(curve, c));
+    }
+
+    /**
+     * {@link #verify} for a proof packed as board id (32 bytes, big-endian) followed by A, B
+     * and C in the {@link Groth16Verifier#rawProofSize raw layout} of the board's curve:
+     * 288 bytes for a pedersen id, 416 for a sha256 id. The points are copied into the
+     * pairing input as they are, without decoding into and re-encoding from BigIntegers.
+     */
+    @External(readonly = true)
+    public boolean verifyRaw(byte[] proof) {
+        Context.require(proof.length >= RAW_BOARD_ID_SIZE, "verifyRaw: missing board id");
+        byte[] id = new byte[RAW_BOARD_ID_SIZE];
+        System.arraycopy(proof, 0, id, 0, RAW_BOARD_ID_SIZE);
+        BigInteger boardId = new BigInteger(1, id);
+        BoardRef ref = boardIndex.get(boardId);
+        if (ref == null) {
+            throw new IllegalArgumentException("Board with id = " + boardId + " does not exist!");
+        }
+        Groth16Verifier verifier = verifier(ref.getCurve());
+        byte[] preparedInput = ref.getPreparedInput();
+        if (preparedInput != null && ref.getKeyVersion() == verifyingKeys.version(circuitId(ref.getCurve()))) {
+            return verifier.verifyPreparedRaw(preparedInput, proof, RAW_BOARD_ID_SIZE);
+        }
+        return verifier.verifyRaw(proof, RAW_BOARD_ID_SIZE, new BigInteger[]{boardId});
+    }
+
+    private boolean verify(BoardRef ref, BigInteger boardId, BigInteger[] a, BigInteger[][] b, BigInteger[] c) {
+        Groth16Verifier verifier = verifier(ref.getCurve());
+        byte[] preparedInput = ref.getPreparedInput();
+        // a prepared input is only valid for the key version it was computed with
+        if (preparedInput != null && ref.getKeyVersion() == verifyingKeys.version(circuitId(ref.getCurve()))) {
+            return verifier.verifyProofPrepared(a, b, c, preparedInput);
+        }
+        return verifier.verifyProof(a, b, c, new BigInteger[]{boardId});
+    }
+
+    /**
+     * Verifies a solution proof and records it, so that the same proof for the same board is
+     * never checked twice. A repeat reverts after one storage lookup, before any pairing
+     * check. Each proof costs one fixed 32-byte key, the sha3-256 digest of the board id and
+     * the points in the {@link #verifyRaw} layout, whatever its verdict. Proofs rejected by
+     * {@link #checkProof} are not recorded, since they never reach the pairing.
+     *
+     * <p>The first valid proof of a board from a sender emits {@link #BoardSolved} and is
+     * counted in {@link #getSolveCount} and {@link #getRecentSolvers}, so clients can follow
+     * solves from the event log instead of verifying proofs themselves. The circuits do not
+     * bind a proof to its sender: a Groth16 proof can be re-randomized into new points, and
+     * a proof seen before inclusion can be sent from another account. The counters
+     * therefore count distinct senders per board, each credited once, and a credit does not
+     * show who found the solution.
+     */
+    @External
+    public boolean submitSolution(BigInteger boardId, BigInteger[] a, BigInteger[][] b, BigInteger[] c) {
+        BoardRef ref = boardIndex.get(boardId);
+        if (ref == null) {
+            throw new IllegalArgumentException("Board with id = " + boardId + " does not exist!");
+        }
+        Groth16Verifier verifier = verifier(ref.getCurve());
+        if (verifier.checkProof(a, b, c, new BigInteger[]{boardId}) != ProofValidator.OK) {
+            return false;
+        }
+        Groth16Verifier.Proof proof = verifier.proof(a, b, c);
+        byte[] digest = proofDigest(verifier.curve(), boardId, proof);
+        Context.require(submittedProofs.get(digest) == null, "submitSolution: proof already submitted");
+
+        boolean valid;
+        byte[] preparedInput = ref.getPreparedInput();
+        if (preparedInput != null && ref.getKeyVersion() == verifyingKeys.version(circuitId(ref.getCurve()))) {
+            valid = verifier.verifyPrepared(preparedInput, proof);
+        } else {
+            valid = verifier.verify(new BigInteger[]{boardId}, proof);
+        }
+        submittedProofs.set(digest, valid);
+        if (valid) {
+            recordSolve(ref, boardId, verifier.curve());
+        }
+        return valid;
+    }
+
+    private void recordSolve(BoardRef ref, BigInteger boardId, Curve curve) {
+        Address solver = Context.getCaller();
+        byte[] address = solver.toByteArray();
+        byte[] key = new byte[4 + address.length];
+        int index = ref.getIndex();
+        key[0] = (byte) (index >>> 24);
+        key[1] = (byte) (index >>> 16);
+        key[2] = (byte) (index >>> 8);
+        key[3] = (byte) index;
+        System.arraycopy(address, 0, key, 4, address.length);
+        if (boardSolvers.get(key) != null) {
+            return;
+        }
+        boardSolvers.set(key, Boolean.TRUE);
+        solveCounts.set(index, solveCounts.getOrDefault(index, 0) + 1);
+        int total = totalSolves.getOrDefault(0);
+        if (recentSolvers.size() < RECENT_SOLVERS) {
+            recentSolvers.add(solver);
+        } else {
+            recentSolvers.set(total % RECENT_SOLVERS, solver);
+        }
+        totalSolves.set(total + 1);
+        BoardSolved(boardId, solver, curve.getName());
+    }
+
+    /**
+     * Returns the number of senders credited with a valid solution of a board, through either
+     * of its ids. See {@link #submitSolution} for what a credit means.
+     */
+    @External(readonly = true)
+    public int getSolveCount(BigInteger boardId) {
+        BoardRef ref = boardIndex.get(boardId);
+        if (ref == null) {
+            throw new IllegalArgumentException("Board with id = " + boardId + " does not exist!");
+        }
+        return solveCounts.getOrDefault(ref.getIndex(), 0);
+    }
+
+    @External(readonly = true)
+    public int getTotalSolves() {
+        return totalSolves.getOrDefault(0);
+    }
+
+    /**
+     * Returns the last {@link #RECENT_SOLVERS} senders credited with a solve, newest first.
+     */
+    @External(readonly = true)
+    public Address[] getRecentSolvers() {
+        int size = recentSolvers.size();
+        int total = totalSolves.getOrDefault(0);
+        Address[] solvers = new Address[size];
+        for (int i = 0; i < size; i++) {
+            solvers[i] = recentSolvers.get(Math.floorMod(total - 1 - i, RECENT_SOLVERS));
+        }
+        return solvers;
+    }
+
+    private byte[] proofDigest(Curve curve, BigInteger boardId, Groth16Verifier.Proof proof) {
+        byte[] buf = new byte[RAW_BOARD_ID_SIZE + Groth16Verifier.rawProofSize(curve)];
+        PointCodec.writeFixed(boardId, buf, 0, RAW_BOARD_ID_SIZE);
+        proof.A.writeTo(buf, RAW_BOARD_ID_SIZE);
+        proof.B.writeTo(buf, RAW_BOARD_ID_SIZE + curve.g1Size);
+        proof.C.writeTo(buf, RAW_BOARD_ID_SIZE + curve.g1Size + curve.g2Size);
+        return ops.hash("sha3-256", buf);
+    }
+
+    /**
+     * Runs the cheap validation steps for a proof of the given board without the pairing
+     * check and returns {@link ProofValidator#OK} or the reason code it was rejected with.
+     */
+    @External(readonly = true)
+    public int checkProof(BigInteger boardId, BigInteger[] a, BigInteger[][] b, BigInteger[] c) {
+        BoardRef ref = boardIndex.get(boardId);
+        if (ref == null) {
+            throw new IllegalArgumentException("Board with id = " + boardId + " does not exist!");
+        }
+        return verifier(ref.getCurve()).checkProof(a, b, c, new BigInteger[]{boardId});
+    }
+
+    /**
+     * Verifies the proofs for several boards at once, with one batched pairing check per curve.
+     * Returns true only if every proof is valid.
+     */
+    @External(readonly = true)
+    public boolean verifyBatch(BigInteger[] boardIds, BigInteger[][] a, BigInteger[][][] b, BigInteger[][] c) {
+        int n = boardIds.length;
+        Context.require(a.length == n && b.length == n && c.length == n, "verifyBatch: length mismatch");
+        int[] curves = new int[n];
+        int blsCount = 0;
+        for (int i = 0; i < n; i++) {
+            BoardRef ref = boardIndex.get(boardIds[i]);
+            if (ref == null) {
+                throw new IllegalArgumentException("Board with id = " + boardIds[i] + " does not exist!");
+            }
+            curves[i] = ref.getCurve();
+            if (curves[i] == BoardRef.CURVE_BLS12381) {
+                blsCount++;
             }
-            if (board.getPedersenId().equals(boardId)) {
-                return this.pedersenBN128Verifier.verifyProof(a, b, c, new BigInteger[]{boardId});
+        }
+        return verifyGroup(BoardRef.CURVE_BLS12381, blsCount, curves, boardIds, a, b, c)
+                && verifyGroup(BoardRef.CURVE_BN128, n - blsCount, curves, boardIds, a, b, c);
+    }
+
+    private boolean verifyGroup(int curve, int count, int[] curves, BigInteger[] ids,
+                                BigInteger[][] a, BigInteger[][][] b, BigInteger[][] c) {
+        if (count == 0) {
+            return true;
+        }
+        BigInteger[][] ga = new BigInteger[count][];
+        BigInteger[][][] gb = new BigInteger[count][][];
+        BigInteger[][] gc = new BigInteger[count][];
+        BigInteger[][] inputs = new BigInteger[count][];
+        int k = 0;
+        for (int i = 0; i < curves.length; i++) {
+            if (curves[i] == curve) {
+                ga[k] = a[i];
+                gb[k] = b[i];
+                gc[k] = c[i];
+                inputs[k] = new BigInteger[]{ids[i]};
+                k++;
             }
         }
-        throw new IllegalArgumentException("Board with id = " + boardId + " does not exist!");
+        return verifier(curve).verifyProofs(ga, gb, gc, inputs);
     }
 
 }
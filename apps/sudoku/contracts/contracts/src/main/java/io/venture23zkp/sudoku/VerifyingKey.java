@@ -0,0 +1,113 @@
+package io.venture23zkp.sudoku;
+
+/**
+ * Groth16 verifying key. Its encoded form is one blob whose points are already laid
+ * out the way ecPairingCheck expects them:
+ * version (1) | curve id (1) | nPublic (2) | alfa1 | beta2 | gamma2 | delta2 | IC[0..nPublic]
+ */
+public class VerifyingKey {
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 4;
+
+    final Curve curve;
+    final P1 alfa1;
+    final P2 beta2;
+    final P2 gamma2;
+    final P2 delta2;
+    final P1[] IC;
+
+    // fixed-width encodings of the constant pairing inputs
+    final byte[] alfa1Bytes;
+    final byte[] beta2Bytes;
+    final byte[] gamma2Bytes;
+    final byte[] delta2Bytes;
+
+    VerifyingKey(Curve curve, P1 alfa1, P2 beta2, P2 gamma2, P2 delta2, P1[] IC) {
+        if (IC.length < 1) {
+            throw new IllegalArgumentException("VerifyingKey: missing IC[0]");
+        }
+        this.curve = curve;
+        this.alfa1 = alfa1;
+        this.beta2 = beta2;
+        this.gamma2 = gamma2;
+        this.delta2 = delta2;
+        this.IC = IC;
+        this.alfa1Bytes = alfa1.bytes();
+        this.beta2Bytes = beta2.bytes();
+        this.gamma2Bytes = gamma2.bytes();
+        this.delta2Bytes = delta2.bytes();
+    }
+
+    public Curve getCurve() {
+        return curve;
+    }
+
+    public int nPublic() {
+        return IC.length - 1;
+    }
+
+    public static int encodedSize(Curve curve, int nPublic) {
+        return HEADER_SIZE + curve.g1Size + 3 * curve.g2Size + (nPublic + 1) * curve.g1Size;
+    }
+
+    public byte[] encode() {
+        int nPublic = nPublic();
+        byte[] buf = new byte[encodedSize(curve, nPublic)];
+        buf[0] = FORMAT_VERSION;
+        buf[1] = (byte) curve.id;
+        buf[2] = (byte) (nPublic >>> 8);
+        buf[3] = (byte) nPublic;
+        int offset = HEADER_SIZE;
+        System.arraycopy(alfa1Bytes, 0, buf, offset, curve.g1Size);
+        offset += curve.g1Size;
+        System.arraycopy(beta2Bytes, 0, buf, offset, curve.g2Size);
+        offset += curve.g2Size;
+        System.arraycopy(gamma2Bytes, 0, buf, offset, curve.g2Size);
+        offset += curve.g2Size;
+        System.arraycopy(delta2Bytes, 0, buf, offset, curve.g2Size);
+        offset += curve.g2Size;
+        for (int i = 0; i < IC.length; i++) {
+            IC[i].writeTo(buf, offset);
+            offset += curve.g1Size;
+        }
+        return buf;
+    }
+
+    public static VerifyingKey decode(byte[] buf) {
+        if (buf.length < HEADER_SIZE || buf[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("VerifyingKey.decode: invalid data layout!");
+        }
+        Curve curve = Curve.byId(buf[1]);
+        int nPublic = ((buf[2] & 0xff) << 8) | (buf[3] & 0xff);
+        if (buf.length != encodedSize(curve, nPublic)) {
+            throw new IllegalArgumentException("VerifyingKey.decode: invalid data layout!");
+        }
+        int offset = HEADER_SIZE;
+        P1 alfa1 = new P1(curve, buf, offset);
+        offset += curve.g1Size;
+        P2 beta2 = new P2(curve, buf, offset);
+        offset += curve.g2Size;
+        P2 gamma2 = new P2(curve, buf, offset);
+        offset += curve.g2Size;
+        P2 delta2 = new P2(curve, buf, offset);
+        offset += curve.g2Size;
+        P1[] IC = new P1[nPublic + 1];
+        for (int i = 0; i < IC.length; i++) {
+            IC[i] = new P1(curve, buf, offset);
+            offset += curve.g1Size;
+        }
+        return new VerifyingKey(curve, alfa1, beta2, gamma2, delta2, IC);
+    }
+
+    /**
+     * Decodes a key embedded by the verifier generator as a string constant holding the
+     * {@link #encode()} bytes one per char.
+     */
+    static VerifyingKey decodeConstant(String encoded) {
+        byte[] buf = new byte[encoded.length()];
+        for (int i = 0; i < buf.length; i++) {
+            buf[i] = (byte) encoded.charAt(i);
+        }
+        return decode(buf);
+    }
+}
@@ -0,0 +1,78 @@
+package io.venture23zkp.sudoku;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import score.Context;
+import score.DictDB;
+import scorex.util.HashMap;
+
+/**
+ * Verifying keys registered per circuit id, stored as encoded {@link VerifyingKey} blobs.
+ * A key is decoded at most once per transaction; later lookups in the same transaction
+ * reuse the decoded verifier.
+ */
+public class VerifyingKeyStore {
+
+    private final DictDB<String, byte[]> keys = Context.newDictDB("verifyingKeys", byte[].class);
+    // bumped on every registration, so values derived from an older key can be detected
+    private final DictDB<String, Integer> versions = Context.newDictDB("verifyingKeyVersions", Integer.class);
+
+    private final CurveOps ops;
+    private final Map<String, Groth16Verifier> verifiers = new HashMap<>();
+    private final Map<String, Integer> cachedVersions = new HashMap<>();
+    private long cacheHeight = -1;
+    private byte[] cacheTx;
+
+    public VerifyingKeyStore(CurveOps ops) {
+        this.ops = ops;
+    }
+
+    public void register(String circuitId, byte[] encoded) {
+        VerifyingKey.decode(encoded);
+        keys.set(circuitId, encoded);
+        versions.set(circuitId, version(circuitId) + 1);
+        verifiers.remove(circuitId);
+        cachedVersions.remove(circuitId);
+    }
+
+    /**
+     * Returns the verifier for the registered key of {@code circuitId}, or null if
+     * no key has been registered for it.
+     */
+    public Groth16Verifier get(String circuitId) {
+        resetOnNewTransaction();
+        if (verifiers.containsKey(circuitId)) {
+            return verifiers.get(circuitId);
+        }
+        byte[] encoded = keys.get(circuitId);
+        Groth16Verifier verifier = encoded == null ? null : new Groth16Verifier(VerifyingKey.decode(encoded), ops);
+        verifiers.put(circuitId, verifier);
+        return verifier;
+    }
+
+    /**
+     * Returns how many times a key has been registered for {@code circuitId}; 0 means
+     * the built-in key is in use.
+     */
+    public int version(String circuitId) {
+        resetOnNewTransaction();
+        Integer version = cachedVersions.get(circuitId);
+        if (version == null) {
+            version = versions.getOrDefault(circuitId, 0);
+            cachedVersions.put(circuitId, version);
+        }
+        return version;
+    }
+
+    private void resetOnNewTransaction() {
+        long height = Context.getBlockHeight();
+        byte[] tx = Context.getTransactionHash();
+        if (height != cacheHeight || !Arrays.equals(tx, cacheTx)) {
+            verifiers.clear();
+            cachedVersions.clear();
+            cacheHeight = height;
+            cacheTx = tx;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package io.venture23zkp.sudoku;
+
+import com.iconloop.score.test.Account;
+import com.iconloop.score.test.Score;
+import com.iconloop.score.test.ServiceManager;
+import com.iconloop.score.test.TestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardCatalogTest extends TestBase {
+    private static final ServiceManager sm = getServiceManager();
+    private static final Account owner = sm.createAccount();
+    private static final Account alice = sm.createAccount();
+    private static final int BUILTIN_BOARDS = 3;
+
+    private static final int[][] CLUES = {
+            { 0, 2, 7, 5, 0, 4, 0, 0, 0 },
+            { 0, 0, 0, 3, 7, 0, 0, 0, 4 },
+            { 3, 0, 0, 0, 0, 0, 8, 0, 0 },
+            { 4, 7, 0, 9, 5, 8, 0, 3, 6 },
+            { 2, 6, 8, 7, 1, 0, 0, 4, 9 },
+            { 0, 0, 0, 0, 0, 2, 0, 1, 8 },
+            { 0, 8, 3, 0, 9, 0, 4, 0, 0 },
+            { 7, 1, 0, 0, 0, 0, 9, 0, 2 },
+            { 0, 0, 0, 0, 0, 5, 0, 0, 7 }
+    };
+
+    private Score sudoku;
+
+    @BeforeEach
+    void setup() throws Exception {
+        sudoku = sm.deploy(owner, Sudoku.class);
+    }
+
+    // ids below both scalar fields, so every board gets prepared inputs on both curves
+    private static Board[] boards(int n, long seed) {
+        Random rnd = new Random(seed);
+        Board[] boards = new Board[n];
+        for (int i = 0; i < n; i++) {
+            boards[i] = new Board(new BigInteger(240, rnd), new BigInteger(240, rnd), CLUES);
+        }
+        return boards;
+    }
+
+    private static byte[] payload(int start, Board... boards) {
+        byte[] buf = new byte[Sudoku.BOARDS_HEADER_SIZE + boards.length * Board.ENCODED_SIZE];
+        buf[0] = Sudoku.BOARDS_FORMAT_VERSION;
+        buf[1] = (byte) (start >>> 24);
+        buf[2] = (byte) (start >>> 16);
+        buf[3] = (byte) (start >>> 8);
+        buf[4] = (byte) start;
+        for (int i = 0; i < boards.length; i++) {
+            System.arraycopy(boards[i].encode(), 0, buf, Sudoku.BOARDS_HEADER_SIZE + i * Board.ENCODED_SIZE,
+                    Board.ENCODED_SIZE);
+        }
+        return buf;
+    }
+
+    private int imported() {
+        return (Integer) sudoku.call("getBoardCount") - BUILTIN_BOARDS;
+    }
+
+    @Test
+    void importsInChunksAndResumesFromTheCursor() {
+        Board[] boards = boards(7, 1);
+        byte[] payload = payload(BUILTIN_BOARDS, boards);
+        sudoku.invoke(owner, "addBoards", payload, 3);
+        assertEquals(3, imported());
+        // resending the same payload skips what is already in the catalogue
+        sudoku.invoke(owner, "addBoards", payload, 3);
+        assertEquals(6, imported());
+        sudoku.invoke(owner, "addBoards", payload, 3);
+        assertEquals(7, imported());
+        sudoku.invoke(owner, "addBoards", payload, 3);
+        assertEquals(7, imported());
+
+        // a slice that starts at the cursor
+        Board[] more = boards(2, 2);
+        sudoku.invoke(owner, "addBoards", payload(BUILTIN_BOARDS + 7, more), 100);
+        assertEquals(9, imported());
+    }
+
+    @Test
+    void importedBoardsAreIndexedAsTheyAreAdded() {
+        assertEquals(BUILTIN_BOARDS, sudoku.call("getIndexedBoardCount"));
+        sudoku.invoke(owner, "addBoards", payload(BUILTIN_BOARDS, boards(4, 5)), 10);
+        assertEquals(BUILTIN_BOARDS + 4, sudoku.call("getIndexedBoardCount"));
+        // nothing is left for the backfill of boards stored before the index
+        sudoku.invoke(owner, "indexBoards", 10);
+        assertEquals(BUILTIN_BOARDS + 4, sudoku.call("getIndexedBoardCount"));
+        assertThrows(AssertionError.class, () -> sudoku.invoke(alice, "indexBoards", 10));
+        assertThrows(AssertionError.class, () -> sudoku.invoke(owner, "indexBoards", 0));
+    }
+
+    @Test
+    void rejectsBadPayloads() {
+        Board[] boards = boards(2, 3);
+        assertThrows(AssertionError.class, () -> sudoku.invoke(alice, "addBoards", payload(BUILTIN_BOARDS, boards), 10));
+        assertThrows(AssertionError.class, () -> sudoku.invoke(owner, "addBoards", payload(BUILTIN_BOARDS + 1, boards), 10));
+        assertThrows(AssertionError.class, () -> sudoku.invoke(owner, "addBoards", payload(BUILTIN_BOARDS, boards), 0));
+
+        byte[] truncated = payload(BUILTIN_BOARDS, boards);
+        assertThrows(AssertionError.class, () -> sudoku.invoke(owner, "addBoards",
+                Arrays.copyOf(truncated, truncated.length - 1), 10));
+
+        // a bad second record reverts the first one too
+        byte[] badCell = payload(BUILTIN_BOARDS, boards);
+        badCell[Sudoku.BOARDS_HEADER_SIZE + Board.ENCODED_SIZE + 1 + 2 * Board.ID_SIZE] = (byte) 0xa0;
+        assertThrows(IllegalArgumentException.class, () -> sudoku.invoke(owner, "addBoards", badCell, 10));
+        int[][] repeated = new int[9][9];
+        repeated[0][0] = 5;
+        repeated[8][0] = 5;
+        Board conflicting = new Board(BigInteger.valueOf(7), BigInteger.valueOf(8), repeated);
+        assertThrows(IllegalArgumentException.class, () -> sudoku.invoke(owner, "addBoards",
+                payload(BUILTIN_BOARDS, boards[0], conflicting), 10));
+        assertEquals(0, imported());
+
+        // ids that fit the 32-byte encoding but not the scalar field of their circuit
+        Board sha256Outside = new Board(Curve.BLS12_381.scalarField, BigInteger.valueOf(10), CLUES);
+        Board pedersenOutside = new Board(BigInteger.valueOf(11), Curve.BN128.scalarField, CLUES);
+        for (Board outside : new Board[] { sha256Outside, pedersenOutside }) {
+            assertThrows(AssertionError.class, () -> sudoku.invoke(owner, "addBoards",
+                    payload(BUILTIN_BOARDS, boards[0], outside), 10));
+        }
+        assertEquals(0, imported());
+
+        Board duplicate = new Board(BigInteger.valueOf(9), boards[0].getPedersenId(), CLUES);
+        assertThrows(AssertionError.class, () -> sudoku.invoke(owner, "addBoards",
+                payload(BUILTIN_BOARDS, boards[0], duplicate), 10));
+        assertEquals(0, imported());
+    }
+
+    @Test
+    void pagesMirrorTheCatalogue() throws Exception {
+        Board[] boards = boards(5, 4);
+        byte[] payload = payload(BUILTIN_BOARDS, boards);
+        sudoku.invoke(owner, "addBoards", payload, 10);
+        int count = (Integer) sudoku.call("getBoardCount");
+        assertEquals(BUILTIN_BOARDS + 5, count);
+
+        assertArrayEquals(payload, (byte[]) sudoku.call("getBoards", BUILTIN_BOARDS, 100));
+        byte[] page = (byte[]) sudoku.call("getBoards", 0, 2);
+        assertEquals(Sudoku.BOARDS_HEADER_SIZE + 2 * Board.ENCODED_SIZE, page.length);
+        assertEquals(Sudoku.BOARDS_HEADER_SIZE, ((byte[]) sudoku.call("getBoards", count, 10)).length);
+        assertThrows(AssertionError.class, () -> sudoku.call("getBoards", count + 1, 10));
+
+        for (Board board : boards) {
+            assertArrayEquals(board.encode(), ((Board) sudoku.call("getBoardById", board.getSha256Id())).encode());
+            assertArrayEquals(board.encode(), ((Board) sudoku.call("getBoardById", board.getPedersenId())).encode());
+        }
+        assertThrows(IllegalArgumentException.class, () -> sudoku.call("getBoardById", BigInteger.TEN));
+
+        // pages re-import into a fresh deployment as they are
+        List<byte[]> pages = new ArrayList<>();
+        for (int offset = BUILTIN_BOARDS; offset < count; offset += 2) {
+            pages.add((byte[]) sudoku.call("getBoards", offset, 2));
+        }
+        Score mirror = sm.deploy(owner, Sudoku.class);
+        for (byte[] p : pages) {
+            mirror.invoke(owner, "addBoards", p, 2);
+        }
+        assertEquals(count, mirror.call("getBoardCount"));
+        assertArrayEquals(payload, (byte[]) mirror.call("getBoards", BUILTIN_BOARDS, 100));
+    }
+}
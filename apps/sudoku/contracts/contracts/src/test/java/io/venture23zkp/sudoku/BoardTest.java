@@ -0,0 +1,110 @@
+package io.venture23zkp.sudoku;
+
+import com.iconloop.score.test.TestBase;
+import org.junit.jupiter.api.Test;
+import score.ByteArrayObjectWriter;
+import score.Context;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardTest extends TestBase {
+    private static final BigInteger SHA256_ID = new BigInteger(
+            "107892420655660906236019058477082710171022090417415360920355362860546940302805");
+    private static final BigInteger PEDERSEN_ID = new BigInteger(
+            "4734607875457860383511038714947529190779064469715356965082230943676408289143");
+
+    private static final int[][] CELLS = {
+            { 0, 2, 7, 5, 0, 4, 0, 0, 0 },
+            { 0, 0, 0, 3, 7, 0, 0, 0, 4 },
+            { 3, 0, 0, 0, 0, 0, 8, 0, 0 },
+            { 4, 7, 0, 9, 5, 8, 0, 3, 6 },
+            { 2, 6, 8, 7, 1, 0, 0, 4, 9 },
+            { 0, 0, 0, 0, 0, 2, 0, 1, 8 },
+            { 0, 8, 3, 0, 9, 0, 4, 0, 0 },
+            { 7, 1, 0, 0, 0, 0, 9, 0, 2 },
+            { 0, 0, 0, 0, 0, 5, 0, 0, 7 }
+    };
+
+    private static Board board() {
+        return new Board(SHA256_ID, PEDERSEN_ID, CELLS);
+    }
+
+    private static void assertSameBoard(Board expected, Board actual) {
+        assertEquals(expected.getSha256Id(), actual.getSha256Id());
+        assertEquals(expected.getPedersenId(), actual.getPedersenId());
+        assertArrayEquals(expected.getData(), actual.getData());
+    }
+
+    private static Board read(ByteArrayObjectWriter w) {
+        return Board.readObject(Context.newByteArrayObjectReader("RLPn", w.toByteArray()));
+    }
+
+    @Test
+    void encodesToTheCompactLayout() {
+        byte[] encoded = board().encode();
+        assertEquals(Board.ENCODED_SIZE, encoded.length);
+        assertEquals(Board.FORMAT_VERSION, encoded[0]);
+        // ids at fixed width, big-endian
+        assertEquals(SHA256_ID, new BigInteger(1, Arrays.copyOfRange(encoded, 1, 1 + Board.ID_SIZE)));
+        assertEquals(PEDERSEN_ID, new BigInteger(1, Arrays.copyOfRange(encoded, 1 + Board.ID_SIZE, 1 + 2 * Board.ID_SIZE)));
+        // two cells per byte, high nibble first, and a clear padding nibble
+        assertEquals((byte) 0x02, encoded[1 + 2 * Board.ID_SIZE]);
+        assertEquals((byte) 0x75, encoded[1 + 2 * Board.ID_SIZE + 1]);
+        assertEquals((byte) 0x70, encoded[Board.ENCODED_SIZE - 1]);
+
+        assertSameBoard(board(), Board.decode(encoded));
+        assertArrayEquals(encoded, Board.decode(encoded).encode());
+        byte[] shifted = new byte[3 + Board.ENCODED_SIZE];
+        System.arraycopy(encoded, 0, shifted, 3, encoded.length);
+        assertSameBoard(board(), Board.decode(shifted, 3));
+    }
+
+    @Test
+    void rejectsMalformedEncodings() {
+        byte[] encoded = board().encode();
+        assertThrows(IllegalArgumentException.class, () -> Board.decode(Arrays.copyOf(encoded, encoded.length - 1)));
+        assertThrows(IllegalArgumentException.class, () -> Board.decode(encoded, 1));
+        byte[] version = encoded.clone();
+        version[0] = 2;
+        assertThrows(IllegalArgumentException.class, () -> Board.decode(version));
+
+        byte[] padding = encoded.clone();
+        padding[Board.ENCODED_SIZE - 1] |= 1;
+        assertThrows(IllegalArgumentException.class, () -> Board.decode(padding).validate());
+        byte[] cell = encoded.clone();
+        cell[1 + 2 * Board.ID_SIZE] = (byte) 0xa2;
+        assertThrows(IllegalArgumentException.class, () -> Board.decode(cell).validate());
+        byte[] repeat = encoded.clone();
+        repeat[1 + 2 * Board.ID_SIZE] = (byte) 0x72;
+        assertThrows(IllegalArgumentException.class, () -> Board.decode(repeat).validate());
+        board().validate();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new Board(BigInteger.ONE.shiftLeft(256), PEDERSEN_ID, CELLS).encode());
+    }
+
+    @Test
+    void readsBothStoredLayouts() {
+        ByteArrayObjectWriter compact = Context.newByteArrayObjectWriter("RLPn");
+        Board.writeObject(compact, board());
+        assertSameBoard(board(), read(compact));
+
+        // a list of both ids and the 81 cells, as boards were stored before the compact layout
+        ByteArrayObjectWriter legacy = Context.newByteArrayObjectWriter("RLPn");
+        legacy.beginList(2 + 81);
+        legacy.write(SHA256_ID);
+        legacy.write(PEDERSEN_ID);
+        for (int[] row : CELLS) {
+            for (int v : row) {
+                legacy.write(v);
+            }
+        }
+        legacy.end();
+        Board migrated = read(legacy);
+        assertSameBoard(board(), migrated);
+        assertArrayEquals(board().encode(), migrated.encode());
+    }
+}
@@ -0,0 +1,71 @@
+package io.venture23zkp.sudoku;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the keys embedded by :contracts:generateVerifiers against the verification_key.json
+ * they were generated from, read here without the generator.
+ */
+class GeneratedVerifierTest {
+    private static final Pattern NUMBER = Pattern.compile("\"(\\d+)\"");
+
+    // the decimal strings of one top-level entry, in document order
+    private static List<BigInteger> numbers(String json, String key) {
+        int start = json.indexOf("\"" + key + "\"");
+        assertTrue(start >= 0, key);
+        int end = json.indexOf("\n \"", start + 1);
+        Matcher m = NUMBER.matcher(json.substring(start, end < 0 ? json.length() : end));
+        List<BigInteger> numbers = new ArrayList<>();
+        while (m.find()) {
+            numbers.add(new BigInteger(m.group(1)));
+        }
+        return numbers;
+    }
+
+    // snarkjs writes [x, y, 1]
+    private static P1 g1(Curve curve, List<BigInteger> n, int offset) {
+        return new P1(curve, n.get(offset), n.get(offset + 1));
+    }
+
+    // snarkjs writes [[x_re, x_im], [y_re, y_im], [1, 0]]
+    private static P2 g2(Curve curve, List<BigInteger> n) {
+        return new P2(curve, n.get(1), n.get(0), n.get(3), n.get(2));
+    }
+
+    private static VerifyingKey fromJson(String path, Curve curve) throws IOException {
+        String json = new String(Files.readAllBytes(Paths.get(path)), StandardCharsets.UTF_8);
+        List<BigInteger> ic = numbers(json, "IC");
+        P1[] IC = new P1[ic.size() / 3];
+        for (int i = 0; i < IC.length; i++) {
+            IC[i] = g1(curve, ic, 3 * i);
+        }
+        return new VerifyingKey(curve, g1(curve, numbers(json, "vk_alpha_1"), 0), g2(curve, numbers(json, "vk_beta_2")),
+                g2(curve, numbers(json, "vk_gamma_2")), g2(curve, numbers(json, "vk_delta_2")), IC);
+    }
+
+    @Test
+    void pedersenKeyMatchesItsVerificationKeyJson() throws IOException {
+        VerifyingKey expected = fromJson("zk/sudoku_pedersen/verification_key.json", Curve.BN128);
+        assertEquals(1, expected.nPublic());
+        assertArrayEquals(expected.encode(), PedersenBN128Verifier.builtinVerifyingKey().encode());
+    }
+
+    @Test
+    void sha256KeyMatchesItsVerificationKeyJson() throws IOException {
+        VerifyingKey expected = fromJson("zk/sudoku_sha256/verification_key.json", Curve.BLS12_381);
+        assertEquals(1, expected.nPublic());
+        assertArrayEquals(expected.encode(), Sha256BLS12381Verifier.builtinVerifyingKey().encode());
+    }
+}
@@ -0,0 +1,135 @@
+package io.venture23zkp.sudoku;
+
+import io.venture23zkp.sudoku.curves.JvmCurveOps;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Groth16VerifierTest {
+    private static final CurveOps ops = JvmCurveOps.INSTANCE;
+
+    private static TestKeys keys(int curveId, int nPublic) {
+        return new TestKeys(Curve.byId(curveId), nPublic, 31 + curveId, ops);
+    }
+
+    private static Groth16Verifier.Proof proof(Groth16Verifier verifier, TestKeys.TestProof p) {
+        return verifier.proof(p.a, p.b, p.c);
+    }
+
+    private static BigInteger[] input(int i) {
+        return new BigInteger[] { BigInteger.valueOf(1000 + i), BigInteger.valueOf(i) };
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1})
+    void batchFailsIfAnyProofFails(int curveId) {
+        TestKeys keys = keys(curveId, 2);
+        Groth16Verifier verifier = new Groth16Verifier(keys.vk, ops);
+        int n = 4;
+        BigInteger[][] inputs = new BigInteger[n][];
+        Groth16Verifier.Proof[] proofs = new Groth16Verifier.Proof[n];
+        for (int i = 0; i < n; i++) {
+            inputs[i] = input(i);
+            proofs[i] = proof(verifier, keys.prove(inputs[i]));
+        }
+        assertTrue(verifier.verifyBatch(inputs, proofs));
+        assertTrue(verifier.verifyBatch(new BigInteger[][] { inputs[2] }, new Groth16Verifier.Proof[] { proofs[2] }));
+
+        for (int bad = 0; bad < n; bad++) {
+            // a valid proof presented for another statement
+            BigInteger[][] wrongInputs = inputs.clone();
+            wrongInputs[bad] = input(bad + 1);
+            assertFalse(verifier.verifyBatch(wrongInputs, proofs), "input of proof " + bad);
+
+            Groth16Verifier.Proof[] swapped = proofs.clone();
+            swapped[bad] = proof(verifier, keys.prove(input(bad + 1)));
+            assertFalse(verifier.verifyBatch(inputs, swapped), "proof " + bad);
+        }
+
+        // two proofs swapped between their statements
+        Groth16Verifier.Proof[] crossed = proofs.clone();
+        crossed[0] = proofs[1];
+        crossed[1] = proofs[0];
+        assertFalse(verifier.verifyBatch(inputs, crossed));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> verifier.verifyBatch(new BigInteger[0][], new Groth16Verifier.Proof[0]));
+        assertThrows(IllegalArgumentException.class,
+                () -> verifier.verifyBatch(new BigInteger[][] { { BigInteger.ONE } }, new Groth16Verifier.Proof[] { proofs[0] }));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1})
+    void preparedInputsAgreeWithVerify(int curveId) {
+        TestKeys keys = keys(curveId, 2);
+        Groth16Verifier verifier = new Groth16Verifier(keys.vk, ops);
+        Curve curve = verifier.curve();
+        for (int i = 0; i < 3; i++) {
+            BigInteger[] input = input(i);
+            byte[] prepared = verifier.prepareInputs(input);
+            assertEquals(curve.g1Size, prepared.length);
+            TestKeys.TestProof valid = keys.prove(input);
+            TestKeys.TestProof other = keys.prove(input(i + 1));
+            for (TestKeys.TestProof p : new TestKeys.TestProof[] { valid, other }) {
+                boolean expected = verifier.verify(input, proof(verifier, p));
+                assertEquals(p == valid, expected);
+                assertEquals(expected, verifier.verifyPrepared(prepared, proof(verifier, p)));
+                assertEquals(expected, verifier.verifyProofPrepared(p.a, p.b, p.c, prepared));
+
+                byte[] raw = new byte[Groth16Verifier.rawProofSize(curve)];
+                proof(verifier, p).A.writeTo(raw, 0);
+                proof(verifier, p).B.writeTo(raw, curve.g1Size);
+                proof(verifier, p).C.writeTo(raw, curve.g1Size + curve.g2Size);
+                assertEquals(expected, verifier.verifyRaw(raw, 0, input));
+                assertEquals(expected, verifier.verifyPreparedRaw(prepared, raw, 0));
+            }
+        }
+        // a prepared input only accepts proofs of the statement it was computed for
+        TestKeys.TestProof p = keys.prove(input(0));
+        assertFalse(verifier.verifyPrepared(verifier.prepareInputs(input(1)), proof(verifier, p)));
+
+        assertNull(verifier.prepareInputs(new BigInteger[] { BigInteger.ONE }));
+        assertNull(verifier.prepareInputs(new BigInteger[] { BigInteger.ONE, curve.scalarField }));
+        assertNull(verifier.prepareInputs(new BigInteger[] { BigInteger.ONE, BigInteger.ONE.negate() }));
+
+        // a negative input is rejected up front instead of leaving verify without a prepared input
+        BigInteger[] negative = { BigInteger.ONE, BigInteger.ONE.negate() };
+        assertEquals("verifier-negative-input", assertThrows(IllegalArgumentException.class,
+                () -> verifier.verify(negative, proof(verifier, p))).getMessage());
+        assertEquals("verifier-negative-input", assertThrows(IllegalArgumentException.class,
+                () -> verifier.verifyBatch(new BigInteger[][] { negative },
+                        new Groth16Verifier.Proof[] { proof(verifier, p) })).getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1})
+    void encodedKeysDecodeToTheSameVerifier(int curveId) {
+        TestKeys keys = keys(curveId, 3);
+        byte[] encoded = keys.vk.encode();
+        assertEquals(VerifyingKey.encodedSize(keys.vk.curve, 3), encoded.length);
+        VerifyingKey decoded = VerifyingKey.decode(encoded);
+        assertEquals(keys.vk.curve, decoded.getCurve());
+        assertEquals(3, decoded.nPublic());
+        assertArrayEquals(encoded, decoded.encode());
+
+        BigInteger[] input = { BigInteger.ONE, BigInteger.TWO, BigInteger.TEN };
+        TestKeys.TestProof p = keys.prove(input);
+        Groth16Verifier verifier = new Groth16Verifier(decoded, ops);
+        assertTrue(verifier.verifyProof(p.a, p.b, p.c, input));
+        assertFalse(verifier.verifyProof(p.a, p.b, p.c, new BigInteger[] { BigInteger.ONE, BigInteger.TWO, BigInteger.ONE }));
+
+        assertThrows(IllegalArgumentException.class, () -> VerifyingKey.decode(Arrays.copyOf(encoded, encoded.length - 1)));
+        assertThrows(IllegalArgumentException.class, () -> VerifyingKey.decode(new byte[3]));
+        byte[] version = encoded.clone();
+        version[0] = 2;
+        assertThrows(IllegalArgumentException.class, () -> VerifyingKey.decode(version));
+        // an nPublic that does not match the number of IC points
+        byte[] count = encoded.clone();
+        count[3] = 2;
+        assertThrows(IllegalArgumentException.class, () -> VerifyingKey.decode(count));
+    }
+}
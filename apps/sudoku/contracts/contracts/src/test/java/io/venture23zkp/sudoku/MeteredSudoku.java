@@ -0,0 +1,15 @@
+package io.venture23zkp.sudoku;
+
+import io.venture23zkp.sudoku.curves.JvmCurveOps;
+import io.venture23zkp.sudoku.curves.MeteredCurveOps;
+
+/**
+ * {@link Sudoku} on the JVM EC backend, with every EC call metered.
+ */
+public class MeteredSudoku extends Sudoku {
+    static final MeteredCurveOps OPS = new MeteredCurveOps(JvmCurveOps.INSTANCE);
+
+    public MeteredSudoku() {
+        super(OPS);
+    }
+}
@@ -0,0 +1,80 @@
+package io.venture23zkp.sudoku;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointCodecTest {
+
+    @Test
+    void writesExactlyTheFieldWidth() {
+        byte[] buf = new byte[40];
+        Arrays.fill(buf, (byte) 0xee);
+        PointCodec.writeFixed(BigInteger.valueOf(0x0102), buf, 4, 32);
+        // leading bytes of a dirty buffer are cleared, the bytes around it are untouched
+        assertEquals((byte) 0xee, buf[3]);
+        for (int i = 4; i < 34; i++) {
+            assertEquals(0, buf[i], "byte " + i);
+        }
+        assertEquals(1, buf[34]);
+        assertEquals(2, buf[35]);
+        assertEquals((byte) 0xee, buf[36]);
+        assertEquals(BigInteger.valueOf(0x0102), PointCodec.readUnsigned(buf, 4, 32));
+
+        // a full-width value, whose toByteArray() carries an extra sign byte
+        BigInteger top = BigInteger.ONE.shiftLeft(8 * 48).subtract(BigInteger.ONE);
+        byte[] wide = new byte[48];
+        PointCodec.writeFixed(top, wide, 0, 48);
+        assertEquals(top, PointCodec.readUnsigned(wide, 0, 48));
+
+        assertThrows(IllegalArgumentException.class, () -> PointCodec.writeFixed(top.add(BigInteger.ONE), wide, 0, 48));
+        assertThrows(IllegalArgumentException.class, () -> PointCodec.writeFixed(BigInteger.ONE.negate(), wide, 0, 48));
+    }
+
+    @Test
+    void negatesWithoutLeavingTheEncoding() {
+        Random rnd = new Random(6);
+        for (Curve curve : new Curve[] { Curve.BN128, Curve.BLS12_381 }) {
+            int w = curve.baseFieldSize;
+            byte[] src = new byte[w + 1];
+            byte[] dst = new byte[w + 2];
+            for (int i = 0; i < 50; i++) {
+                BigInteger v = i == 0 ? BigInteger.ONE : i == 1 ? curve.baseField.subtract(BigInteger.ONE)
+                        : new BigInteger(curve.baseField.bitLength(), rnd).mod(curve.baseField);
+                PointCodec.writeFixed(v, src, 1, w);
+                PointCodec.writeNegated(curve.baseFieldBytes, src, 1, dst, 2, w);
+                assertEquals(curve.baseField.subtract(v), PointCodec.readUnsigned(dst, 2, w));
+            }
+            PointCodec.writeFixed(BigInteger.ZERO, src, 1, w);
+            Arrays.fill(dst, (byte) 0xee);
+            PointCodec.writeNegated(curve.baseFieldBytes, src, 1, dst, 2, w);
+            assertEquals(BigInteger.ZERO, PointCodec.readUnsigned(dst, 2, w));
+        }
+    }
+
+    @Test
+    void pointsWriteTheirPairingEncodingInPlace() {
+        for (Curve curve : new Curve[] { Curve.BN128, Curve.BLS12_381 }) {
+            int w = curve.baseFieldSize;
+            P1 g1 = P1.generator(curve);
+            P2 g2 = P2.generator(curve);
+            byte[] buf = new byte[5 + curve.pairSize];
+            g1.writeTo(buf, 5);
+            g2.writeTo(buf, 5 + curve.g1Size);
+            assertArrayEquals(g1.bytes(), Arrays.copyOfRange(buf, 5, 5 + curve.g1Size));
+            assertArrayEquals(g2.bytes(), Arrays.copyOfRange(buf, 5 + curve.g1Size, buf.length));
+            assertEquals(g1.y, PointCodec.readUnsigned(buf, 5 + w, w));
+            // B imaginary part first: x0 | x1 | y0 | y1
+            assertEquals(g2.x0, PointCodec.readUnsigned(buf, 5 + curve.g1Size, w));
+            assertEquals(g2.y1, PointCodec.readUnsigned(buf, 5 + curve.g1Size + 3 * w, w));
+            assertTrue(g1.equals(new P1(curve, buf, 5)));
+            P2 read = new P2(curve, buf, 5 + curve.g1Size);
+            assertArrayEquals(g2.bytes(), read.bytes());
+            assertArrayEquals(g1.neg().bytes(), new P1(curve, g1.x, curve.baseField.subtract(g1.y)).bytes());
+        }
+    }
+}
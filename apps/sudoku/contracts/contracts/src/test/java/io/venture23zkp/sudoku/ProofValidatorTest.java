@@ -0,0 +1,98 @@
+package io.venture23zkp.sudoku;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProofValidatorTest {
+
+    private static VerifyingKey key(Curve curve) {
+        return curve == Curve.BN128 ? PedersenBN128Verifier.builtinVerifyingKey()
+                : Sha256BLS12381Verifier.builtinVerifyingKey();
+    }
+
+    private static BigInteger[] a(Curve curve) {
+        P1 g = P1.generator(curve);
+        return new BigInteger[] { g.x, g.y };
+    }
+
+    private static BigInteger[][] b(Curve curve) {
+        P2 g = P2.generator(curve);
+        return new BigInteger[][] { { g.x0, g.x1 }, { g.y0, g.y1 } };
+    }
+
+    private static int validate(Curve curve, BigInteger[] a, BigInteger[][] b, BigInteger[] c, BigInteger... input) {
+        return ProofValidator.validate(key(curve), a, b, c, input);
+    }
+
+    @Test
+    void returnsTheReasonOfTheFirstFailingCheck() {
+        for (Curve curve : new Curve[] { Curve.BN128, Curve.BLS12_381 }) {
+            BigInteger q = curve.baseField;
+            BigInteger[] g1 = a(curve);
+            BigInteger[][] g2 = b(curve);
+            BigInteger one = BigInteger.ONE;
+            assertEquals(ProofValidator.OK, validate(curve, g1, g2, g1, one));
+            assertEquals(ProofValidator.OK, ProofValidator.validate(key(curve), g1, g2, g1, null));
+
+            assertEquals(ProofValidator.BAD_SHAPE, validate(curve, new BigInteger[] { g1[0] }, g2, g1, one));
+            assertEquals(ProofValidator.BAD_SHAPE, validate(curve, g1, new BigInteger[][] { g2[0] }, g1, one));
+            assertEquals(ProofValidator.BAD_SHAPE, validate(curve, g1, g2, new BigInteger[] { g1[0], null }, one));
+            assertEquals(ProofValidator.BAD_SHAPE, validate(curve, g1, g2, g1, one, one));
+
+            BigInteger[] zero = { curve.g1Zero[0], curve.g1Zero[1] };
+            BigInteger[][] zero2 = { { curve.g2Zero[0], curve.g2Zero[1] }, { curve.g2Zero[2], curve.g2Zero[3] } };
+            assertEquals(ProofValidator.POINT_AT_INFINITY, validate(curve, zero, g2, g1, one));
+            assertEquals(ProofValidator.POINT_AT_INFINITY, validate(curve, g1, zero2, g1, one));
+            // infinity is reported before the out-of-field input
+            assertEquals(ProofValidator.POINT_AT_INFINITY, validate(curve, g1, g2, zero, curve.scalarField));
+
+            // the same point with x shifted by the modulus
+            assertEquals(ProofValidator.COORDINATE_OUT_OF_FIELD,
+                    validate(curve, new BigInteger[] { g1[0].add(q), g1[1] }, g2, g1, one));
+            assertEquals(ProofValidator.COORDINATE_OUT_OF_FIELD,
+                    validate(curve, g1, new BigInteger[][] { g2[0], { g2[1][0], g2[1][1].negate() } }, g1, one));
+
+            assertEquals(ProofValidator.INPUT_OUT_OF_FIELD, validate(curve, g1, g2, g1, curve.scalarField));
+            assertEquals(ProofValidator.INPUT_OUT_OF_FIELD, validate(curve, g1, g2, g1, one.negate()));
+
+            assertEquals(ProofValidator.NOT_ON_CURVE,
+                    validate(curve, g1, g2, new BigInteger[] { g1[0], g1[1].add(one) }, one));
+            assertEquals(ProofValidator.NOT_ON_CURVE,
+                    validate(curve, g1, new BigInteger[][] { { g2[0][1], g2[0][0] }, g2[1] }, g1, one));
+        }
+    }
+
+    @Test
+    void rawLayoutIsValidatedLikeTheCoordinates() {
+        for (Curve curve : new Curve[] { Curve.BN128, Curve.BLS12_381 }) {
+            byte[] raw = new byte[3 + Groth16Verifier.rawProofSize(curve)];
+            P1.generator(curve).writeTo(raw, 3);
+            P2.generator(curve).writeTo(raw, 3 + curve.g1Size);
+            P1.generator(curve).writeTo(raw, 3 + curve.g1Size + curve.g2Size);
+            BigInteger[] input = { BigInteger.TEN };
+            assertEquals(ProofValidator.OK, ProofValidator.validateRaw(key(curve), raw, 3, input));
+            assertEquals(ProofValidator.BAD_SHAPE, ProofValidator.validateRaw(key(curve), raw, 2, input));
+            assertEquals(ProofValidator.BAD_SHAPE, ProofValidator.validateRaw(key(curve), raw, -1, input));
+            raw[raw.length - 1] ^= 1;
+            assertEquals(ProofValidator.NOT_ON_CURVE, ProofValidator.validateRaw(key(curve), raw, 3, input));
+        }
+    }
+
+    @Test
+    void shortPointEncodingsAreRejectedBeforeTheyAreRead() {
+        for (Curve curve : new Curve[] { Curve.BN128, Curve.BLS12_381 }) {
+            byte[] g1 = P1.generator(curve).bytes();
+            byte[] g2 = P2.generator(curve).bytes();
+            assertTrue(P1.generator(curve).equals(new P1(curve, g1)));
+            assertThrows(IllegalArgumentException.class, () -> new P1(curve, new byte[curve.g1Size - 1]));
+            assertThrows(IllegalArgumentException.class, () -> new P1(curve, new byte[curve.g1Size + 1]));
+            assertThrows(IllegalArgumentException.class, () -> new P1(curve, g1, 1));
+            assertThrows(IllegalArgumentException.class, () -> new P2(curve, new byte[curve.g2Size - 1]));
+            assertThrows(IllegalArgumentException.class, () -> new P2(curve, g2, 1));
+            assertThrows(IllegalArgumentException.class, () -> new P2(curve, new byte[0]));
+        }
+    }
+}
@@ -1,11 +1,426 @@
 package io.venture23zkp.sudoku;
 
+import com.iconloop.score.test.Account;
+import com.iconloop.score.test.Score;
+import com.iconloop.score.test.ServiceManager;
 import com.iconloop.score.test.TestBase;
+import io.venture23zkp.sudoku.curves.MeteredCurveOps;
+import io.venture23zkp.sudoku.curves.MeteredCurveOps.Op;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+/**
+ * Replays proofs for the built-in boards against a deployed {@link Sudoku} and fails when a
+ * verify call makes more EC calls, or passes more bytes to them, than its budget allows.
+ */
 class SudokuTest extends TestBase {
+    private static final ServiceManager sm = getServiceManager();
+    private static final Account owner = sm.createAccount();
+    private static final MeteredCurveOps ops = MeteredSudoku.OPS;
+
+    private static final BigInteger[] SHA256_IDS = {
+            new BigInteger("12946702913587076100588339357837874244737833722059782620840121604018902625880"),
+            new BigInteger("3020670305408525277123577460710778495640985416360085275148045460669777933779"),
+            new BigInteger("50213289574608008120354010172600564686142848648930442262797942174114227273539"),
+    };
+    private static final BigInteger[] PEDERSEN_IDS = {
+            new BigInteger("20508280487233337829117787098579484117180647220128235675540805714795266829330"),
+            new BigInteger("4734607875457860383511038714947529190779064469715356965082230943676408289143"),
+            new BigInteger("8152119989451001230856454209031619574707505319220427314377706000948347561614"),
+    };
+
+    // budgets per verify call
+    private static final int PREPARED_PAIRINGS = 1;
+    private static final int PREPARED_PAIRS = 4;
+    private static final int UNPREPARED_SCALAR_MULS = 1;
+    private static final int UNPREPARED_ADDS = 2;
+
+    private Score sudoku;
+
+    @BeforeEach
+    void setup() throws Exception {
+        sudoku = sm.deploy(owner, MeteredSudoku.class);
+        ops.reset();
+    }
+
+    private TestKeys registerTestKey(Curve curve, String circuitId) {
+        TestKeys keys = new TestKeys(curve, 1, curve.getId(), ops);
+        sudoku.invoke(owner, "registerVerifyingKey", circuitId, keys.vk.encode());
+        ops.reset();
+        return keys;
+    }
+
+    // on the curve and in the subgroup, so only the pairing can reject it
+    private static TestKeys.TestProof wellFormedProof(Curve curve) {
+        return new TestKeys.TestProof(P1.generator(curve), P2.generator(curve), P1.generator(curve));
+    }
+
+    private boolean verify(BigInteger boardId, TestKeys.TestProof proof) {
+        return (Boolean) sudoku.call("verify", boardId, proof.a, proof.b, proof.c);
+    }
+
+    private static void assertCalls(Op op, long calls, long bytes) {
+        assertEquals(calls, ops.get(op).calls(), op + " calls\n" + ops.report());
+        assertEquals(bytes, ops.get(op).bytes(), op + " bytes\n" + ops.report());
+    }
+
+    @Test
+    void preparedVerifyIsOnePairingCheck() {
+        for (Curve curve : new Curve[] { Curve.BN128, Curve.BLS12_381 }) {
+            BigInteger[] ids = curve == Curve.BN128 ? PEDERSEN_IDS : SHA256_IDS;
+            for (BigInteger id : ids) {
+                ops.reset();
+                assertFalse(verify(id, wellFormedProof(curve)));
+                assertCalls(Op.EC_PAIRING_CHECK, PREPARED_PAIRINGS, PREPARED_PAIRS * curve.pairSize);
+                assertCalls(Op.EC_ADD, 0, 0);
+                assertCalls(Op.EC_SCALAR_MUL, 0, 0);
+            }
+        }
+    }
+
+    // circuits/build.sh proves the board in circuits/inputs and copies the calldata next to
+    // the key it proved with, so the generated verifier must take it on the prepared path
+    @ParameterizedTest
+    @ValueSource(strings = {Sudoku.PEDERSEN_CIRCUIT, Sudoku.SHA256_CIRCUIT})
+    void builtinSetupProofsVerifyWithinTheBudget(String circuit) throws IOException {
+        Path path = Paths.get("zk", circuit, "calldata.json");
+        assumeTrue(Files.exists(path), path + " is written by circuits/build.sh");
+        Calldata proof = Calldata.read(path);
+        Curve curve = circuit.equals(Sudoku.PEDERSEN_CIRCUIT) ? Curve.BN128 : Curve.BLS12_381;
+        List<BigInteger> ids = Arrays.asList(curve == Curve.BN128 ? PEDERSEN_IDS : SHA256_IDS);
+        assertEquals(1, proof.input.length);
+        int board = ids.indexOf(proof.input[0]);
+        assertTrue(board >= 0, "calldata proves a board that is not built in: " + proof.input[0]);
+
+        ops.reset();
+        assertTrue((Boolean) sudoku.call("verify", proof.input[0], proof.a, proof.b, proof.c));
+        assertCalls(Op.EC_PAIRING_CHECK, PREPARED_PAIRINGS, PREPARED_PAIRS * curve.pairSize);
+        assertCalls(Op.EC_ADD, 0, 0);
+        assertCalls(Op.EC_SCALAR_MUL, 0, 0);
+        BigInteger other = ids.get((board + 1) % ids.size());
+        assertFalse((Boolean) sudoku.call("verify", other, proof.a, proof.b, proof.c));
+    }
+
+    @Test
+    void rejectedProofsNeverReachThePairing() {
+        TestKeys.TestProof outside = wellFormedProof(Curve.BLS12_381);
+        outside.c[0] = outside.c[0].add(Curve.BLS12_381.baseField);
+        assertFalse(verify(SHA256_IDS[1], outside));
+
+        TestKeys.TestProof offCurve = wellFormedProof(Curve.BN128);
+        offCurve.a[1] = offCurve.a[1].add(BigInteger.ONE);
+        assertFalse(verify(PEDERSEN_IDS[0], offCurve));
+
+        for (Op op : Op.values()) {
+            assertCalls(op, 0, 0);
+        }
+    }
+
+    @Test
+    void registeredKeysVerifyProofsForEveryBoard() {
+        TestKeys bn = registerTestKey(Curve.BN128, Sudoku.PEDERSEN_CIRCUIT);
+        TestKeys bls = registerTestKey(Curve.BLS12_381, Sudoku.SHA256_CIRCUIT);
+        for (int i = 0; i < PEDERSEN_IDS.length; i++) {
+            TestKeys.TestProof proof = bn.prove(PEDERSEN_IDS[i]);
+            ops.reset();
+            assertTrue(verify(PEDERSEN_IDS[i], proof));
+            // the prepared inputs were computed with the built-in key, so vk_x is recomputed
+            assertCalls(Op.EC_SCALAR_MUL, UNPREPARED_SCALAR_MULS,
+                    UNPREPARED_SCALAR_MULS * (PEDERSEN_IDS[i].toByteArray().length + Curve.BN128.g1Size));
+            assertCalls(Op.EC_ADD, UNPREPARED_ADDS, UNPREPARED_ADDS * 2 * Curve.BN128.g1Size);
+            assertCalls(Op.EC_PAIRING_CHECK, PREPARED_PAIRINGS, PREPARED_PAIRS * Curve.BN128.pairSize);
+        }
+        for (int i = 0; i < SHA256_IDS.length; i++) {
+            assertTrue(verify(SHA256_IDS[i], bls.prove(SHA256_IDS[i])));
+            assertFalse(verify(SHA256_IDS[i], bls.prove(SHA256_IDS[i].add(BigInteger.ONE))));
+        }
+    }
+
+    @Test
+    void reindexingAfterAKeyChangeRestoresThePreparedPath() {
+        TestKeys bn = registerTestKey(Curve.BN128, Sudoku.PEDERSEN_CIRCUIT);
+        assertEquals(0, sudoku.call("getIndexedBoardCount"));
+
+        // only the pedersen ids are stale, so each board costs one prepareInputs on BN128
+        sudoku.invoke(owner, "indexBoards", 2);
+        assertEquals(2, sudoku.call("getIndexedBoardCount"));
+        assertCalls(Op.EC_SCALAR_MUL, 2, PEDERSEN_IDS[0].toByteArray().length + PEDERSEN_IDS[1].toByteArray().length
+                + 2 * Curve.BN128.g1Size);
+        sudoku.invoke(owner, "indexBoards", 2);
+        assertEquals(PEDERSEN_IDS.length, sudoku.call("getIndexedBoardCount"));
+
+        for (BigInteger id : PEDERSEN_IDS) {
+            TestKeys.TestProof proof = bn.prove(id);
+            ops.reset();
+            assertTrue(verify(id, proof));
+            assertCalls(Op.EC_SCALAR_MUL, 0, 0);
+            assertCalls(Op.EC_ADD, 0, 0);
+            assertCalls(Op.EC_PAIRING_CHECK, PREPARED_PAIRINGS, PREPARED_PAIRS * Curve.BN128.pairSize);
+        }
+        ops.reset();
+        assertFalse(verify(SHA256_IDS[0], wellFormedProof(Curve.BLS12_381)));
+        assertCalls(Op.EC_SCALAR_MUL, 0, 0);
+    }
+
     @Test
-    void dummy() {
+    void storesKeysForAnyCircuit() {
+        Account alice = sm.createAccount();
+        TestKeys keys = new TestKeys(Curve.BLS12_381, 2, 5, ops);
+        BigInteger[] input = { BigInteger.ONE, BigInteger.TEN };
+        TestKeys.TestProof proof = keys.prove(input);
+        assertThrows(IllegalArgumentException.class,
+                () -> sudoku.call("verifyCircuitProof", "other", proof.a, proof.b, proof.c, input));
+        assertThrows(AssertionError.class,
+                () -> sudoku.invoke(alice, "registerVerifyingKey", "other", keys.vk.encode()));
+
+        sudoku.invoke(owner, "registerVerifyingKey", "other", keys.vk.encode());
+        assertTrue((Boolean) sudoku.call("verifyCircuitProof", "other", proof.a, proof.b, proof.c, input));
+        assertFalse((Boolean) sudoku.call("verifyCircuitProof", "other", proof.a, proof.b, proof.c,
+                new BigInteger[] { BigInteger.ONE, BigInteger.ONE }));
+
+        // a sudoku circuit only takes a key of its own curve with one public input
+        assertThrows(AssertionError.class,
+                () -> sudoku.invoke(owner, "registerVerifyingKey", Sudoku.SHA256_CIRCUIT, keys.vk.encode()));
+        TestKeys bn = new TestKeys(Curve.BN128, 1, 6, ops);
+        assertThrows(AssertionError.class,
+                () -> sudoku.invoke(owner, "registerVerifyingKey", Sudoku.SHA256_CIRCUIT, bn.vk.encode()));
+        assertThrows(IllegalArgumentException.class,
+                () -> sudoku.invoke(owner, "registerVerifyingKey", "other", new byte[] { 1, 0, 0 }));
+    }
+
+    @Test
+    void batchIsOnePairingCheckPerCurve() {
+        TestKeys bn = registerTestKey(Curve.BN128, Sudoku.PEDERSEN_CIRCUIT);
+        TestKeys bls = registerTestKey(Curve.BLS12_381, Sudoku.SHA256_CIRCUIT);
+        BigInteger[] ids = { PEDERSEN_IDS[0], SHA256_IDS[0], PEDERSEN_IDS[1], SHA256_IDS[2], PEDERSEN_IDS[2] };
+        BigInteger[][] a = new BigInteger[ids.length][];
+        BigInteger[][][] b = new BigInteger[ids.length][][];
+        BigInteger[][] c = new BigInteger[ids.length][];
+        for (int i = 0; i < ids.length; i++) {
+            TestKeys.TestProof proof = (i % 2 == 0 ? bn : bls).prove(ids[i]);
+            a[i] = proof.a;
+            b[i] = proof.b;
+            c[i] = proof.c;
+        }
+        ops.reset();
+        assertTrue((Boolean) sudoku.call("verifyBatch", ids, a, b, c));
+        // n + 3 pairs per curve
+        assertCalls(Op.EC_PAIRING_CHECK, 2, (3 + 3) * Curve.BN128.pairSize + (2 + 3) * Curve.BLS12_381.pairSize);
+
+        c[3] = a[3];
+        assertFalse((Boolean) sudoku.call("verifyBatch", ids, a, b, c));
+    }
+
+    @Test
+    void compressedProofsVerifyLikeUncompressed() {
+        TestKeys bn = registerTestKey(Curve.BN128, Sudoku.PEDERSEN_CIRCUIT);
+        TestKeys bls = registerTestKey(Curve.BLS12_381, Sudoku.SHA256_CIRCUIT);
+        BigInteger[] ids = { PEDERSEN_IDS[0], SHA256_IDS[0], PEDERSEN_IDS[2], SHA256_IDS[2] };
+        for (int i = 0; i < ids.length; i++) {
+            Curve curve = i % 2 == 0 ? Curve.BN128 : Curve.BLS12_381;
+            TestKeys.TestProof proof = (i % 2 == 0 ? bn : bls).prove(ids[i]);
+            byte[] a = PointCompression.compress(new P1(curve, proof.a[0], proof.a[1]));
+            byte[] b = PointCompression.compress(new P2(curve, proof.b[0][0], proof.b[0][1], proof.b[1][0], proof.b[1][1]));
+            byte[] c = PointCompression.compress(new P1(curve, proof.c[0], proof.c[1]));
+            assertEquals(curve.baseFieldSize, a.length);
+            assertEquals(2 * curve.baseFieldSize, b.length);
+            assertArrayEquals(proof.a, PointCompression.decompressG1(curve, a));
+            assertArrayEquals(proof.b, PointCompression.decompressG2(curve, b));
+
+            ops.reset();
+            assertTrue((Boolean) sudoku.call("verifyCompressed", ids[i], a, b, c));
+            // decompression costs no EC calls
+            assertCalls(Op.EC_PAIRING_CHECK, PREPARED_PAIRINGS, PREPARED_PAIRS * curve.pairSize);
+
+            // the other root of y is a valid point, but not the proof's
+            byte[] flipped = c.clone();
+            flipped[0] ^= (byte) PointCompression.SIGN_FLAG;
+            assertFalse((Boolean) sudoku.call("verifyCompressed", ids[i], a, b, flipped));
+            flipped = b.clone();
+            flipped[0] ^= (byte) PointCompression.SIGN_FLAG;
+            assertFalse((Boolean) sudoku.call("verifyCompressed", ids[i], a, flipped, c));
+
+            // malformed points are rejected for the same reasons as their uncompressed form
+            Groth16Verifier verifier = new Groth16Verifier((i % 2 == 0 ? bn : bls).vk, ops);
+            BigInteger[] input = { ids[i] };
+            byte[] infinity = new byte[a.length];
+            infinity[0] = (byte) PointCompression.INFINITY_FLAG;
+            byte[] outOfField = new byte[a.length];
+            Arrays.fill(outOfField, 1, outOfField.length, (byte) 0xff);
+            outOfField[0] = 0x3f;
+            byte[] noRoot = a.clone();
+            BigInteger[] off;
+            do {
+                noRoot[noRoot.length - 1]++;
+                off = PointCompression.decompressG1(curve, noRoot);
+            } while (ProofValidator.isOnG1(curve, off[0], off[1]));
+            assertNull(PointCompression.decompressG1(curve, b));
+            assertEquals(ProofValidator.BAD_SHAPE, verifier.checkProof(null, proof.b, proof.c, input));
+            assertEquals(ProofValidator.POINT_AT_INFINITY, verifier.checkProof(
+                    PointCompression.decompressG1(curve, infinity), proof.b, proof.c, input));
+            assertEquals(ProofValidator.COORDINATE_OUT_OF_FIELD, verifier.checkProof(
+                    PointCompression.decompressG1(curve, outOfField), proof.b, proof.c, input));
+            assertEquals(ProofValidator.NOT_ON_CURVE, verifier.checkProof(
+                    PointCompression.decompressG1(curve, noRoot), proof.b, proof.c, input));
+            ops.reset();
+            assertFalse(verifier.verifyProofCompressed(b, b, c, input));
+            assertFalse(verifier.verifyProofCompressed(infinity, b, c, input));
+            assertFalse(verifier.verifyProofCompressed(outOfField, b, c, input));
+            assertFalse(verifier.verifyProofCompressed(noRoot, b, c, input));
+            assertCalls(Op.EC_PAIRING_CHECK, 0, 0);
+            assertTrue(verifier.verifyProofCompressed(a, b, c, input));
+        }
+    }
+
+    private static byte[] raw(BigInteger boardId, Curve curve, BigInteger[] a, BigInteger[][] b, BigInteger[] c) {
+        byte[] buf = new byte[Sudoku.RAW_BOARD_ID_SIZE + Groth16Verifier.rawProofSize(curve)];
+        PointCodec.writeFixed(boardId, buf, 0, Sudoku.RAW_BOARD_ID_SIZE);
+        int offset = Sudoku.RAW_BOARD_ID_SIZE;
+        new P1(curve, a[0], a[1]).writeTo(buf, offset);
+        new P2(curve, b[0][0], b[0][1], b[1][0], b[1][1]).writeTo(buf, offset + curve.g1Size);
+        new P1(curve, c[0], c[1]).writeTo(buf, offset + curve.g1Size + curve.g2Size);
+        return buf;
+    }
+
+    // same verdict and the same EC calls through both entry points
+    private void assertSameVerdict(boolean expected, BigInteger boardId, Curve curve,
+                                   BigInteger[] a, BigInteger[][] b, BigInteger[] c) {
+        ops.reset();
+        assertEquals(expected, (Boolean) sudoku.call("verify", boardId, a, b, c));
+        long[] arrays = new long[2 * Op.values().length];
+        for (Op op : Op.values()) {
+            arrays[2 * op.ordinal()] = ops.get(op).calls();
+            arrays[2 * op.ordinal() + 1] = ops.get(op).bytes();
+        }
+        ops.reset();
+        assertEquals(expected, (Boolean) sudoku.call("verifyRaw", (Object) raw(boardId, curve, a, b, c)));
+        for (Op op : Op.values()) {
+            assertCalls(op, arrays[2 * op.ordinal()], arrays[2 * op.ordinal() + 1]);
+        }
+    }
+
+    @Test
+    void rawProofsVerifyLikeTheArrayAbi() {
+        assertEquals(288, Sudoku.RAW_BOARD_ID_SIZE + Groth16Verifier.rawProofSize(Curve.BN128));
+        assertEquals(416, Sudoku.RAW_BOARD_ID_SIZE + Groth16Verifier.rawProofSize(Curve.BLS12_381));
+        for (boolean registered : new boolean[] { false, true }) {
+            TestKeys bn = registered ? registerTestKey(Curve.BN128, Sudoku.PEDERSEN_CIRCUIT) : null;
+            TestKeys bls = registered ? registerTestKey(Curve.BLS12_381, Sudoku.SHA256_CIRCUIT) : null;
+            for (Curve curve : new Curve[] { Curve.BN128, Curve.BLS12_381 }) {
+                BigInteger[] ids = curve == Curve.BN128 ? PEDERSEN_IDS : SHA256_IDS;
+                TestKeys keys = curve == Curve.BN128 ? bn : bls;
+                for (BigInteger id : ids) {
+                    TestKeys.TestProof proof = keys != null ? keys.prove(id) : wellFormedProof(curve);
+                    assertSameVerdict(registered, id, curve, proof.a, proof.b, proof.c);
+                    if (keys != null) {
+                        TestKeys.TestProof other = keys.prove(id.add(BigInteger.ONE));
+                        assertSameVerdict(false, id, curve, other.a, other.b, other.c);
+                    }
+                    BigInteger[] offCurve = { proof.a[0], proof.a[1].add(BigInteger.ONE) };
+                    assertSameVerdict(false, id, curve, offCurve, proof.b, proof.c);
+                    BigInteger[] outOfField = { proof.c[0].add(curve.baseField), proof.c[1] };
+                    assertSameVerdict(false, id, curve, proof.a, proof.b, outOfField);
+                    assertSameVerdict(false, id, curve, new BigInteger[] { curve.g1Zero[0], curve.g1Zero[1] },
+                            proof.b, proof.c);
+                }
+            }
+        }
+        TestKeys.TestProof proof = wellFormedProof(Curve.BN128);
+        byte[] truncated = Arrays.copyOf(raw(PEDERSEN_IDS[0], Curve.BN128, proof.a, proof.b, proof.c), 287);
+        ops.reset();
+        assertFalse((Boolean) sudoku.call("verifyRaw", (Object) truncated));
+        assertCalls(Op.EC_PAIRING_CHECK, 0, 0);
+        assertThrows(IllegalArgumentException.class, () -> sudoku.call("verifyRaw", (Object) new byte[288]));
+    }
+
+    @Test
+    void resubmittedProofsRevertBeforeThePairing() {
+        TestKeys bn = registerTestKey(Curve.BN128, Sudoku.PEDERSEN_CIRCUIT);
+        TestKeys bls = registerTestKey(Curve.BLS12_381, Sudoku.SHA256_CIRCUIT);
+        Account alice = sm.createAccount();
+        TestKeys.TestProof proof = bn.prove(PEDERSEN_IDS[1]);
+        assertTrue((Boolean) sudoku.call("submitSolution", PEDERSEN_IDS[1], proof.a, proof.b, proof.c));
+        ops.reset();
+        assertThrows(AssertionError.class,
+                () -> sudoku.invoke(alice, "submitSolution", PEDERSEN_IDS[1], proof.a, proof.b, proof.c));
+        assertCalls(Op.EC_PAIRING_CHECK, 0, 0);
+        assertCalls(Op.EC_SCALAR_MUL, 0, 0);
+
+        // a fresh proof of the same board is a different submission
+        TestKeys.TestProof again = bn.prove(PEDERSEN_IDS[1]);
+        assertTrue((Boolean) sudoku.call("submitSolution", PEDERSEN_IDS[1], again.a, again.b, again.c));
+
+        // wrong proofs are recorded as well, malformed ones are rejected before
+        TestKeys.TestProof wrong = bls.prove(SHA256_IDS[2].add(BigInteger.ONE));
+        assertFalse((Boolean) sudoku.call("submitSolution", SHA256_IDS[2], wrong.a, wrong.b, wrong.c));
+        ops.reset();
+        assertThrows(AssertionError.class, () -> sudoku.call("submitSolution", SHA256_IDS[2], wrong.a, wrong.b, wrong.c));
+        assertCalls(Op.EC_PAIRING_CHECK, 0, 0);
+        TestKeys.TestProof offCurve = bls.prove(SHA256_IDS[2]);
+        offCurve.a[1] = offCurve.a[1].add(BigInteger.ONE);
+        for (int i = 0; i < 2; i++) {
+            assertFalse((Boolean) sudoku.call("submitSolution", SHA256_IDS[2], offCurve.a, offCurve.b, offCurve.c));
+        }
+        assertCalls(Op.EC_PAIRING_CHECK, 0, 0);
+
+        // the same points for another board are another submission
+        TestKeys.TestProof shared = bn.prove(PEDERSEN_IDS[0]);
+        assertTrue((Boolean) sudoku.call("submitSolution", PEDERSEN_IDS[0], shared.a, shared.b, shared.c));
+        assertFalse((Boolean) sudoku.call("submitSolution", PEDERSEN_IDS[2], shared.a, shared.b, shared.c));
+    }
+
+    @Test
+    void validSubmissionsAreCountedPerBoardAndSolver() {
+        TestKeys bn = registerTestKey(Curve.BN128, Sudoku.PEDERSEN_CIRCUIT);
+        TestKeys bls = registerTestKey(Curve.BLS12_381, Sudoku.SHA256_CIRCUIT);
+        Account[] solvers = new Account[Sudoku.RECENT_SOLVERS + 3];
+        for (int i = 0; i < solvers.length; i++) {
+            solvers[i] = sm.createAccount();
+            boolean sha256 = i % 3 == 0;
+            int board = i % 2 * 2;
+            BigInteger id = sha256 ? SHA256_IDS[board] : PEDERSEN_IDS[board];
+            TestKeys.TestProof proof = (sha256 ? bls : bn).prove(id);
+            sudoku.invoke(solvers[i], "submitSolution", id, proof.a, proof.b, proof.c);
+        }
+        // both ids of a board share its counter
+        int first = (Integer) sudoku.call("getSolveCount", SHA256_IDS[0]);
+        int second = (Integer) sudoku.call("getSolveCount", PEDERSEN_IDS[2]);
+        assertEquals(first, sudoku.call("getSolveCount", PEDERSEN_IDS[0]));
+        assertEquals((solvers.length + 1) / 2, first);
+        assertEquals(solvers.length / 2, second);
+        assertEquals(0, sudoku.call("getSolveCount", SHA256_IDS[1]));
+
+        // a sender is credited once per board, whatever proofs and ids it sends
+        TestKeys.TestProof again = bn.prove(PEDERSEN_IDS[0]);
+        sudoku.invoke(solvers[0], "submitSolution", PEDERSEN_IDS[0], again.a, again.b, again.c);
+        TestKeys.TestProof other = bls.prove(SHA256_IDS[0]);
+        sudoku.invoke(solvers[2], "submitSolution", SHA256_IDS[0], other.a, other.b, other.c);
+        assertEquals(first, sudoku.call("getSolveCount", SHA256_IDS[0]));
+
+        // failing proofs are not counted
+        TestKeys.TestProof wrong = bn.prove(PEDERSEN_IDS[1].add(BigInteger.ONE));
+        sudoku.invoke(owner, "submitSolution", PEDERSEN_IDS[1], wrong.a, wrong.b, wrong.c);
+        assertEquals(0, sudoku.call("getSolveCount", PEDERSEN_IDS[1]));
+        assertEquals(solvers.length, sudoku.call("getTotalSolves"));
+
+        score.Address[] recent = (score.Address[]) sudoku.call("getRecentSolvers");
+        assertEquals(Sudoku.RECENT_SOLVERS, recent.length);
+        for (int i = 0; i < recent.length; i++) {
+            assertEquals(solvers[solvers.length - 1 - i].getAddress(), recent[i]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> sudoku.call("getSolveCount", BigInteger.ONE));
     }
 }
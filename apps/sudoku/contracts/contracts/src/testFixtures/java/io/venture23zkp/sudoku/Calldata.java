@@ -0,0 +1,67 @@
+package io.venture23zkp.sudoku;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A proof as written by {@code snarkjs zkey export javacalldata}, the calldata.json that
+ * circuits/build.sh copies next to each verification key. SudokuTest and the benchmarks
+ * both read it through here.
+ */
+public final class Calldata {
+    public final BigInteger[] a;
+    public final BigInteger[][] b;
+    public final BigInteger[] c;
+    public final BigInteger[] input;
+
+    private Calldata(BigInteger[] a, BigInteger[][] b, BigInteger[] c, BigInteger[] input) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.input = input;
+    }
+
+    public static Calldata read(Path path) throws IOException {
+        return parse(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+    }
+
+    // a[2], b[2][2], c[2] and the public inputs, already in verifyProof order; every
+    // decimal or 0x hex run is one element, whatever brackets and quotes surround it
+    public static Calldata parse(String text) {
+        List<BigInteger> n = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            if (!Character.isDigit(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            int radix = 10;
+            if (text.startsWith("0x", i) || text.startsWith("0X", i)) {
+                radix = 16;
+                i += 2;
+            }
+            int start = i;
+            while (i < text.length() && Character.digit(text.charAt(i), radix) >= 0) {
+                i++;
+            }
+            if (i == start) {
+                throw new IllegalArgumentException("calldata: empty hex number");
+            }
+            n.add(new BigInteger(text.substring(start, i), radix));
+        }
+        if (n.size() < 9) {
+            throw new IllegalArgumentException("calldata: expected a, b, c and inputs");
+        }
+        BigInteger[] e = n.toArray(new BigInteger[0]);
+        return new Calldata(Arrays.copyOfRange(e, 0, 2),
+                new BigInteger[][] { { e[2], e[3] }, { e[4], e[5] } },
+                Arrays.copyOfRange(e, 6, 8),
+                Arrays.copyOfRange(e, 8, e.length));
+    }
+}
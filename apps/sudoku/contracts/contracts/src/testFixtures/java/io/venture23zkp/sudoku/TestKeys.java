@@ -0,0 +1,73 @@
+package io.venture23zkp.sudoku;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * A Groth16 verifying key generated from a known trapdoor. Knowing alfa, beta, gamma and
+ * delta, a valid proof for any public input can be solved for directly, so tests get
+ * proofs that go through exactly the checks a prover's proof would. Shared with the
+ * gateway tests and the benchmarks as a test fixture of :contracts.
+ */
+public final class TestKeys {
+
+    public static final class TestProof {
+        public final BigInteger[] a;
+        public final BigInteger[][] b;
+        public final BigInteger[] c;
+
+        TestProof(P1 a, P2 b, P1 c) {
+            this.a = new BigInteger[] { a.x, a.y };
+            this.b = new BigInteger[][] { { b.x0, b.x1 }, { b.y0, b.y1 } };
+            this.c = new BigInteger[] { c.x, c.y };
+        }
+    }
+
+    public final VerifyingKey vk;
+    private final CurveOps ops;
+    private final Random rnd;
+    private final BigInteger alfa;
+    private final BigInteger beta;
+    private final BigInteger gamma;
+    private final BigInteger delta;
+    private final BigInteger[] ic;
+
+    public TestKeys(Curve curve, int nPublic, long seed, CurveOps ops) {
+        this.ops = ops;
+        this.rnd = new Random(seed);
+        this.alfa = scalar(curve);
+        this.beta = scalar(curve);
+        this.gamma = scalar(curve);
+        this.delta = scalar(curve);
+        this.ic = new BigInteger[nPublic + 1];
+        P1[] IC = new P1[nPublic + 1];
+        P1 g1 = P1.generator(curve);
+        P2 g2 = P2.generator(curve);
+        for (int i = 0; i < ic.length; i++) {
+            ic[i] = scalar(curve);
+            IC[i] = g1.scalarMul(ops, ic[i]);
+        }
+        this.vk = new VerifyingKey(curve, g1.scalarMul(ops, alfa), g2.scalarMul(ops, beta),
+                g2.scalarMul(ops, gamma), g2.scalarMul(ops, delta), IC);
+    }
+
+    // A = a G1, B = b G2, C = (ab - alfa beta - x gamma) / delta G1 with x = ic_0 + sum(ic_i input_i)
+    public TestProof prove(BigInteger... input) {
+        Curve curve = vk.curve;
+        BigInteger r = curve.scalarField;
+        BigInteger x = ic[0];
+        for (int i = 0; i < input.length; i++) {
+            x = x.add(ic[i + 1].multiply(input[i]));
+        }
+        BigInteger a = scalar(curve);
+        BigInteger b = scalar(curve);
+        BigInteger c = a.multiply(b).subtract(alfa.multiply(beta)).subtract(x.multiply(gamma))
+                .multiply(delta.modInverse(r)).mod(r);
+        return new TestProof(P1.generator(curve).scalarMul(ops, a), P2.generator(curve).scalarMul(ops, b),
+                P1.generator(curve).scalarMul(ops, c));
+    }
+
+    private BigInteger scalar(Curve curve) {
+        return new BigInteger(curve.scalarField.bitLength() - 1, rnd).add(BigInteger.ONE);
+    }
+}
@@ -0,0 +1,164 @@
+package io.venture23zkp.sudoku.curves;
+
+import java.math.BigInteger;
+
+/**
+ * One pairing-friendly curve: its field tower, G1 and G2 groups, pairing and the
+ * uncompressed point encoding used by {@code score.Context}.
+ */
+final class CurveEngine {
+
+    static final CurveEngine BN128 = new CurveEngine(
+            new BigInteger("21888242871839275222246405745257275088696311157297823662689037894645226208583"),
+            new BigInteger("21888242871839275222246405745257275088548364400416034343698204186575808495617"),
+            32, 3, 9, false, true,
+            new BigInteger("4965661367192848881").multiply(BigInteger.valueOf(6)).add(BigInteger.TWO), false);
+
+    static final CurveEngine BLS12_381 = new CurveEngine(
+            new BigInteger("4002409555221667393417789825735904156556882819939007885332058136124031650490837864442687629129015664037894272559787"),
+            new BigInteger("52435875175126190479447740508185965837690552500527637822603658699938581184513"),
+            48, 4, 1, true, false,
+            new BigInteger("d201000000010000", 16), true);
+
+    // flags in the first byte of a BLS12-381 point
+    private static final int FLAG_COMPRESSED = 0x80;
+    private static final int FLAG_INFINITY = 0x40;
+    private static final int FLAG_MASK = 0xe0;
+
+    final BigInteger order;
+    final int fieldSize;
+    final int g1Size;
+    final int g2Size;
+    private final boolean infinityFlag;
+    // BN254 G1 has cofactor 1, so only G2 needs a subgroup check there
+    private final boolean g1Cofactor;
+    final Fp fp;
+    final Fp2 fp2;
+    final ShortWeierstrass<long[]> g1;
+    final ShortWeierstrass<long[][]> g2;
+    final Pairing pairing;
+
+    private CurveEngine(BigInteger modulus, BigInteger order, int fieldSize, int b, int xiReal, boolean bls,
+                        boolean bn, BigInteger loopCount, boolean loopNegative) {
+        this.order = order;
+        this.fieldSize = fieldSize;
+        this.g1Size = 2 * fieldSize;
+        this.g2Size = 4 * fieldSize;
+        this.infinityFlag = bls;
+        this.g1Cofactor = bls;
+        this.fp = new Fp(modulus);
+        this.fp2 = new Fp2(fp, xiReal);
+        Fp12 fp12 = new Fp12(new Fp6(fp2));
+        long[] g1B = fp.fromBigInteger(BigInteger.valueOf(b));
+        long[][] bFp2 = new long[][] { g1B, fp.zero() };
+        // D-type twist b / xi for BN, M-type twist b * xi for BLS12
+        long[][] twistB = bls ? fp2.mulByNonResidue(bFp2) : fp2.mul(bFp2, fp2.inv(fp2.mulByNonResidue(fp2.one())));
+        this.g1 = new ShortWeierstrass<>(fp, g1B);
+        this.g2 = new ShortWeierstrass<>(fp2, twistB);
+        this.pairing = new Pairing(fp12, twistB, !bls, bn ? Pairing.naf(loopCount) : Pairing.bits(loopCount),
+                loopNegative, bn, order);
+    }
+
+    // codec; G1 is x | y and G2 is x.imaginary | x.real | y.imaginary | y.real
+
+    /**
+     * Decodes a G1 point into affine {x, y}, or null for the point at infinity.
+     */
+    long[][] readG1(byte[] buf, int offset) {
+        if (isInfinity(buf, offset, g1Size)) {
+            return null;
+        }
+        long[] x = readCoordinate(buf, offset);
+        long[] y = readCoordinate(buf, offset + fieldSize);
+        if (!g1.isOnCurve(x, y)) {
+            throw new IllegalArgumentException("point is not on G1");
+        }
+        if (g1Cofactor && !g1.isInfinity(g1.mul(g1.fromAffine(x, y), order))) {
+            throw new IllegalArgumentException("point is not in the G1 subgroup");
+        }
+        return new long[][] { x, y };
+    }
+
+    /**
+     * Decodes a G2 point into affine {x, y}, or null for the point at infinity.
+     */
+    long[][][] readG2(byte[] buf, int offset) {
+        if (isInfinity(buf, offset, g2Size)) {
+            return null;
+        }
+        long[] x0 = readCoordinate(buf, offset);
+        long[] x1 = readCoordinate(buf, offset + fieldSize);
+        long[] y0 = readCoordinate(buf, offset + 2 * fieldSize);
+        long[] y1 = readCoordinate(buf, offset + 3 * fieldSize);
+        long[][] x = new long[][] { x1, x0 };
+        long[][] y = new long[][] { y1, y0 };
+        if (!g2.isOnCurve(x, y)) {
+            throw new IllegalArgumentException("point is not on G2");
+        }
+        if (!g2.isInfinity(g2.mul(g2.fromAffine(x, y), order))) {
+            throw new IllegalArgumentException("point is not in the G2 subgroup");
+        }
+        return new long[][][] { x, y };
+    }
+
+    void writeG1(ShortWeierstrass.Point<long[]> p, byte[] buf, int offset) {
+        if (g1.isInfinity(p)) {
+            writeInfinity(buf, offset);
+            return;
+        }
+        ShortWeierstrass.Point<long[]> a = g1.normalize(p);
+        fp.toBytes(a.x, buf, offset, fieldSize);
+        fp.toBytes(a.y, buf, offset + fieldSize, fieldSize);
+    }
+
+    void writeG2(ShortWeierstrass.Point<long[][]> p, byte[] buf, int offset) {
+        if (g2.isInfinity(p)) {
+            writeInfinity(buf, offset);
+            return;
+        }
+        ShortWeierstrass.Point<long[][]> a = g2.normalize(p);
+        fp.toBytes(a.x[1], buf, offset, fieldSize);
+        fp.toBytes(a.x[0], buf, offset + fieldSize, fieldSize);
+        fp.toBytes(a.y[1], buf, offset + 2 * fieldSize, fieldSize);
+        fp.toBytes(a.y[0], buf, offset + 3 * fieldSize, fieldSize);
+    }
+
+    private long[] readCoordinate(byte[] buf, int offset) {
+        long[] v = fp.fromBytes(buf, offset, fieldSize);
+        if (v == null) {
+            throw new IllegalArgumentException("coordinate is not in the base field");
+        }
+        return v;
+    }
+
+    private boolean isInfinity(byte[] buf, int offset, int size) {
+        int first = buf[offset] & 0xff;
+        if (infinityFlag) {
+            if ((first & FLAG_COMPRESSED) != 0) {
+                throw new IllegalArgumentException("compressed point in uncompressed data");
+            }
+            if ((first & FLAG_INFINITY) == 0) {
+                return false;
+            }
+            first &= ~FLAG_MASK;
+        }
+        if (first != 0) {
+            return false;
+        }
+        for (int i = 1; i < size; i++) {
+            if (buf[offset + i] != 0) {
+                if (infinityFlag) {
+                    throw new IllegalArgumentException("malformed point at infinity");
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeInfinity(byte[] buf, int offset) {
+        if (infinityFlag) {
+            buf[offset] = (byte) FLAG_INFINITY;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.venture23zkp.sudoku.curves;
+
+/**
+ * Arithmetic of a finite field whose elements are represented by {@code E}.
+ * Elements are treated as immutable; every operation returns a new element.
+ */
+interface FieldOps<E> {
+
+    E zero();
+
+    E one();
+
+    E add(E a, E b);
+
+    E sub(E a, E b);
+
+    E mul(E a, E b);
+
+    E sqr(E a);
+
+    E neg(E a);
+
+    E inv(E a);
+
+    boolean isZero(E a);
+
+    boolean eq(E a, E b);
+}
@@ -0,0 +1,302 @@
+package io.venture23zkp.sudoku.curves;
+
+import java.math.BigInteger;
+
+/**
+ * Prime field arithmetic in Montgomery form on little-endian 64-bit limbs.
+ * An element a is stored as a * R mod p with R = 2^(64 * n). Public for the off-chain
+ * tools that work over the scalar fields; {@link #mul} of a canonical value and a
+ * Montgomery one yields the canonical product.
+ */
+public final class Fp implements FieldOps<long[]> {
+
+    final BigInteger modulus;
+    final int n;
+    private final long[] p;
+    private final long inv; // -p^-1 mod 2^64
+    private final long[] r2; // R^2 mod p
+    private final long[] one;
+    private final long[] zero;
+    private final long[] pMinus2;
+
+    public Fp(BigInteger modulus) {
+        this.modulus = modulus;
+        this.n = (modulus.bitLength() + 63) / 64;
+        this.p = toLimbs(modulus, n);
+        BigInteger r = BigInteger.ONE.shiftLeft(64 * n);
+        this.inv = modulus.negate().modInverse(BigInteger.ONE.shiftLeft(64)).longValue();
+        this.r2 = toLimbs(r.multiply(r).mod(modulus), n);
+        this.one = toLimbs(r.mod(modulus), n);
+        this.zero = new long[n];
+        this.pMinus2 = toLimbs(modulus.subtract(BigInteger.TWO), n);
+    }
+
+    public BigInteger modulus() {
+        return modulus;
+    }
+
+    /**
+     * Number of 64-bit limbs per element.
+     */
+    public int limbs() {
+        return n;
+    }
+
+    // conversion
+
+    public long[] fromBigInteger(BigInteger v) {
+        return mul(toLimbs(v.mod(modulus), n), r2);
+    }
+
+    /**
+     * Converts canonical little-endian limbs to Montgomery form; returns null if the
+     * value is not below p.
+     */
+    public long[] fromCanonical(long[] limbs) {
+        return geq(limbs, p) ? null : mul(limbs, r2);
+    }
+
+    public BigInteger toBigInteger(long[] a) {
+        long[] unit = new long[n];
+        unit[0] = 1;
+        return fromLimbs(mul(a, unit));
+    }
+
+    /**
+     * Reads a big-endian unsigned value of {@code len} bytes; returns null if it is not below p.
+     */
+    long[] fromBytes(byte[] buf, int offset, int len) {
+        long[] limbs = new long[n];
+        for (int i = 0; i < len; i++) {
+            int bit = 8 * (len - 1 - i);
+            if (bit / 64 >= n) {
+                if (buf[offset + i] != 0) {
+                    return null;
+                }
+                continue;
+            }
+            limbs[bit / 64] |= (buf[offset + i] & 0xffL) << (bit % 64);
+        }
+        if (geq(limbs, p)) {
+            return null;
+        }
+        return mul(limbs, r2);
+    }
+
+    void toBytes(long[] a, byte[] buf, int offset, int len) {
+        long[] unit = new long[n];
+        unit[0] = 1;
+        long[] limbs = mul(a, unit);
+        for (int i = 0; i < len; i++) {
+            int bit = 8 * (len - 1 - i);
+            buf[offset + i] = bit / 64 >= n ? 0 : (byte) (limbs[bit / 64] >>> (bit % 64));
+        }
+    }
+
+    static long[] toLimbs(BigInteger v, int n) {
+        long[] limbs = new long[n];
+        for (int i = 0; i < n; i++) {
+            limbs[i] = v.shiftRight(64 * i).longValue();
+        }
+        return limbs;
+    }
+
+    public static BigInteger fromLimbs(long[] limbs) {
+        BigInteger v = BigInteger.ZERO;
+        for (int i = limbs.length - 1; i >= 0; i--) {
+            v = v.shiftLeft(64).or(new BigInteger(Long.toUnsignedString(limbs[i])));
+        }
+        return v;
+    }
+
+    // arithmetic
+
+    @Override
+    public long[] zero() {
+        return zero;
+    }
+
+    @Override
+    public long[] one() {
+        return one;
+    }
+
+    @Override
+    public long[] add(long[] a, long[] b) {
+        long[] r = new long[n];
+        long carry = 0;
+        for (int i = 0; i < n; i++) {
+            long s = a[i] + b[i];
+            long c = Long.compareUnsigned(s, a[i]) < 0 ? 1 : 0;
+            long s2 = s + carry;
+            c += Long.compareUnsigned(s2, s) < 0 ? 1 : 0;
+            r[i] = s2;
+            carry = c;
+        }
+        if (carry != 0 || geq(r, p)) {
+            subInPlace(r, p);
+        }
+        return r;
+    }
+
+    @Override
+    public long[] sub(long[] a, long[] b) {
+        long[] r = new long[n];
+        long borrow = subInto(a, b, r);
+        if (borrow != 0) {
+            long carry = 0;
+            for (int i = 0; i < n; i++) {
+                long s = r[i] + p[i];
+                long c = Long.compareUnsigned(s, r[i]) < 0 ? 1 : 0;
+                long s2 = s + carry;
+                c += Long.compareUnsigned(s2, s) < 0 ? 1 : 0;
+                r[i] = s2;
+                carry = c;
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public long[] neg(long[] a) {
+        return isZero(a) ? zero : sub(zero, a);
+    }
+
+    /**
+     * Montgomery multiplication (CIOS): returns a * b / R mod p.
+     */
+    @Override
+    public long[] mul(long[] a, long[] b) {
+        long[] t = new long[n + 2];
+        for (int i = 0; i < n; i++) {
+            long ai = a[i];
+            long carry = 0;
+            for (int j = 0; j < n; j++) {
+                long bj = b[j];
+                long lo = ai * bj;
+                long hi = mulHigh(ai, bj);
+                long s = t[j] + lo;
+                hi += Long.compareUnsigned(s, lo) < 0 ? 1 : 0;
+                long s2 = s + carry;
+                hi += Long.compareUnsigned(s2, s) < 0 ? 1 : 0;
+                t[j] = s2;
+                carry = hi;
+            }
+            long s = t[n] + carry;
+            t[n + 1] = Long.compareUnsigned(s, carry) < 0 ? 1 : 0;
+            t[n] = s;
+
+            long m = t[0] * inv;
+            long lo = m * p[0];
+            long hi = mulHigh(m, p[0]);
+            long s0 = t[0] + lo;
+            carry = hi + (Long.compareUnsigned(s0, lo) < 0 ? 1 : 0);
+            for (int j = 1; j < n; j++) {
+                lo = m * p[j];
+                hi = mulHigh(m, p[j]);
+                long s1 = t[j] + lo;
+                hi += Long.compareUnsigned(s1, lo) < 0 ? 1 : 0;
+                long s2 = s1 + carry;
+                hi += Long.compareUnsigned(s2, s1) < 0 ? 1 : 0;
+                t[j - 1] = s2;
+                carry = hi;
+            }
+            s = t[n] + carry;
+            t[n - 1] = s;
+            t[n] = t[n + 1] + (Long.compareUnsigned(s, carry) < 0 ? 1 : 0);
+            t[n + 1] = 0;
+        }
+        long[] r = new long[n];
+        System.arraycopy(t, 0, r, 0, n);
+        if (t[n] != 0 || geq(r, p)) {
+            subInPlace(r, p);
+        }
+        return r;
+    }
+
+    @Override
+    public long[] sqr(long[] a) {
+        return mul(a, a);
+    }
+
+    @Override
+    public long[] inv(long[] a) {
+        if (isZero(a)) {
+            throw new ArithmeticException("Fp: inverse of zero");
+        }
+        return pow(a, pMinus2);
+    }
+
+    long[] pow(long[] a, long[] e) {
+        long[] r = one;
+        for (int i = e.length - 1; i >= 0; i--) {
+            for (int bit = 63; bit >= 0; bit--) {
+                r = sqr(r);
+                if (((e[i] >>> bit) & 1) != 0) {
+                    r = mul(r, a);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public boolean isZero(long[] a) {
+        for (int i = 0; i < n; i++) {
+            if (a[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean eq(long[] a, long[] b) {
+        for (int i = 0; i < n; i++) {
+            if (a[i] != b[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the canonical value of {@code a} is greater than (p - 1) / 2.
+     */
+    boolean isLexLargest(long[] a) {
+        return toBigInteger(a).compareTo(modulus.shiftRight(1)) > 0;
+    }
+
+    // limb helpers
+
+    private static long mulHigh(long a, long b) {
+        return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+    }
+
+    private boolean geq(long[] a, long[] b) {
+        for (int i = n - 1; i >= 0; i--) {
+            int c = Long.compareUnsigned(a[i], b[i]);
+            if (c != 0) {
+                return c > 0;
+            }
+        }
+        return true;
+    }
+
+    private long subInto(long[] a, long[] b, long[] r) {
+        long borrow = 0;
+        for (int i = 0; i < n; i++) {
+            long d = a[i] - b[i];
+            long bo = Long.compareUnsigned(a[i], b[i]) < 0 ? 1 : 0;
+            long d2 = d - borrow;
+            bo += Long.compareUnsigned(d, borrow) < 0 ? 1 : 0;
+            r[i] = d2;
+            borrow = bo;
+        }
+        return borrow;
+    }
+
+    private void subInPlace(long[] a, long[] b) {
+        subInto(a, b, a);
+    }
+}
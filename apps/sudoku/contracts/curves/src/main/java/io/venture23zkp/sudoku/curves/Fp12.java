@@ -0,0 +1,132 @@
+package io.venture23zkp.sudoku.curves;
+
+import java.math.BigInteger;
+
+/**
+ * Quadratic extension Fp6[w] / (w^2 - v); an element is {c0, c1} = c0 + c1 * w.
+ */
+final class Fp12 implements FieldOps<long[][][][]> {
+
+    final Fp6 fp6;
+    final Fp2 fp2;
+    private final long[][][][] zero;
+    private final long[][][][] one;
+    // xi^(k (p - 1) / 6) for the coefficient of w^k
+    private final long[][][] frobenius;
+
+    Fp12(Fp6 fp6) {
+        this.fp6 = fp6;
+        this.fp2 = fp6.fp2;
+        this.zero = new long[][][][] { fp6.zero(), fp6.zero() };
+        this.one = new long[][][][] { fp6.one(), fp6.zero() };
+        BigInteger sixth = fp2.fp.modulus.subtract(BigInteger.ONE).divide(BigInteger.valueOf(6));
+        long[][] xi = fp2.mulByNonResidue(fp2.one());
+        long[][] gamma = fp2.pow(xi, sixth);
+        this.frobenius = new long[6][][];
+        this.frobenius[0] = fp2.one();
+        for (int k = 1; k < 6; k++) {
+            this.frobenius[k] = fp2.mul(this.frobenius[k - 1], gamma);
+        }
+    }
+
+    @Override
+    public long[][][][] zero() {
+        return zero;
+    }
+
+    @Override
+    public long[][][][] one() {
+        return one;
+    }
+
+    @Override
+    public long[][][][] add(long[][][][] a, long[][][][] b) {
+        return new long[][][][] { fp6.add(a[0], b[0]), fp6.add(a[1], b[1]) };
+    }
+
+    @Override
+    public long[][][][] sub(long[][][][] a, long[][][][] b) {
+        return new long[][][][] { fp6.sub(a[0], b[0]), fp6.sub(a[1], b[1]) };
+    }
+
+    @Override
+    public long[][][][] neg(long[][][][] a) {
+        return new long[][][][] { fp6.neg(a[0]), fp6.neg(a[1]) };
+    }
+
+    @Override
+    public long[][][][] mul(long[][][][] a, long[][][][] b) {
+        long[][][] aa = fp6.mul(a[0], b[0]);
+        long[][][] bb = fp6.mul(a[1], b[1]);
+        long[][][] c1 = fp6.sub(fp6.sub(fp6.mul(fp6.add(a[0], a[1]), fp6.add(b[0], b[1])), aa), bb);
+        return new long[][][][] { fp6.add(aa, fp6.mulByNonResidue(bb)), c1 };
+    }
+
+    // (a0 + a1 w)^2 = (a0 + a1)(a0 + v a1) - a0 a1 - v a0 a1 + 2 a0 a1 w
+    @Override
+    public long[][][][] sqr(long[][][][] a) {
+        long[][][] ab = fp6.mul(a[0], a[1]);
+        long[][][] c0 = fp6.mul(fp6.add(a[0], a[1]), fp6.add(a[0], fp6.mulByNonResidue(a[1])));
+        c0 = fp6.sub(fp6.sub(c0, ab), fp6.mulByNonResidue(ab));
+        return new long[][][][] { c0, fp6.add(ab, ab) };
+    }
+
+    /**
+     * Multiplies by the sparse element (b0 + b1 v) + (b4 v) w, the line shape of an M-type twist.
+     */
+    long[][][][] mulBy014(long[][][][] a, long[][] b0, long[][] b1, long[][] b4) {
+        long[][][] aa = fp6.mulBy01(a[0], b0, b1);
+        long[][][] bb = fp6.mulBy1(a[1], b4);
+        long[][][] c1 = fp6.mulBy01(fp6.add(a[1], a[0]), b0, fp2.add(b1, b4));
+        c1 = fp6.sub(fp6.sub(c1, aa), bb);
+        return new long[][][][] { fp6.add(fp6.mulByNonResidue(bb), aa), c1 };
+    }
+
+    /**
+     * Multiplies by the sparse element b0 + (b3 + b4 v) w, the line shape of a D-type twist.
+     */
+    long[][][][] mulBy034(long[][][][] a, long[][] b0, long[][] b3, long[][] b4) {
+        long[][][] aa = new long[][][] { fp2.mul(a[0][0], b0), fp2.mul(a[0][1], b0), fp2.mul(a[0][2], b0) };
+        long[][][] bb = fp6.mulBy01(a[1], b3, b4);
+        long[][][] c1 = fp6.mulBy01(fp6.add(a[0], a[1]), fp2.add(b0, b3), b4);
+        c1 = fp6.sub(c1, fp6.add(aa, bb));
+        return new long[][][][] { fp6.add(fp6.mulByNonResidue(bb), aa), c1 };
+    }
+
+    @Override
+    public long[][][][] inv(long[][][][] a) {
+        long[][][] t = fp6.inv(fp6.sub(fp6.sqr(a[0]), fp6.mulByNonResidue(fp6.sqr(a[1]))));
+        return new long[][][][] { fp6.mul(a[0], t), fp6.neg(fp6.mul(a[1], t)) };
+    }
+
+    // x -> x^(p^6), the inverse on the cyclotomic subgroup
+    long[][][][] conjugate(long[][][][] a) {
+        return new long[][][][] { a[0], fp6.neg(a[1]) };
+    }
+
+    long[][][][] frobenius(long[][][][] a) {
+        long[][][] c0 = new long[][][] {
+                fp2.conjugate(a[0][0]),
+                fp2.mul(fp2.conjugate(a[0][1]), frobenius[2]),
+                fp2.mul(fp2.conjugate(a[0][2]), frobenius[4]) };
+        long[][][] c1 = new long[][][] {
+                fp2.mul(fp2.conjugate(a[1][0]), frobenius[1]),
+                fp2.mul(fp2.conjugate(a[1][1]), frobenius[3]),
+                fp2.mul(fp2.conjugate(a[1][2]), frobenius[5]) };
+        return new long[][][][] { c0, c1 };
+    }
+
+    @Override
+    public boolean isZero(long[][][][] a) {
+        return fp6.isZero(a[0]) && fp6.isZero(a[1]);
+    }
+
+    @Override
+    public boolean eq(long[][][][] a, long[][][][] b) {
+        return fp6.eq(a[0], b[0]) && fp6.eq(a[1], b[1]);
+    }
+
+    boolean isOne(long[][][][] a) {
+        return eq(a, one);
+    }
+}
@@ -0,0 +1,119 @@
+package io.venture23zkp.sudoku.curves;
+
+import java.math.BigInteger;
+
+/**
+ * Quadratic extension Fp[u] / (u^2 + 1); an element is {c0, c1} = c0 + c1 * u.
+ * The non-residue used by the higher extensions is xi = k + u.
+ */
+final class Fp2 implements FieldOps<long[][]> {
+
+    final Fp fp;
+    private final int xiReal;
+    private final long[][] zero;
+    private final long[][] one;
+
+    Fp2(Fp fp, int xiReal) {
+        this.fp = fp;
+        this.xiReal = xiReal;
+        this.zero = new long[][] { fp.zero(), fp.zero() };
+        this.one = new long[][] { fp.one(), fp.zero() };
+    }
+
+    long[][] of(BigInteger real, BigInteger imaginary) {
+        return new long[][] { fp.fromBigInteger(real), fp.fromBigInteger(imaginary) };
+    }
+
+    @Override
+    public long[][] zero() {
+        return zero;
+    }
+
+    @Override
+    public long[][] one() {
+        return one;
+    }
+
+    @Override
+    public long[][] add(long[][] a, long[][] b) {
+        return new long[][] { fp.add(a[0], b[0]), fp.add(a[1], b[1]) };
+    }
+
+    @Override
+    public long[][] sub(long[][] a, long[][] b) {
+        return new long[][] { fp.sub(a[0], b[0]), fp.sub(a[1], b[1]) };
+    }
+
+    @Override
+    public long[][] neg(long[][] a) {
+        return new long[][] { fp.neg(a[0]), fp.neg(a[1]) };
+    }
+
+    long[][] dbl(long[][] a) {
+        return add(a, a);
+    }
+
+    // Karatsuba: (a0 + a1 u)(b0 + b1 u) = a0 b0 - a1 b1 + ((a0 + a1)(b0 + b1) - a0 b0 - a1 b1) u
+    @Override
+    public long[][] mul(long[][] a, long[][] b) {
+        long[] aa = fp.mul(a[0], b[0]);
+        long[] bb = fp.mul(a[1], b[1]);
+        long[] cross = fp.mul(fp.add(a[0], a[1]), fp.add(b[0], b[1]));
+        return new long[][] { fp.sub(aa, bb), fp.sub(fp.sub(cross, aa), bb) };
+    }
+
+    // (a0 + a1 u)^2 = (a0 + a1)(a0 - a1) + 2 a0 a1 u
+    @Override
+    public long[][] sqr(long[][] a) {
+        long[] ab = fp.mul(a[0], a[1]);
+        return new long[][] { fp.mul(fp.add(a[0], a[1]), fp.sub(a[0], a[1])), fp.add(ab, ab) };
+    }
+
+    long[][] mulByFp(long[][] a, long[] s) {
+        return new long[][] { fp.mul(a[0], s), fp.mul(a[1], s) };
+    }
+
+    // (a0 + a1 u)(k + u) = (k a0 - a1) + (a0 + k a1) u
+    long[][] mulByNonResidue(long[][] a) {
+        long[] ka0 = a[0];
+        long[] ka1 = a[1];
+        for (int i = 1; i < xiReal; i++) {
+            ka0 = fp.add(ka0, a[0]);
+            ka1 = fp.add(ka1, a[1]);
+        }
+        return new long[][] { fp.sub(ka0, a[1]), fp.add(a[0], ka1) };
+    }
+
+    @Override
+    public long[][] inv(long[][] a) {
+        long[] norm = fp.add(fp.sqr(a[0]), fp.sqr(a[1]));
+        long[] t = fp.inv(norm);
+        return new long[][] { fp.mul(a[0], t), fp.neg(fp.mul(a[1], t)) };
+    }
+
+    // x -> x^p is conjugation since p = 3 mod 4
+    long[][] conjugate(long[][] a) {
+        return new long[][] { a[0], fp.neg(a[1]) };
+    }
+
+    long[][] pow(long[][] a, BigInteger e) {
+        long[][] r = one;
+        for (int i = e.bitLength() - 1; i >= 0; i--) {
+            r = sqr(r);
+            if (e.testBit(i)) {
+                r = mul(r, a);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public boolean isZero(long[][] a) {
+        return fp.isZero(a[0]) && fp.isZero(a[1]);
+    }
+
+    @Override
+    public boolean eq(long[][] a, long[][] b) {
+        return fp.eq(a[0], b[0]) && fp.eq(a[1], b[1]);
+    }
+}
@@ -0,0 +1,112 @@
+package io.venture23zkp.sudoku.curves;
+
+/**
+ * Cubic extension Fp2[v] / (v^3 - xi); an element is {c0, c1, c2} = c0 + c1 * v + c2 * v^2.
+ */
+final class Fp6 implements FieldOps<long[][][]> {
+
+    final Fp2 fp2;
+    private final long[][][] zero;
+    private final long[][][] one;
+
+    Fp6(Fp2 fp2) {
+        this.fp2 = fp2;
+        this.zero = new long[][][] { fp2.zero(), fp2.zero(), fp2.zero() };
+        this.one = new long[][][] { fp2.one(), fp2.zero(), fp2.zero() };
+    }
+
+    @Override
+    public long[][][] zero() {
+        return zero;
+    }
+
+    @Override
+    public long[][][] one() {
+        return one;
+    }
+
+    @Override
+    public long[][][] add(long[][][] a, long[][][] b) {
+        return new long[][][] { fp2.add(a[0], b[0]), fp2.add(a[1], b[1]), fp2.add(a[2], b[2]) };
+    }
+
+    @Override
+    public long[][][] sub(long[][][] a, long[][][] b) {
+        return new long[][][] { fp2.sub(a[0], b[0]), fp2.sub(a[1], b[1]), fp2.sub(a[2], b[2]) };
+    }
+
+    @Override
+    public long[][][] neg(long[][][] a) {
+        return new long[][][] { fp2.neg(a[0]), fp2.neg(a[1]), fp2.neg(a[2]) };
+    }
+
+    @Override
+    public long[][][] mul(long[][][] a, long[][][] b) {
+        long[][] aa = fp2.mul(a[0], b[0]);
+        long[][] bb = fp2.mul(a[1], b[1]);
+        long[][] cc = fp2.mul(a[2], b[2]);
+        long[][] t1 = fp2.mul(fp2.add(a[1], a[2]), fp2.add(b[1], b[2]));
+        t1 = fp2.add(fp2.mulByNonResidue(fp2.sub(fp2.sub(t1, bb), cc)), aa);
+        long[][] t2 = fp2.mul(fp2.add(a[0], a[1]), fp2.add(b[0], b[1]));
+        t2 = fp2.add(fp2.sub(fp2.sub(t2, aa), bb), fp2.mulByNonResidue(cc));
+        long[][] t3 = fp2.mul(fp2.add(a[0], a[2]), fp2.add(b[0], b[2]));
+        t3 = fp2.sub(fp2.add(fp2.sub(t3, aa), bb), cc);
+        return new long[][][] { t1, t2, t3 };
+    }
+
+    @Override
+    public long[][][] sqr(long[][][] a) {
+        return mul(a, a);
+    }
+
+    /**
+     * Multiplies by the sparse element b0 + b1 * v.
+     */
+    long[][][] mulBy01(long[][][] a, long[][] b0, long[][] b1) {
+        long[][] aa = fp2.mul(a[0], b0);
+        long[][] bb = fp2.mul(a[1], b1);
+        long[][] t1 = fp2.mul(fp2.add(a[1], a[2]), b1);
+        t1 = fp2.add(fp2.mulByNonResidue(fp2.sub(t1, bb)), aa);
+        long[][] t2 = fp2.mul(fp2.add(b0, b1), fp2.add(a[0], a[1]));
+        t2 = fp2.sub(fp2.sub(t2, aa), bb);
+        long[][] t3 = fp2.mul(fp2.add(a[0], a[2]), b0);
+        t3 = fp2.add(fp2.sub(t3, aa), bb);
+        return new long[][][] { t1, t2, t3 };
+    }
+
+    /**
+     * Multiplies by the sparse element b1 * v.
+     */
+    long[][][] mulBy1(long[][][] a, long[][] b1) {
+        long[][] bb = fp2.mul(a[1], b1);
+        long[][] t1 = fp2.mulByNonResidue(fp2.sub(fp2.mul(fp2.add(a[1], a[2]), b1), bb));
+        long[][] t2 = fp2.sub(fp2.mul(fp2.add(a[0], a[1]), b1), bb);
+        return new long[][][] { t1, t2, bb };
+    }
+
+    // (c0 + c1 v + c2 v^2) * v = xi c2 + c0 v + c1 v^2
+    long[][][] mulByNonResidue(long[][][] a) {
+        return new long[][][] { fp2.mulByNonResidue(a[2]), a[0], a[1] };
+    }
+
+    @Override
+    public long[][][] inv(long[][][] a) {
+        long[][] c0 = fp2.sub(fp2.sqr(a[0]), fp2.mulByNonResidue(fp2.mul(a[1], a[2])));
+        long[][] c1 = fp2.sub(fp2.mulByNonResidue(fp2.sqr(a[2])), fp2.mul(a[0], a[1]));
+        long[][] c2 = fp2.sub(fp2.sqr(a[1]), fp2.mul(a[0], a[2]));
+        long[][] t = fp2.add(fp2.mul(a[0], c0),
+                fp2.mulByNonResidue(fp2.add(fp2.mul(a[2], c1), fp2.mul(a[1], c2))));
+        t = fp2.inv(t);
+        return new long[][][] { fp2.mul(c0, t), fp2.mul(c1, t), fp2.mul(c2, t) };
+    }
+
+    @Override
+    public boolean isZero(long[][][] a) {
+        return fp2.isZero(a[0]) && fp2.isZero(a[1]) && fp2.isZero(a[2]);
+    }
+
+    @Override
+    public boolean eq(long[][][] a, long[][][] b) {
+        return fp2.eq(a[0], b[0]) && fp2.eq(a[1], b[1]) && fp2.eq(a[2], b[2]);
+    }
+}
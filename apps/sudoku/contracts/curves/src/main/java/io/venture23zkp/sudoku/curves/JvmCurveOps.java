@@ -0,0 +1,202 @@
+package io.venture23zkp.sudoku.curves;
+
+import io.venture23zkp.sudoku.Curve;
+import io.venture23zkp.sudoku.CurveOps;
+import io.venture23zkp.sudoku.PointCompression;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * {@link CurveOps} computed on the JVM, for running the verifiers without a node.
+ * Accepts the curve names and uncompressed encodings of {@code score.Context}:
+ * {@code bn128} and {@code bls12-381}, with {@code -g1} / {@code -g2} for the group operations.
+ * With {@code compressed} set, points in and out use the {@link PointCompression} encoding.
+ * Invalid points are rejected with {@link IllegalArgumentException}.
+ */
+public final class JvmCurveOps implements CurveOps {
+
+    public static final JvmCurveOps INSTANCE = new JvmCurveOps();
+
+    private JvmCurveOps() {
+    }
+
+    @Override
+    public byte[] ecAdd(String curve, byte[] data, boolean compressed) {
+        if (compressed) {
+            boolean g1 = isG1(curve);
+            return compress(curve, g1, ecAdd(curve, decompress(curve, data, g1, !g1), false));
+        }
+        CurveEngine engine = engine(curve);
+        if (isG1(curve)) {
+            checkLength(data.length, engine.g1Size);
+            ShortWeierstrass.Point<long[]> sum = engine.g1.infinity();
+            for (int off = 0; off < data.length; off += engine.g1Size) {
+                long[][] p = engine.readG1(data, off);
+                if (p != null) {
+                    sum = engine.g1.add(sum, engine.g1.fromAffine(p[0], p[1]));
+                }
+            }
+            byte[] out = new byte[engine.g1Size];
+            engine.writeG1(sum, out, 0);
+            return out;
+        }
+        checkLength(data.length, engine.g2Size);
+        ShortWeierstrass.Point<long[][]> sum = engine.g2.infinity();
+        for (int off = 0; off < data.length; off += engine.g2Size) {
+            long[][][] q = engine.readG2(data, off);
+            if (q != null) {
+                sum = engine.g2.add(sum, engine.g2.fromAffine(q[0], q[1]));
+            }
+        }
+        byte[] out = new byte[engine.g2Size];
+        engine.writeG2(sum, out, 0);
+        return out;
+    }
+
+    @Override
+    public byte[] ecScalarMul(String curve, byte[] scalar, byte[] data, boolean compressed) {
+        if (compressed) {
+            boolean g1 = isG1(curve);
+            byte[] point = decompress(curve, data, g1, !g1);
+            return compress(curve, g1, ecScalarMul(curve, scalar, point, false));
+        }
+        CurveEngine engine = engine(curve);
+        BigInteger k = new BigInteger(1, scalar).mod(engine.order);
+        if (isG1(curve)) {
+            if (data.length != engine.g1Size) {
+                throw new IllegalArgumentException("ecScalarMul: invalid data length " + data.length);
+            }
+            long[][] p = engine.readG1(data, 0);
+            byte[] out = new byte[engine.g1Size];
+            engine.writeG1(p == null ? engine.g1.infinity() : engine.g1.mul(engine.g1.fromAffine(p[0], p[1]), k),
+                    out, 0);
+            return out;
+        }
+        if (data.length != engine.g2Size) {
+            throw new IllegalArgumentException("ecScalarMul: invalid data length " + data.length);
+        }
+        long[][][] q = engine.readG2(data, 0);
+        byte[] out = new byte[engine.g2Size];
+        engine.writeG2(q == null ? engine.g2.infinity() : engine.g2.mul(engine.g2.fromAffine(q[0], q[1]), k),
+                out, 0);
+        return out;
+    }
+
+    @Override
+    public boolean ecPairingCheck(String curve, byte[] data, boolean compressed) {
+        if (compressed) {
+            return ecPairingCheck(curve, decompress(curve, data, true, true), false);
+        }
+        CurveEngine engine = engine(curve);
+        int pairSize = engine.g1Size + engine.g2Size;
+        checkLength(data.length, pairSize);
+        int n = data.length / pairSize;
+        long[][][] ps = new long[n][][];
+        long[][][][] qs = new long[n][][][];
+        for (int i = 0; i < n; i++) {
+            ps[i] = engine.readG1(data, i * pairSize);
+            qs[i] = engine.readG2(data, i * pairSize + engine.g1Size);
+        }
+        return engine.pairing.check(ps, qs);
+    }
+
+    @Override
+    public byte[] hash(String algorithm, byte[] msg) {
+        String name;
+        switch (algorithm) {
+            case "sha-256":
+                name = "SHA-256";
+                break;
+            case "sha3-256":
+                name = "SHA3-256";
+                break;
+            default:
+                throw new IllegalArgumentException("hash: unsupported algorithm " + algorithm);
+        }
+        try {
+            return MessageDigest.getInstance(name).digest(msg);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static CurveEngine engine(String curve) {
+        if (curve.startsWith("bn128")) {
+            return CurveEngine.BN128;
+        }
+        if (curve.startsWith("bls12-381")) {
+            return CurveEngine.BLS12_381;
+        }
+        throw new IllegalArgumentException("unsupported curve " + curve);
+    }
+
+    private static Curve params(String curve) {
+        return engine(curve) == CurveEngine.BN128 ? Curve.BN128 : Curve.BLS12_381;
+    }
+
+    // the uncompressed encoding of each point in data: G1 points, G2 points, or (G1, G2) pairs
+    private static byte[] decompress(String curve, byte[] data, boolean g1, boolean g2) {
+        Curve c = params(curve);
+        // a compressed G1 point is one base field element
+        int size = PointCompression.g1Size(c);
+        int g1In = size;
+        int g2In = PointCompression.g2Size(c);
+        int unit = (g1 ? g1In : 0) + (g2 ? g2In : 0);
+        checkLength(data.length, unit);
+        int n = data.length / unit;
+        byte[] out = new byte[n * ((g1 ? 2 * size : 0) + (g2 ? 4 * size : 0))];
+        int in = 0;
+        int off = 0;
+        for (int i = 0; i < n; i++) {
+            if (g1) {
+                BigInteger[] p = PointCompression.decompressG1(c, Arrays.copyOfRange(data, in, in + g1In));
+                in += g1In;
+                for (BigInteger v : p) {
+                    off = writeFixed(v, out, off, size);
+                }
+            }
+            if (g2) {
+                BigInteger[][] q = PointCompression.decompressG2(c, Arrays.copyOfRange(data, in, in + g2In));
+                in += g2In;
+                for (BigInteger[] coordinate : q) {
+                    for (BigInteger v : coordinate) {
+                        off = writeFixed(v, out, off, size);
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    private static byte[] compress(String curve, boolean g1, byte[] point) {
+        Curve c = params(curve);
+        return g1 ? PointCompression.compressG1(c, point) : PointCompression.compressG2(c, point);
+    }
+
+    // decompressed coordinates always fit: PointCompression masks the flags off x
+    private static int writeFixed(BigInteger v, byte[] out, int off, int size) {
+        byte[] b = v.toByteArray();
+        int len = Math.min(b.length, size);
+        System.arraycopy(b, b.length - len, out, off + size - len, len);
+        return off + size;
+    }
+
+    private static boolean isG1(String curve) {
+        if (curve.endsWith("-g1")) {
+            return true;
+        }
+        if (curve.endsWith("-g2")) {
+            return false;
+        }
+        throw new IllegalArgumentException("curve " + curve + " does not name a group");
+    }
+
+    private static void checkLength(int length, int unit) {
+        if (length == 0 || length % unit != 0) {
+            throw new IllegalArgumentException("invalid data length " + length);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.venture23zkp.sudoku.curves;
+
+import io.venture23zkp.sudoku.CurveOps;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wraps a {@link CurveOps} and records, per operation, how often it is called, how many
+ * input bytes it receives and how long it takes. Step charges for the EC operations grow
+ * with the call count and the number of points, so the first two are what a cost budget
+ * should be written against; the elapsed time is informational.
+ */
+public final class MeteredCurveOps implements CurveOps {
+
+    public enum Op {
+        EC_ADD, EC_SCALAR_MUL, EC_PAIRING_CHECK, HASH
+    }
+
+    public static final class Counter {
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+
+        public long calls() {
+            return calls.get();
+        }
+
+        public long bytes() {
+            return bytes.get();
+        }
+
+        public long nanos() {
+            return nanos.get();
+        }
+
+        private void record(int inputBytes, long elapsed) {
+            calls.incrementAndGet();
+            bytes.addAndGet(inputBytes);
+            nanos.addAndGet(elapsed);
+        }
+
+        private void reset() {
+            calls.set(0);
+            bytes.set(0);
+            nanos.set(0);
+        }
+    }
+
+    private final CurveOps delegate;
+    private final Map<Op, Counter> counters = new EnumMap<>(Op.class);
+
+    public MeteredCurveOps(CurveOps delegate) {
+        this.delegate = delegate;
+        for (Op op : Op.values()) {
+            counters.put(op, new Counter());
+        }
+    }
+
+    public Counter get(Op op) {
+        return counters.get(op);
+    }
+
+    public void reset() {
+        for (Counter counter : counters.values()) {
+            counter.reset();
+        }
+    }
+
+    @Override
+    public byte[] ecAdd(String curve, byte[] data, boolean compressed) {
+        long start = System.nanoTime();
+        byte[] result = delegate.ecAdd(curve, data, compressed);
+        counters.get(Op.EC_ADD).record(data.length, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public byte[] ecScalarMul(String curve, byte[] scalar, byte[] data, boolean compressed) {
+        long start = System.nanoTime();
+        byte[] result = delegate.ecScalarMul(curve, scalar, data, compressed);
+        counters.get(Op.EC_SCALAR_MUL).record(scalar.length + data.length, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public boolean ecPairingCheck(String curve, byte[] data, boolean compressed) {
+        long start = System.nanoTime();
+        boolean result = delegate.ecPairingCheck(curve, data, compressed);
+        counters.get(Op.EC_PAIRING_CHECK).record(data.length, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public byte[] hash(String algorithm, byte[] msg) {
+        long start = System.nanoTime();
+        byte[] result = delegate.hash(algorithm, msg);
+        counters.get(Op.HASH).record(msg.length, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * One line per operation: calls, input bytes and total time in microseconds.
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<Op, Counter> e : counters.entrySet()) {
+            Counter c = e.getValue();
+            sb.append(String.format("%-16s calls=%d bytes=%d us=%d%n",
+                    e.getKey(), c.calls(), c.bytes(), c.nanos() / 1000));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,110 @@
+package io.venture23zkp.sudoku.curves;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Multi-scalar multiplication sum(k_i * P_i) with Pippenger's bucket method. Scalars are
+ * cut into c-bit windows; per window every base is added once into the bucket of its
+ * digit, and the buckets are summed with a running sum. Each (window, chunk of bases)
+ * pair is an independent task on the fork-join pool the call runs in; the partial
+ * window sums are then combined with c doublings per window.
+ */
+final class Msm {
+
+    private Msm() {
+    }
+
+    /**
+     * @param bases   affine base i (z = 1), or null for the point at infinity
+     * @param scalars canonical little-endian limbs per base
+     * @param bits    bit length of the scalar field
+     */
+    static <E> ShortWeierstrass.Point<E> msm(ShortWeierstrass<E> g, IntFunction<ShortWeierstrass.Point<E>> bases,
+                                             long[][] scalars, int bits) {
+        int n = scalars.length;
+        if (n == 0) {
+            return g.infinity();
+        }
+        int c = windowBits(n);
+        int windows = (bits + c - 1) / c;
+        int parallelism = ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool().getParallelism()
+                : ForkJoinPool.getCommonPoolParallelism();
+        // enough tasks to keep every worker busy, without chunks so small the bucket sums dominate
+        int chunks = Math.max(1, Math.min((n + 255) / 256, (4 * parallelism + windows - 1) / windows));
+        int chunkSize = (n + chunks - 1) / chunks;
+
+        ShortWeierstrass.Point<E>[] partial = points(windows * chunks);
+        IntStream.range(0, windows * chunks).parallel().forEach(task -> {
+            int window = task / chunks;
+            int from = (task % chunks) * chunkSize;
+            partial[task] = windowSum(g, bases, scalars, window * c, c, from, Math.min(n, from + chunkSize));
+        });
+
+        ShortWeierstrass.Point<E> result = g.infinity();
+        for (int window = windows - 1; window >= 0; window--) {
+            for (int i = 0; i < c; i++) {
+                result = g.dbl(result);
+            }
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                result = g.add(result, partial[window * chunks + chunk]);
+            }
+        }
+        return result;
+    }
+
+    // roughly log2(n) - 2, the usual balance of bucket additions against bucket count
+    static int windowBits(int n) {
+        int log = 31 - Integer.numberOfLeadingZeros(n);
+        return Math.max(2, Math.min(16, log - 2));
+    }
+
+    private static <E> ShortWeierstrass.Point<E> windowSum(ShortWeierstrass<E> g,
+                                                          IntFunction<ShortWeierstrass.Point<E>> bases,
+                                                          long[][] scalars, int shift, int c, int from, int to) {
+        ShortWeierstrass.Point<E>[] buckets = points((1 << c) - 1);
+        for (int i = from; i < to; i++) {
+            int digit = digit(scalars[i], shift, c);
+            if (digit == 0) {
+                continue;
+            }
+            ShortWeierstrass.Point<E> base = bases.apply(i);
+            if (base == null) {
+                continue;
+            }
+            ShortWeierstrass.Point<E> bucket = buckets[digit - 1];
+            buckets[digit - 1] = bucket == null ? base : g.addMixed(bucket, base.x, base.y);
+        }
+        // sum(d * bucket[d]) as the sum of the running sums from the top bucket down
+        ShortWeierstrass.Point<E> running = g.infinity();
+        ShortWeierstrass.Point<E> sum = g.infinity();
+        for (int d = buckets.length - 1; d >= 0; d--) {
+            if (buckets[d] != null) {
+                running = g.add(running, buckets[d]);
+            }
+            sum = g.add(sum, running);
+        }
+        return sum;
+    }
+
+    // arrays cannot be created with a type argument; the elements are only ever Point<E>
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <E> ShortWeierstrass.Point<E>[] points(int n) {
+        return new ShortWeierstrass.Point[n];
+    }
+
+    private static int digit(long[] scalar, int shift, int c) {
+        int limb = shift >>> 6;
+        if (limb >= scalar.length) {
+            return 0;
+        }
+        int offset = shift & 63;
+        long v = scalar[limb] >>> offset;
+        if (offset + c > 64 && limb + 1 < scalar.length) {
+            v |= scalar[limb + 1] << (64 - offset);
+        }
+        return (int) (v & ((1L << c) - 1));
+    }
+}
@@ -0,0 +1,224 @@
+package io.venture23zkp.sudoku.curves;
+
+import java.math.BigInteger;
+
+/**
+ * Optimal ate pairing over a BN or BLS12 tower. The G2 point walks the Miller loop in
+ * homogeneous projective coordinates and every step multiplies f by a sparse line. All pairs
+ * of a multi-pairing share one loop and one final exponentiation.
+ */
+final class Pairing {
+
+    private final Fp fp;
+    private final Fp2 fp2;
+    private final Fp12 fp12;
+    private final long[][] twistB;
+    private final long[] twoInv;
+    // the line is (c0, c1, c2) on 0, 3, 4 for a D-type twist (b' = b / xi), on 0, 1, 4 for M-type
+    private final boolean dTwist;
+    // signed digits of the loop count, most significant first, leading 1 dropped
+    private final int[] loop;
+    private final boolean loopNegative;
+    // BN only: the two extra lines with pi(Q) and -pi^2(Q)
+    private final boolean bn;
+    private final long[][] frobeniusX;
+    private final long[][] frobeniusY;
+    // (p^4 - p^2 + 1) / r in base p, least significant first
+    private final long[][] hardPart;
+
+    Pairing(Fp12 fp12, long[][] twistB, boolean dTwist, int[] loop, boolean loopNegative, boolean bn,
+            BigInteger r) {
+        this.fp12 = fp12;
+        this.fp2 = fp12.fp2;
+        this.fp = fp2.fp;
+        this.twistB = twistB;
+        this.twoInv = fp.inv(fp.add(fp.one(), fp.one()));
+        this.dTwist = dTwist;
+        this.loop = loop;
+        this.loopNegative = loopNegative;
+        this.bn = bn;
+        BigInteger p = fp.modulus;
+        long[][] xi = fp2.mulByNonResidue(fp2.one());
+        this.frobeniusX = fp2.pow(xi, p.subtract(BigInteger.ONE).divide(BigInteger.valueOf(3)));
+        this.frobeniusY = fp2.pow(xi, p.subtract(BigInteger.ONE).shiftRight(1));
+        BigInteger p2 = p.multiply(p);
+        BigInteger h = p2.multiply(p2).subtract(p2).add(BigInteger.ONE).divide(r);
+        this.hardPart = new long[4][];
+        for (int i = 0; i < 4; i++) {
+            BigInteger[] qr = h.divideAndRemainder(p);
+            this.hardPart[i] = Fp.toLimbs(qr[1], fp.n);
+            h = qr[0];
+        }
+    }
+
+    /**
+     * Returns true if prod e(ps[i], qs[i]) == 1. Null entries are points at infinity.
+     */
+    boolean check(long[][][] ps, long[][][][] qs) {
+        return fp12.isOne(finalExponentiation(millerLoop(ps, qs)));
+    }
+
+    long[][][][] millerLoop(long[][][] ps, long[][][][] qs) {
+        int n = 0;
+        for (int i = 0; i < ps.length; i++) {
+            if (ps[i] != null && qs[i] != null) {
+                n++;
+            }
+        }
+        long[][][] p = new long[n][][];
+        long[][][][] q = new long[n][][][];
+        long[][][][] negQ = new long[n][][][];
+        long[][][][] r = new long[n][][][];
+        for (int i = 0, k = 0; i < ps.length; i++) {
+            if (ps[i] != null && qs[i] != null) {
+                p[k] = ps[i];
+                q[k] = qs[i];
+                negQ[k] = new long[][][] { qs[i][0], fp2.neg(qs[i][1]) };
+                r[k] = new long[][][] { qs[i][0], qs[i][1], fp2.one() };
+                k++;
+            }
+        }
+
+        long[][][][] f = fp12.one();
+        for (int i = 0; i < loop.length; i++) {
+            if (i != 0) {
+                f = fp12.sqr(f);
+            }
+            for (int k = 0; k < n; k++) {
+                f = ell(f, doubleStep(r[k]), p[k]);
+            }
+            if (loop[i] != 0) {
+                for (int k = 0; k < n; k++) {
+                    f = ell(f, addStep(r[k], loop[i] > 0 ? q[k] : negQ[k]), p[k]);
+                }
+            }
+        }
+        if (loopNegative) {
+            f = fp12.conjugate(f);
+        }
+        if (bn) {
+            for (int k = 0; k < n; k++) {
+                long[][][] q1 = frobenius(q[k]);
+                long[][][] q2 = frobenius(q1);
+                q2 = new long[][][] { q2[0], fp2.neg(q2[1]) };
+                f = ell(f, addStep(r[k], q1), p[k]);
+                f = ell(f, addStep(r[k], q2), p[k]);
+            }
+        }
+        return f;
+    }
+
+    long[][][][] finalExponentiation(long[][][][] f) {
+        // easy part: f^((p^6 - 1)(p^2 + 1))
+        long[][][][] t = fp12.mul(fp12.conjugate(f), fp12.inv(f));
+        t = fp12.mul(fp12.frobenius(fp12.frobenius(t)), t);
+
+        // hard part: prod frob^i(t)^d_i with (p^4 - p^2 + 1) / r = sum d_i p^i
+        long[][][][][] table = new long[16][][][][];
+        table[0] = fp12.one();
+        long[][][][] base = t;
+        for (int i = 0; i < 4; i++) {
+            for (int mask = 1 << i; mask < 1 << (i + 1); mask++) {
+                table[mask] = fp12.mul(table[mask ^ (1 << i)], base);
+            }
+            base = fp12.frobenius(base);
+        }
+        long[][][][] res = fp12.one();
+        for (int limb = fp.n - 1; limb >= 0; limb--) {
+            for (int bit = 63; bit >= 0; bit--) {
+                res = fp12.sqr(res);
+                int mask = 0;
+                for (int i = 0; i < 4; i++) {
+                    mask |= (int) ((hardPart[i][limb] >>> bit) & 1) << i;
+                }
+                if (mask != 0) {
+                    res = fp12.mul(res, table[mask]);
+                }
+            }
+        }
+        return res;
+    }
+
+    private long[][][] frobenius(long[][][] q) {
+        return new long[][][] {
+                fp2.mul(fp2.conjugate(q[0]), frobeniusX),
+                fp2.mul(fp2.conjugate(q[1]), frobeniusY) };
+    }
+
+    private long[][][][] ell(long[][][][] f, long[][][] line, long[][] p) {
+        if (dTwist) {
+            return fp12.mulBy034(f, fp2.mulByFp(line[0], p[1]), fp2.mulByFp(line[1], p[0]), line[2]);
+        }
+        return fp12.mulBy014(f, line[0], fp2.mulByFp(line[1], p[0]), fp2.mulByFp(line[2], p[1]));
+    }
+
+    // doubles r in place and returns the tangent line
+    private long[][][] doubleStep(long[][][] r) {
+        long[][] a = fp2.mulByFp(fp2.mul(r[0], r[1]), twoInv);
+        long[][] b = fp2.sqr(r[1]);
+        long[][] c = fp2.sqr(r[2]);
+        long[][] e = fp2.mul(twistB, fp2.add(fp2.dbl(c), c));
+        long[][] f = fp2.add(fp2.dbl(e), e);
+        long[][] g = fp2.mulByFp(fp2.add(b, f), twoInv);
+        long[][] h = fp2.sub(fp2.sqr(fp2.add(r[1], r[2])), fp2.add(b, c));
+        long[][] i = fp2.sub(e, b);
+        long[][] j = fp2.sqr(r[0]);
+        long[][] e2 = fp2.sqr(e);
+        r[0] = fp2.mul(a, fp2.sub(b, f));
+        r[1] = fp2.sub(fp2.sqr(g), fp2.add(fp2.dbl(e2), e2));
+        r[2] = fp2.mul(b, h);
+        long[][] j3 = fp2.add(fp2.dbl(j), j);
+        return dTwist ? new long[][][] { fp2.neg(h), j3, i } : new long[][][] { i, j3, fp2.neg(h) };
+    }
+
+    // adds the affine q to r in place and returns the chord line
+    private long[][][] addStep(long[][][] r, long[][][] q) {
+        long[][] theta = fp2.sub(r[1], fp2.mul(q[1], r[2]));
+        long[][] lambda = fp2.sub(r[0], fp2.mul(q[0], r[2]));
+        long[][] c = fp2.sqr(theta);
+        long[][] d = fp2.sqr(lambda);
+        long[][] e = fp2.mul(lambda, d);
+        long[][] f = fp2.mul(r[2], c);
+        long[][] g = fp2.mul(r[0], d);
+        long[][] h = fp2.sub(fp2.add(e, f), fp2.dbl(g));
+        long[][] j = fp2.sub(fp2.mul(theta, q[0]), fp2.mul(lambda, q[1]));
+        r[0] = fp2.mul(lambda, h);
+        r[1] = fp2.sub(fp2.mul(theta, fp2.sub(g, h)), fp2.mul(e, r[1]));
+        r[2] = fp2.mul(r[2], e);
+        return dTwist ? new long[][][] { lambda, fp2.neg(theta), j } : new long[][][] { j, fp2.neg(theta), lambda };
+    }
+
+    /**
+     * Signed binary digits of {@code k} without adjacent non-zeros, most significant first,
+     * with the leading 1 dropped.
+     */
+    static int[] naf(BigInteger k) {
+        int[] digits = new int[k.bitLength() + 1];
+        int len = 0;
+        while (k.signum() > 0) {
+            int d = 0;
+            if (k.testBit(0)) {
+                d = k.testBit(1) ? -1 : 1;
+                k = k.subtract(BigInteger.valueOf(d));
+            }
+            digits[len++] = d;
+            k = k.shiftRight(1);
+        }
+        int[] msbFirst = new int[len - 1];
+        for (int i = 0; i < len - 1; i++) {
+            msbFirst[i] = digits[len - 2 - i];
+        }
+        return msbFirst;
+    }
+
+    /**
+     * Plain binary digits of {@code k}, most significant first, with the leading 1 dropped.
+     */
+    static int[] bits(BigInteger k) {
+        int[] msbFirst = new int[k.bitLength() - 1];
+        for (int i = 0; i < msbFirst.length; i++) {
+            msbFirst[i] = k.testBit(k.bitLength() - 2 - i) ? 1 : 0;
+        }
+        return msbFirst;
+    }
+}
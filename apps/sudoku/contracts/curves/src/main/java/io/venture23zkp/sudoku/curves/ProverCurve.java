@@ -0,0 +1,296 @@
+package io.venture23zkp.sudoku.curves;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * G1 and G2 arithmetic of one curve for off-chain proving. Points are read and written
+ * in the layout of snarkjs .zkey files: affine x | y, each base field element
+ * little-endian in Montgomery form with R = 2^(64 * limbs), G2 coordinates real part
+ * first, the point at infinity all zeros. Both fields use the same R as {@link Fp}, so
+ * the limbs are taken over without conversion.
+ */
+public final class ProverCurve {
+
+    public static final ProverCurve BN128 = new ProverCurve("bn128", CurveEngine.BN128);
+    public static final ProverCurve BLS12_381 = new ProverCurve("bls12381", CurveEngine.BLS12_381);
+
+    public static final class G1 {
+        final ShortWeierstrass.Point<long[]> p;
+
+        G1(ShortWeierstrass.Point<long[]> p) {
+            this.p = p;
+        }
+    }
+
+    public static final class G2 {
+        final ShortWeierstrass.Point<long[][]> p;
+
+        G2(ShortWeierstrass.Point<long[][]> p) {
+            this.p = p;
+        }
+    }
+
+    private final String name;
+    private final CurveEngine engine;
+    private final int n8;
+
+    private ProverCurve(String name, CurveEngine engine) {
+        this.name = name;
+        this.engine = engine;
+        this.n8 = engine.fp.limbs() * 8;
+    }
+
+    public static ProverCurve byName(String name) {
+        switch (name) {
+            case "bn128":
+                return BN128;
+            case "bls12381":
+                return BLS12_381;
+            default:
+                throw new IllegalArgumentException("unknown curve: " + name);
+        }
+    }
+
+    /**
+     * Returns the curve whose base field is {@code q}, or null.
+     */
+    public static ProverCurve byBaseField(BigInteger q) {
+        for (ProverCurve curve : new ProverCurve[] { BN128, BLS12_381 }) {
+            if (curve.baseField().equals(q)) {
+                return curve;
+            }
+        }
+        return null;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public BigInteger baseField() {
+        return engine.fp.modulus();
+    }
+
+    public BigInteger scalarField() {
+        return engine.order;
+    }
+
+    /**
+     * Bytes per base field element in the zkey layout.
+     */
+    public int fieldSize() {
+        return n8;
+    }
+
+    public int g1Size() {
+        return 2 * n8;
+    }
+
+    public int g2Size() {
+        return 4 * n8;
+    }
+
+    // construction from canonical affine coordinates, in the verifier's order
+
+    public G1 g1(BigInteger x, BigInteger y) {
+        long[] ax = engine.fp.fromBigInteger(x);
+        long[] ay = engine.fp.fromBigInteger(y);
+        if (!engine.g1.isOnCurve(ax, ay)) {
+            throw new IllegalArgumentException("point is not on G1");
+        }
+        return new G1(engine.g1.fromAffine(ax, ay));
+    }
+
+    /**
+     * @param xy {{x.imaginary, x.real}, {y.imaginary, y.real}}
+     */
+    public G2 g2(BigInteger[][] xy) {
+        long[][] x = engine.fp2.of(xy[0][1], xy[0][0]);
+        long[][] y = engine.fp2.of(xy[1][1], xy[1][0]);
+        if (!engine.g2.isOnCurve(x, y)) {
+            throw new IllegalArgumentException("point is not on G2");
+        }
+        return new G2(engine.g2.fromAffine(x, y));
+    }
+
+    public G1 g1Infinity() {
+        return new G1(engine.g1.infinity());
+    }
+
+    public G2 g2Infinity() {
+        return new G2(engine.g2.infinity());
+    }
+
+    // zkey layout
+
+    /**
+     * Reads and validates one G1 point; for single points such as the key constants.
+     */
+    public G1 readG1(ByteBuffer buf, int offset) {
+        checkRange(buf, offset, 1, g1Size());
+        ShortWeierstrass.Point<long[]> p = baseG1(buf, offset);
+        if (p != null && !engine.g1.isOnCurve(p.x, p.y)) {
+            throw new IllegalArgumentException("point is not on G1");
+        }
+        return new G1(p == null ? engine.g1.infinity() : p);
+    }
+
+    public G2 readG2(ByteBuffer buf, int offset) {
+        checkRange(buf, offset, 1, g2Size());
+        ShortWeierstrass.Point<long[][]> p = baseG2(buf, offset);
+        if (p != null && !engine.g2.isOnCurve(p.x, p.y)) {
+            throw new IllegalArgumentException("point is not on G2");
+        }
+        return new G2(p == null ? engine.g2.infinity() : p);
+    }
+
+    public void writeG1(G1 point, ByteBuffer buf, int offset) {
+        checkRange(buf, offset, 1, g1Size());
+        if (engine.g1.isInfinity(point.p)) {
+            zero(buf, offset, g1Size());
+            return;
+        }
+        ShortWeierstrass.Point<long[]> a = engine.g1.normalize(point.p);
+        putLimbs(buf, offset, a.x);
+        putLimbs(buf, offset + n8, a.y);
+    }
+
+    public void writeG2(G2 point, ByteBuffer buf, int offset) {
+        checkRange(buf, offset, 1, g2Size());
+        if (engine.g2.isInfinity(point.p)) {
+            zero(buf, offset, g2Size());
+            return;
+        }
+        ShortWeierstrass.Point<long[][]> a = engine.g2.normalize(point.p);
+        putLimbs(buf, offset, a.x[0]);
+        putLimbs(buf, offset + n8, a.x[1]);
+        putLimbs(buf, offset + 2 * n8, a.y[0]);
+        putLimbs(buf, offset + 3 * n8, a.y[1]);
+    }
+
+    // multi-scalar multiplication over consecutive zkey points
+
+    /**
+     * Returns sum(scalars[i] * base_i) for the {@code scalars.length} G1 points stored from
+     * {@code offset}. Scalars are canonical little-endian limbs below the group order. The
+     * bases are trusted as they come from the proving key and are not checked to be on
+     * the curve. Runs on the fork-join pool the caller is in, or the common pool.
+     */
+    public G1 msmG1(ByteBuffer bases, int offset, long[][] scalars) {
+        checkRange(bases, offset, scalars.length, g1Size());
+        return new G1(Msm.msm(engine.g1, i -> baseG1(bases, offset + i * g1Size()),
+                scalars, engine.order.bitLength()));
+    }
+
+    public G2 msmG2(ByteBuffer bases, int offset, long[][] scalars) {
+        checkRange(bases, offset, scalars.length, g2Size());
+        return new G2(Msm.msm(engine.g2, i -> baseG2(bases, offset + i * g2Size()),
+                scalars, engine.order.bitLength()));
+    }
+
+    // group operations
+
+    public G1 add(G1 a, G1 b) {
+        return new G1(engine.g1.add(a.p, b.p));
+    }
+
+    public G2 add(G2 a, G2 b) {
+        return new G2(engine.g2.add(a.p, b.p));
+    }
+
+    public G1 neg(G1 a) {
+        return new G1(engine.g1.neg(a.p));
+    }
+
+    public G1 mul(G1 a, BigInteger k) {
+        return new G1(engine.g1.mul(a.p, k.mod(engine.order)));
+    }
+
+    public G2 mul(G2 a, BigInteger k) {
+        return new G2(engine.g2.mul(a.p, k.mod(engine.order)));
+    }
+
+    public boolean isInfinity(G1 a) {
+        return engine.g1.isInfinity(a.p);
+    }
+
+    public boolean isInfinity(G2 a) {
+        return engine.g2.isInfinity(a.p);
+    }
+
+    /**
+     * Affine {x, y} of a finite point.
+     */
+    public BigInteger[] affine(G1 a) {
+        if (isInfinity(a)) {
+            throw new IllegalArgumentException("point at infinity has no affine coordinates");
+        }
+        ShortWeierstrass.Point<long[]> n = engine.g1.normalize(a.p);
+        return new BigInteger[] { engine.fp.toBigInteger(n.x), engine.fp.toBigInteger(n.y) };
+    }
+
+    /**
+     * Affine {{x.imaginary, x.real}, {y.imaginary, y.real}} of a finite point, the order
+     * verifyProof takes.
+     */
+    public BigInteger[][] affine(G2 a) {
+        if (isInfinity(a)) {
+            throw new IllegalArgumentException("point at infinity has no affine coordinates");
+        }
+        ShortWeierstrass.Point<long[][]> n = engine.g2.normalize(a.p);
+        Fp fp = engine.fp;
+        return new BigInteger[][] {
+                { fp.toBigInteger(n.x[1]), fp.toBigInteger(n.x[0]) },
+                { fp.toBigInteger(n.y[1]), fp.toBigInteger(n.y[0]) } };
+    }
+
+    // affine point with z = 1, or null at infinity; absolute reads, safe to share across workers
+    private ShortWeierstrass.Point<long[]> baseG1(ByteBuffer buf, int offset) {
+        long[] x = getLimbs(buf, offset);
+        long[] y = getLimbs(buf, offset + n8);
+        if (engine.fp.isZero(x) && engine.fp.isZero(y)) {
+            return null;
+        }
+        return engine.g1.fromAffine(x, y);
+    }
+
+    private ShortWeierstrass.Point<long[][]> baseG2(ByteBuffer buf, int offset) {
+        long[][] x = { getLimbs(buf, offset), getLimbs(buf, offset + n8) };
+        long[][] y = { getLimbs(buf, offset + 2 * n8), getLimbs(buf, offset + 3 * n8) };
+        if (engine.fp2.isZero(x) && engine.fp2.isZero(y)) {
+            return null;
+        }
+        return engine.g2.fromAffine(x, y);
+    }
+
+    private long[] getLimbs(ByteBuffer buf, int offset) {
+        long[] limbs = new long[n8 / 8];
+        for (int i = 0; i < limbs.length; i++) {
+            limbs[i] = buf.getLong(offset + 8 * i);
+        }
+        return limbs;
+    }
+
+    private void putLimbs(ByteBuffer buf, int offset, long[] limbs) {
+        for (int i = 0; i < limbs.length; i++) {
+            buf.putLong(offset + 8 * i, limbs[i]);
+        }
+    }
+
+    private static void zero(ByteBuffer buf, int offset, int size) {
+        for (int i = 0; i < size; i++) {
+            buf.put(offset + i, (byte) 0);
+        }
+    }
+
+    private static void checkRange(ByteBuffer buf, int offset, int count, int size) {
+        if (buf.order() != ByteOrder.LITTLE_ENDIAN) {
+            throw new IllegalArgumentException("zkey points are little-endian");
+        }
+        if (offset < 0 || (long) offset + (long) count * size > buf.limit()) {
+            throw new IllegalArgumentException("not enough points: " + count + " from " + offset);
+        }
+    }
+}
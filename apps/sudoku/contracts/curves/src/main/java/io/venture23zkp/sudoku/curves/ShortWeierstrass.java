@@ -0,0 +1,149 @@
+package io.venture23zkp.sudoku.curves;
+
+import java.math.BigInteger;
+
+/**
+ * The group y^2 = x^3 + b over a field {@code E}, in Jacobian coordinates
+ * (x, y) = (X / Z^2, Y / Z^3). The point at infinity has Z = 0.
+ */
+final class ShortWeierstrass<E> {
+
+    static final class Point<E> {
+        final E x;
+        final E y;
+        final E z;
+
+        Point(E x, E y, E z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+    }
+
+    final FieldOps<E> f;
+    final E b;
+    private final Point<E> infinity;
+
+    ShortWeierstrass(FieldOps<E> f, E b) {
+        this.f = f;
+        this.b = b;
+        this.infinity = new Point<>(f.one(), f.one(), f.zero());
+    }
+
+    Point<E> infinity() {
+        return infinity;
+    }
+
+    Point<E> fromAffine(E x, E y) {
+        return new Point<>(x, y, f.one());
+    }
+
+    boolean isInfinity(Point<E> p) {
+        return f.isZero(p.z);
+    }
+
+    boolean isOnCurve(E x, E y) {
+        return f.eq(f.sqr(y), f.add(f.mul(f.sqr(x), x), b));
+    }
+
+    /**
+     * Returns the affine (x, y) of a finite point.
+     */
+    Point<E> normalize(Point<E> p) {
+        E zInv = f.inv(p.z);
+        E zInv2 = f.sqr(zInv);
+        return new Point<>(f.mul(p.x, zInv2), f.mul(p.y, f.mul(zInv2, zInv)), f.one());
+    }
+
+    Point<E> neg(Point<E> p) {
+        return new Point<>(p.x, f.neg(p.y), p.z);
+    }
+
+    // dbl-2009-l
+    Point<E> dbl(Point<E> p) {
+        if (isInfinity(p)) {
+            return p;
+        }
+        E a = f.sqr(p.x);
+        E b = f.sqr(p.y);
+        E c = f.sqr(b);
+        E d = f.sub(f.sqr(f.add(p.x, b)), f.add(a, c));
+        d = f.add(d, d);
+        E e = f.add(f.add(a, a), a);
+        E x3 = f.sub(f.sqr(e), f.add(d, d));
+        E c8 = f.add(c, c);
+        c8 = f.add(c8, c8);
+        c8 = f.add(c8, c8);
+        E y3 = f.sub(f.mul(e, f.sub(d, x3)), c8);
+        E z3 = f.mul(p.y, p.z);
+        return new Point<>(x3, y3, f.add(z3, z3));
+    }
+
+    // add-2007-bl
+    Point<E> add(Point<E> p, Point<E> q) {
+        if (isInfinity(p)) {
+            return q;
+        }
+        if (isInfinity(q)) {
+            return p;
+        }
+        E z1z1 = f.sqr(p.z);
+        E z2z2 = f.sqr(q.z);
+        E u1 = f.mul(p.x, z2z2);
+        E u2 = f.mul(q.x, z1z1);
+        E s1 = f.mul(f.mul(p.y, q.z), z2z2);
+        E s2 = f.mul(f.mul(q.y, p.z), z1z1);
+        E h = f.sub(u2, u1);
+        E r = f.sub(s2, s1);
+        if (f.isZero(h)) {
+            return f.isZero(r) ? dbl(p) : infinity;
+        }
+        r = f.add(r, r);
+        E i = f.add(h, h);
+        i = f.sqr(i);
+        E j = f.mul(h, i);
+        E v = f.mul(u1, i);
+        E x3 = f.sub(f.sub(f.sqr(r), j), f.add(v, v));
+        E s1j = f.mul(s1, j);
+        E y3 = f.sub(f.mul(r, f.sub(v, x3)), f.add(s1j, s1j));
+        E z3 = f.mul(f.sub(f.sub(f.sqr(f.add(p.z, q.z)), z1z1), z2z2), h);
+        return new Point<>(x3, y3, z3);
+    }
+
+    // madd-2007-bl: p + (x, y) for an affine (x, y)
+    Point<E> addMixed(Point<E> p, E x, E y) {
+        if (isInfinity(p)) {
+            return fromAffine(x, y);
+        }
+        E z1z1 = f.sqr(p.z);
+        E u2 = f.mul(x, z1z1);
+        E s2 = f.mul(f.mul(y, p.z), z1z1);
+        E h = f.sub(u2, p.x);
+        E r = f.sub(s2, p.y);
+        if (f.isZero(h)) {
+            return f.isZero(r) ? dbl(p) : infinity;
+        }
+        E hh = f.sqr(h);
+        E i = f.add(hh, hh);
+        i = f.add(i, i);
+        E j = f.mul(h, i);
+        r = f.add(r, r);
+        E v = f.mul(p.x, i);
+        E x3 = f.sub(f.sub(f.sqr(r), j), f.add(v, v));
+        E y1j = f.mul(p.y, j);
+        E y3 = f.sub(f.mul(r, f.sub(v, x3)), f.add(y1j, y1j));
+        E z3 = f.sub(f.sub(f.sqr(f.add(p.z, h)), z1z1), hh);
+        return new Point<>(x3, y3, z3);
+    }
+
+    Point<E> mul(Point<E> p, BigInteger k) {
+        Point<E> r = infinity;
+        for (int i = k.bitLength() - 1; i >= 0; i--) {
+            r = dbl(r);
+            if (k.testBit(i)) {
+                r = add(r, p);
+            }
+        }
+        return r;
+    }
+}
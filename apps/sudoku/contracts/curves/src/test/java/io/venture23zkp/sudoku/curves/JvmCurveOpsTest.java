@@ -0,0 +1,213 @@
+package io.venture23zkp.sudoku.curves;
+
+import io.venture23zkp.sudoku.Curve;
+import io.venture23zkp.sudoku.P1;
+import io.venture23zkp.sudoku.P2;
+import io.venture23zkp.sudoku.PedersenBN128Verifier;
+import io.venture23zkp.sudoku.PointCompression;
+import io.venture23zkp.sudoku.Sha256BLS12381Verifier;
+import io.venture23zkp.sudoku.VerifyingKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JvmCurveOpsTest {
+    private final JvmCurveOps ops = JvmCurveOps.INSTANCE;
+
+    private static Curve curve(int id) {
+        return Curve.byId(id);
+    }
+
+    private static String name(int id) {
+        return id == Curve.BN128.getId() ? "bn128" : "bls12-381";
+    }
+
+    private static CurveEngine engine(int id) {
+        return id == Curve.BN128.getId() ? CurveEngine.BN128 : CurveEngine.BLS12_381;
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        byte[] out = new byte[length];
+        int offset = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, out, offset, part.length);
+            offset += part.length;
+        }
+        return out;
+    }
+
+    private static byte[] hex(String s) {
+        s = s.replace(" ", "");
+        byte[] out = new byte[s.length() / 2];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = (byte) Integer.parseInt(s.substring(2 * i, 2 * i + 2), 16);
+        }
+        return out;
+    }
+
+    // vectors from the EIP-196 and EIP-197 precompile tests
+    @Test
+    void matchesTheBn128PrecompileVectors() {
+        byte[] g = hex("0000000000000000000000000000000000000000000000000000000000000001"
+                + "0000000000000000000000000000000000000000000000000000000000000002");
+        byte[] twoG = hex("030644e72e131a029b85045b68181585d97816a916871ca8d3c208c16d87cfd3"
+                + "15ed738c0e0a7c92e7845f96b2ae9c0a68a6a449e3538fc7ff3ebf7a5a18a2c4");
+        assertArrayEquals(twoG, ops.ecAdd("bn128-g1", concat(g, g), false));
+        assertArrayEquals(hex("0769bf9ac56bea3ff40232bcb1b6bd159315d84715b8e679f2d355961915abf0"
+                        + "2ab799bee0489429554fdb7c8d086475319e63b40b9c5b57cdf1ff3dd9fe2261"),
+                ops.ecScalarMul("bn128-g1", new byte[] { 3 }, g, false));
+
+        assertArrayEquals(hex("2243525c5efd4b9c3d3c45ac0ca3fe4dd85e830a4ce6b65fa1eeaee202839703"
+                        + "301d1d33be6da8e509df21cc35964723180eed7532537db9ae5e7d48f195c915"),
+                ops.ecAdd("bn128-g1", hex("18b18acfb4c2c30276db5411368e7185b311dd124691610c5d3b74034e093dc9"
+                        + "063c909c4720840cb5134cb9f59fa749755796819658d32efc0d288198f37266"
+                        + "07c2b7f58a84bd6145f00c9c2bc0bb1a187f20ff2c92963a88019e7c6a014eed"
+                        + "06614e20c147e940f2d70da3f74c9a17df361706a4485c742bd6788478fa17d7"), false));
+        assertArrayEquals(hex("070a8d6a982153cae4be29d434e8faef8a47b274a053f5a4ee2a6c9c13c31e5c"
+                        + "031b8ce914eba3a9ffb989f9cdd5b0f01943074bf4f0f315690ec3cec6981afc"),
+                ops.ecScalarMul("bn128-g1", hex("00000000000000000000000000000000000000000000000011138ce750fa15c2"),
+                        hex("2bd3e6d0f3b142924f5ca7b49ce5b9d54c4703d7ae5648e61d02268b1a0a9fb7"
+                                + "21611ce0a6af85915e2f1d70300909ce2e49dfad4a4619c8390cae66cefdb204"), false));
+
+        byte[] pairing = hex("1c76476f4def4bb94541d57ebba1193381ffa7aa76ada664dd31c16024c43f59"
+                + "3034dd2920f673e204fee2811c678745fc819b55d3e9d294e45c9b03a76aef41"
+                + "209dd15ebff5d46c4bd888e51a93cf99a7329636c63514396b4a452003a35bf7"
+                + "04bf11ca01483bfa8b34b43561848d28905960114c8ac04049af4b6315a41678"
+                + "2bb8324af6cfc93537a2ad1a445cfd0ca2a71acd7ac41fadbf933c2a51be344d"
+                + "120a2a4cf30c1bf9845f20c6fe39e07ea2cce61f0c9bb048165fe5e4de877550"
+                + "111e129f1cf1097710d41c4ac70fcdfa5ba2023c6ff1cbeac322de49d1b6df7c"
+                + "2032c61a830e3c17286de9462bf242fca2883585b93870a73853face6a6bf411"
+                + "198e9393920d483a7260bfb731fb5d25f1aa493335a9e71297e485b7aef312c2"
+                + "1800deef121f1e76426a00665e5c4479674322d4f75edadd46debd5cd992f6ed"
+                + "090689d0585ff075ec9e99ad690c3395bc4b313370b38ef355acdadcd122975b"
+                + "12c85ea5db8c6deb4aab71808dcb408fe3d1e7690c43d37b4ce6cc0166fa7daa");
+        assertTrue(ops.ecPairingCheck("bn128", pairing, false));
+        // the same pairs with the second G1 point replaced by 2G
+        byte[] other = pairing.clone();
+        System.arraycopy(twoG, 0, other, 192, 64);
+        assertFalse(ops.ecPairingCheck("bn128", other, false));
+    }
+
+    @Test
+    void matchesTheBls12381GeneratorDouble() {
+        byte[] g = hex("17f1d3a73197d7942695638c4fa9ac0fc3688c4f9774b905a14e3a3f171bac586c55e83ff97a1aeffb3af00adb22c6bb"
+                + "08b3f481e3aaa0f1a09e30ed741d8ae4fcf5e095d5d00af600db18cb2c04b3edd03cc744a2888ae40caa232946c5e7e1");
+        byte[] twoG = hex("0572cbea904d67468808c8eb50a9450c9721db309128012543902d0ac358a62ae28f75bb8f1c7c42c39a8c5529bf0f4e"
+                + "166a9d8cabc673a322fda673779d8e3822ba3ecb8670e461f73bb9021d5fd76a4c56d9d4cd16bd1bba86881979749d28");
+        assertArrayEquals(g, P1.generator(Curve.BLS12_381).bytes());
+        assertArrayEquals(twoG, ops.ecAdd("bls12-381-g1", concat(g, g), false));
+        assertArrayEquals(twoG, ops.ecScalarMul("bls12-381-g1", new byte[] { 2 }, g, false));
+    }
+
+    // the snarkjs keys were produced by another implementation, so every point must pass
+    // the curve and subgroup checks unchanged
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1})
+    void acceptsTheBuiltInKeyPoints(int id) {
+        VerifyingKey vk = id == Curve.BN128.getId() ? new PedersenBN128Verifier(ops).verifyingKey()
+                : new Sha256BLS12381Verifier(ops).verifyingKey();
+        int g1Size = P1.generator(curve(id)).bytes().length;
+        int g2Size = P2.generator(curve(id)).bytes().length;
+        byte[] encoded = vk.encode();
+        byte[] one = new byte[] { 1 };
+        // alfa1, beta2, gamma2 and delta2 after the 4-byte header, then IC
+        int[] sizes = { g1Size, g2Size, g2Size, g2Size };
+        int offset = 4;
+        for (int i = 0; offset < encoded.length; i++) {
+            int size = i < sizes.length ? sizes[i] : g1Size;
+            byte[] point = Arrays.copyOfRange(encoded, offset, offset + size);
+            String group = size == g1Size ? "-g1" : "-g2";
+            assertArrayEquals(point, ops.ecScalarMul(name(id) + group, one, point, false), "point " + i);
+            offset += size;
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1})
+    void groupLaw(int id) {
+        byte[] g1 = P1.generator(curve(id)).bytes();
+        byte[] g2 = P2.generator(curve(id)).bytes();
+        byte[] two = new byte[] { 2 };
+        assertArrayEquals(ops.ecScalarMul(name(id) + "-g1", two, g1, false),
+                ops.ecAdd(name(id) + "-g1", concat(g1, g1), false));
+        assertArrayEquals(ops.ecScalarMul(name(id) + "-g2", two, g2, false),
+                ops.ecAdd(name(id) + "-g2", concat(g2, g2), false));
+
+        byte[] order = engine(id).order.toByteArray();
+        assertNull(engine(id).readG1(ops.ecScalarMul(name(id) + "-g1", order, g1, false), 0));
+        assertNull(engine(id).readG2(ops.ecScalarMul(name(id) + "-g2", order, g2, false), 0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1})
+    void pairingIsBilinear(int id) {
+        BigInteger r = engine(id).order;
+        BigInteger a = BigInteger.valueOf(0x1234567890abcdefL);
+        BigInteger b = BigInteger.valueOf(0x0fedcba987654321L);
+        byte[] g1 = P1.generator(curve(id)).bytes();
+        byte[] g2 = P2.generator(curve(id)).bytes();
+        byte[] aP = ops.ecScalarMul(name(id) + "-g1", a.toByteArray(), g1, false);
+        byte[] bQ = ops.ecScalarMul(name(id) + "-g2", b.toByteArray(), g2, false);
+        byte[] negAbP = ops.ecScalarMul(name(id) + "-g1", r.subtract(a.multiply(b).mod(r)).toByteArray(), g1, false);
+
+        assertTrue(ops.ecPairingCheck(name(id), concat(aP, bQ, negAbP, g2), false));
+        assertFalse(ops.ecPairingCheck(name(id), concat(aP, bQ, g1, g2), false));
+        assertFalse(ops.ecPairingCheck(name(id), concat(g1, g2), false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1})
+    void rejectsPointsOffTheCurve(int id) {
+        byte[] g1 = P1.generator(curve(id)).bytes();
+        g1[g1.length - 1] ^= 1;
+        assertThrows(IllegalArgumentException.class, () -> ops.ecAdd(name(id) + "-g1", g1, false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1})
+    void compressedPointsAgreeWithUncompressed(int id) {
+        Curve curve = curve(id);
+        byte[] g1 = P1.generator(curve).bytes();
+        byte[] g2 = P2.generator(curve).bytes();
+        byte[] g1c = PointCompression.compressG1(curve, g1);
+        byte[] g2c = PointCompression.compressG2(curve, g2);
+        byte[] two = new byte[] { 2 };
+
+        byte[] twoG1 = ops.ecAdd(name(id) + "-g1", concat(g1, g1), false);
+        assertArrayEquals(PointCompression.compressG1(curve, twoG1), ops.ecAdd(name(id) + "-g1", concat(g1c, g1c), true));
+        assertArrayEquals(PointCompression.compressG1(curve, twoG1), ops.ecScalarMul(name(id) + "-g1", two, g1c, true));
+        byte[] twoG2 = ops.ecScalarMul(name(id) + "-g2", two, g2, false);
+        assertArrayEquals(PointCompression.compressG2(curve, twoG2), ops.ecAdd(name(id) + "-g2", concat(g2c, g2c), true));
+
+        // e(2 G1, G2) e(-G1, 2 G2) = 1
+        byte[] negG1 = ops.ecScalarMul(name(id) + "-g1", engine(id).order.subtract(BigInteger.ONE).toByteArray(), g1, false);
+        byte[] pairs = concat(PointCompression.compressG1(curve, twoG1), g2c,
+                PointCompression.compressG1(curve, negG1), PointCompression.compressG2(curve, twoG2));
+        assertTrue(ops.ecPairingCheck(name(id), pairs, true));
+        assertFalse(ops.ecPairingCheck(name(id), concat(g1c, g2c), true));
+
+        byte[] infinity = ops.ecScalarMul(name(id) + "-g1", engine(id).order.toByteArray(), g1c, true);
+        assertEquals(PointCompression.g1Size(curve), infinity.length);
+        assertEquals(0x40, infinity[0] & 0xff);
+        assertThrows(IllegalArgumentException.class, () -> ops.ecAdd(name(id) + "-g1", Arrays.copyOf(g1c, 7), true));
+    }
+
+    @Test
+    void hashesWithTheContextAlgorithmNames() {
+        byte[] abc = "abc".getBytes(StandardCharsets.US_ASCII);
+        assertArrayEquals(hex("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad"), ops.hash("sha-256", abc));
+        assertArrayEquals(hex("3a985da74fe225b2045c172d6bd390bd855f086e3e9d525b46bfe24511431532"), ops.hash("sha3-256", abc));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> ops.hash("keccak-256", abc));
+        assertTrue(e.getMessage().contains("keccak-256"), e.getMessage());
+    }
+}
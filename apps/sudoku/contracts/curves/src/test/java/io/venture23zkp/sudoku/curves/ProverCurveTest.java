@@ -0,0 +1,103 @@
+package io.venture23zkp.sudoku.curves;
+
+import io.venture23zkp.sudoku.Curve;
+import io.venture23zkp.sudoku.P1;
+import io.venture23zkp.sudoku.P2;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProverCurveTest {
+
+    private static ProverCurve curve(int id) {
+        return id == Curve.BN128.getId() ? ProverCurve.BN128 : ProverCurve.BLS12_381;
+    }
+
+    private static BigInteger be(byte[] buf, int offset, int len) {
+        return new BigInteger(1, Arrays.copyOfRange(buf, offset, offset + len));
+    }
+
+    private static ProverCurve.G1 g1(int id) {
+        byte[] p = P1.generator(Curve.byId(id)).bytes();
+        int n = p.length / 2;
+        return curve(id).g1(be(p, 0, n), be(p, n, n));
+    }
+
+    private static ProverCurve.G2 g2(int id) {
+        byte[] p = P2.generator(Curve.byId(id)).bytes();
+        int n = p.length / 4;
+        return curve(id).g2(new BigInteger[][] { { be(p, 0, n), be(p, n, n) }, { be(p, 2 * n, n), be(p, 3 * n, n) } });
+    }
+
+    // scalars spanning every window, with zeros and the largest scalar mixed in
+    private static long[][] scalars(BigInteger order, int count, BigInteger[] values) {
+        Random random = new Random(count);
+        long[][] scalars = new long[count][];
+        for (int i = 0; i < count; i++) {
+            BigInteger k = i % 7 == 3 ? BigInteger.ZERO
+                    : i % 11 == 5 ? order.subtract(BigInteger.ONE)
+                    : new BigInteger(order.bitLength() + 8, random).mod(order);
+            values[i] = k;
+            scalars[i] = Fp.toLimbs(k, 4);
+        }
+        return scalars;
+    }
+
+    // bases i * G, so the expected sum is (sum k_i * i) * G; base 0 is the point at infinity
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1})
+    void msmG1MatchesTheScalarSum(int id) {
+        ProverCurve curve = curve(id);
+        ProverCurve.G1 g = g1(id);
+        int count = 1500;
+        ByteBuffer bases = ByteBuffer.allocate(8 + count * curve.g1Size()).order(ByteOrder.LITTLE_ENDIAN);
+        ProverCurve.G1 p = curve.g1Infinity();
+        for (int i = 0; i < count; i++) {
+            curve.writeG1(p, bases, 8 + i * curve.g1Size());
+            p = curve.add(p, g);
+        }
+        BigInteger[] values = new BigInteger[count];
+        long[][] scalars = scalars(curve.scalarField(), count, values);
+        BigInteger expected = BigInteger.ZERO;
+        for (int i = 0; i < count; i++) {
+            expected = expected.add(values[i].multiply(BigInteger.valueOf(i)));
+        }
+        assertArrayEquals(curve.affine(curve.mul(g, expected)), curve.affine(curve.msmG1(bases, 8, scalars)));
+        assertTrue(curve.isInfinity(curve.msmG1(bases, 8, new long[0][])));
+        assertThrows(IllegalArgumentException.class, () -> curve.msmG1(bases, 16, scalars));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1})
+    void msmG2MatchesTheScalarSum(int id) {
+        ProverCurve curve = curve(id);
+        ProverCurve.G2 g = g2(id);
+        int count = 300;
+        ByteBuffer bases = ByteBuffer.allocate(count * curve.g2Size()).order(ByteOrder.LITTLE_ENDIAN);
+        ProverCurve.G2 p = curve.g2Infinity();
+        for (int i = 0; i < count; i++) {
+            curve.writeG2(p, bases, i * curve.g2Size());
+            p = curve.add(p, g);
+        }
+        BigInteger[] values = new BigInteger[count];
+        long[][] scalars = scalars(curve.scalarField(), count, values);
+        BigInteger expected = BigInteger.ZERO;
+        for (int i = 0; i < count; i++) {
+            expected = expected.add(values[i].multiply(BigInteger.valueOf(i)));
+        }
+        BigInteger[][] actual = curve.affine(curve.msmG2(bases, 0, scalars));
+        BigInteger[][] want = curve.affine(curve.mul(g, expected));
+        assertArrayEquals(want[0], actual[0]);
+        assertArrayEquals(want[1], actual[1]);
+        // the zkey layout round-trips
+        assertArrayEquals(curve.affine(curve.mul(g, BigInteger.valueOf(7)))[1],
+                curve.affine(curve.readG2(bases, 7 * curve.g2Size()))[1]);
+    }
+}
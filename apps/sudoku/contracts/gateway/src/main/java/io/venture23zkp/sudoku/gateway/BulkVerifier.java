@@ -0,0 +1,151 @@
+package io.venture23zkp.sudoku.gateway;
+
+import io.venture23zkp.sudoku.Curve;
+import io.venture23zkp.sudoku.CurveOps;
+import io.venture23zkp.sudoku.Groth16Verifier;
+import io.venture23zkp.sudoku.PedersenBN128Verifier;
+import io.venture23zkp.sudoku.ProofValidator;
+import io.venture23zkp.sudoku.Sha256BLS12381Verifier;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Verifies a stream of proofs across a fork-join pool. Each proof goes through the same
+ * checks and pairing as {@code verifyProof} on chain, against the curve backend the
+ * verifiers were built with; the checks run once, through {@code checkProof}. At most {@code 4 * parallelism} proofs are in flight, so a
+ * large input file is verified in constant memory.
+ */
+public final class BulkVerifier {
+
+    public static final class Stats {
+        final AtomicLong total = new AtomicLong();
+        final AtomicLong valid = new AtomicLong();
+        final AtomicLong invalid = new AtomicLong();
+        final AtomicLong unreadable = new AtomicLong();
+        long elapsedNanos;
+
+        public long total() {
+            return total.get();
+        }
+
+        public long valid() {
+            return valid.get();
+        }
+
+        public long invalid() {
+            return invalid.get();
+        }
+
+        public long unreadable() {
+            return unreadable.get();
+        }
+
+        public double proofsPerSecond() {
+            return elapsedNanos == 0 ? 0 : total.get() * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("total=%d valid=%d invalid=%d unreadable=%d elapsed=%.3fs rate=%.1f/s",
+                    total(), valid(), invalid(), unreadable(), elapsedNanos / 1e9, proofsPerSecond());
+        }
+    }
+
+    private final Map<String, Groth16Verifier> verifiers;
+    private final int parallelism;
+
+    /**
+     * @param verifiers verifier per curve name ({@code bn128}, {@code bls12381})
+     */
+    public BulkVerifier(Map<String, Groth16Verifier> verifiers, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.verifiers = verifiers;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * The contract's built-in verifiers. Built here rather than lazily so worker threads
+     * never race on the verifiers' static key caches.
+     */
+    public static Map<String, Groth16Verifier> builtinVerifiers(CurveOps ops) {
+        Map<String, Groth16Verifier> verifiers = new HashMap<>();
+        verifiers.put(Curve.BN128.getName(), new PedersenBN128Verifier(ops));
+        verifiers.put(Curve.BLS12_381.getName(), new Sha256BLS12381Verifier(ops));
+        return verifiers;
+    }
+
+    public Verdict verify(ProofRecord record) {
+        long start = System.nanoTime();
+        if (record.error != null) {
+            return new Verdict(record.id, record.curve, false, Verdict.UNREADABLE, record.error, 0);
+        }
+        Groth16Verifier verifier = verifiers.get(record.curve);
+        if (verifier == null) {
+            return new Verdict(record.id, record.curve, false, Verdict.UNREADABLE,
+                    "unknown curve " + record.curve, 0);
+        }
+        try {
+            int reason = verifier.checkProof(record.a, record.b, record.c, record.input);
+            // validated once: verifyProof would run the same checks again
+            boolean valid = reason == ProofValidator.OK && verifier.verifyPrepared(
+                    verifier.prepareInputs(record.input), verifier.proof(record.a, record.b, record.c));
+            return new Verdict(record.id, record.curve, valid, reason, null, System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            // the backend rejects points outside the prime-order subgroup by throwing
+            return new Verdict(record.id, record.curve, false, Verdict.BACKEND_ERROR, e.getMessage(),
+                    System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Verifies every record and hands each verdict to {@code sink}, one at a time but in
+     * completion order. Returns once all verdicts are delivered.
+     */
+    public Stats verifyAll(Iterator<ProofRecord> records, Consumer<Verdict> sink) throws InterruptedException {
+        Stats stats = new Stats();
+        Semaphore window = new Semaphore(4 * parallelism);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long start = System.nanoTime();
+        try {
+            while (records.hasNext()) {
+                ProofRecord record = records.next();
+                window.acquire();
+                pool.execute(() -> {
+                    try {
+                        Verdict verdict = verify(record);
+                        count(stats, verdict);
+                        synchronized (sink) {
+                            sink.accept(verdict);
+                        }
+                    } finally {
+                        window.release();
+                    }
+                });
+            }
+            window.acquire(4 * parallelism);
+        } finally {
+            pool.shutdown();
+        }
+        stats.elapsedNanos = System.nanoTime() - start;
+        return stats;
+    }
+
+    private static void count(Stats stats, Verdict verdict) {
+        stats.total.incrementAndGet();
+        if (verdict.valid) {
+            stats.valid.incrementAndGet();
+        } else if (verdict.reason == Verdict.UNREADABLE) {
+            stats.unreadable.incrementAndGet();
+        } else {
+            stats.invalid.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package io.venture23zkp.sudoku.gateway;
+
+import io.venture23zkp.sudoku.Groth16Verifier;
+import io.venture23zkp.sudoku.ProofValidator;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies proofs submitted one at a time from many threads by coalescing them, per
+ * curve, into micro-batches. A batch is closed once it holds {@code maxBatch} proofs or
+ * {@code maxDelayMicros} after its first proof arrived, whichever comes first, and is then
+ * checked with one {@link Groth16Verifier#verifyBatch} call: a single pairing product
+ * over a random linear combination of the proofs instead of one per proof.
+ *
+ * <p>A batch that fails holds at least one invalid proof. It is split in half and each
+ * half is checked again; when the first half passes, the second is known to fail and is
+ * split without being checked. A batch with k invalid proofs among n costs about
+ * {@code 2k log(n / k)} combined checks rather than n single ones.
+ *
+ * <p>Proofs are validated with {@code checkProof} on the submitting thread, so malformed
+ * proofs are answered at once and never poison a batch. The checks run only there: the
+ * batches and single proofs go straight to the pairing.
+ */
+public final class CoalescingVerifier implements AutoCloseable {
+
+    private static final class Pending {
+        final ProofRecord record;
+        final long start;
+        final CompletableFuture<Verdict> future = new CompletableFuture<>();
+        // set once checkProof has accepted the record
+        Groth16Verifier.Proof proof;
+        // set when the backend threw while checking this proof on its own
+        String error;
+
+        Pending(ProofRecord record, long start) {
+            this.record = record;
+            this.start = start;
+        }
+    }
+
+    // the open batch of one curve
+    private final class Lane {
+        final Groth16Verifier verifier;
+        private List<Pending> open = new ArrayList<>();
+        private ScheduledFuture<?> deadline;
+        private boolean closed;
+
+        Lane(Groth16Verifier verifier) {
+            this.verifier = verifier;
+        }
+
+        synchronized void add(Pending pending) {
+            if (closed) {
+                pending.future.completeExceptionally(new IllegalStateException("verifier is closed"));
+                return;
+            }
+            open.add(pending);
+            if (open.size() >= maxBatch) {
+                close();
+            } else if (open.size() == 1) {
+                deadline = timer.schedule(this::expire, maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private synchronized void expire() {
+            if (!open.isEmpty()) {
+                close();
+            }
+        }
+
+        // hands the open batch to the workers now and refuses later proofs
+        synchronized void drain() {
+            closed = true;
+            if (!open.isEmpty()) {
+                close();
+            }
+        }
+
+        private void close() {
+            List<Pending> batch = open;
+            open = new ArrayList<>();
+            if (deadline != null) {
+                deadline.cancel(false);
+                deadline = null;
+            }
+            try {
+                workers.execute(() -> settle(verifier, batch));
+            } catch (RejectedExecutionException e) {
+                for (Pending pending : batch) {
+                    pending.future.completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private final Map<String, Lane> lanes = new HashMap<>();
+    private final int maxBatch;
+    private final long maxDelayNanos;
+    private final ScheduledExecutorService timer;
+    private final ForkJoinPool workers;
+    private final ServiceMetrics metrics = new ServiceMetrics();
+
+    /**
+     * @param verifiers   verifier per curve name ({@code bn128}, {@code bls12381})
+     * @param parallelism threads running the pairing checks
+     */
+    public CoalescingVerifier(Map<String, Groth16Verifier> verifiers, int maxBatch, long maxDelayMicros,
+                              int parallelism) {
+        if (maxBatch < 1 || maxDelayMicros < 0 || parallelism < 1) {
+            throw new IllegalArgumentException("maxBatch and parallelism must be positive");
+        }
+        for (Map.Entry<String, Groth16Verifier> e : verifiers.entrySet()) {
+            lanes.put(e.getKey(), new Lane(e.getValue()));
+        }
+        this.maxBatch = maxBatch;
+        this.maxDelayNanos = TimeUnit.MICROSECONDS.toNanos(maxDelayMicros);
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "coalescer-timer");
+            t.setDaemon(true);
+            return t;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        this.timer = timer;
+        this.workers = new ForkJoinPool(parallelism);
+    }
+
+    public ServiceMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the verdict for one proof once its batch is settled, or at once if the
+     * record cannot be verified or fails validation.
+     */
+    public CompletableFuture<Verdict> submit(ProofRecord record) {
+        Pending pending = new Pending(record, System.nanoTime());
+        if (record.error != null) {
+            complete(pending, false, Verdict.UNREADABLE, record.error);
+            return pending.future;
+        }
+        Lane lane = lanes.get(record.curve);
+        if (lane == null) {
+            complete(pending, false, Verdict.UNREADABLE, "unknown curve " + record.curve);
+            return pending.future;
+        }
+        int reason;
+        try {
+            reason = lane.verifier.checkProof(record.a, record.b, record.c, record.input);
+        } catch (RuntimeException e) {
+            complete(pending, false, Verdict.BACKEND_ERROR, e.getMessage());
+            return pending.future;
+        }
+        if (reason != ProofValidator.OK) {
+            complete(pending, false, reason, null);
+            return pending.future;
+        }
+        pending.proof = lane.verifier.proof(record.a, record.b, record.c);
+        lane.add(pending);
+        return pending.future;
+    }
+
+    /**
+     * Stops accepting proofs. The open batches are closed at once rather than at their
+     * deadline, and every batch handed to the workers is still settled, so each future
+     * returned by {@link #submit} completes. Proofs submitted afterwards complete
+     * exceptionally.
+     */
+    @Override
+    public void close() {
+        for (Lane lane : lanes.values()) {
+            lane.drain();
+        }
+        timer.shutdownNow();
+        workers.shutdown();
+    }
+
+    private void settle(Groth16Verifier verifier, List<Pending> batch) {
+        // proofs whose caller gave up on them are not checked
+        batch.removeIf(pending -> pending.future.isDone());
+        if (batch.isEmpty()) {
+            return;
+        }
+        metrics.batch(batch.size());
+        try {
+            settle(verifier, batch, 0, batch.size(), false);
+        } catch (RuntimeException e) {
+            for (Pending pending : batch) {
+                if (!pending.future.isDone()) {
+                    complete(pending, false, Verdict.BACKEND_ERROR, e.getMessage());
+                }
+            }
+        }
+    }
+
+    // knownInvalid: the range holds an invalid proof, so its combined check can be skipped
+    private void settle(Groth16Verifier verifier, List<Pending> batch, int from, int to, boolean knownInvalid) {
+        boolean valid = !knownInvalid && check(verifier, batch, from, to);
+        if (valid) {
+            for (int i = from; i < to; i++) {
+                complete(batch.get(i), true, ProofValidator.OK, null);
+            }
+            return;
+        }
+        if (to - from == 1) {
+            Pending pending = batch.get(from);
+            complete(pending, false, pending.error != null ? Verdict.BACKEND_ERROR : ProofValidator.OK, pending.error);
+            return;
+        }
+        metrics.bisection();
+        int mid = (from + to) >>> 1;
+        boolean firstValid = check(verifier, batch, from, mid);
+        if (firstValid) {
+            for (int i = from; i < mid; i++) {
+                complete(batch.get(i), true, ProofValidator.OK, null);
+            }
+            settle(verifier, batch, mid, to, true);
+        } else {
+            settle(verifier, batch, from, mid, true);
+            settle(verifier, batch, mid, to, false);
+        }
+    }
+
+    private boolean check(Groth16Verifier verifier, List<Pending> batch, int from, int to) {
+        metrics.pairingCheck();
+        try {
+            if (to - from == 1) {
+                Pending pending = batch.get(from);
+                ProofRecord r = pending.record;
+                try {
+                    return verifier.verifyPrepared(verifier.prepareInputs(r.input), pending.proof);
+                } catch (RuntimeException e) {
+                    pending.error = e.getMessage();
+                    return false;
+                }
+            }
+            int n = to - from;
+            Groth16Verifier.Proof[] proofs = new Groth16Verifier.Proof[n];
+            BigInteger[][] inputs = new BigInteger[n][];
+            for (int i = 0; i < n; i++) {
+                Pending pending = batch.get(from + i);
+                proofs[i] = pending.proof;
+                inputs[i] = pending.record.input;
+            }
+            return verifier.verifyBatch(inputs, proofs);
+        } catch (RuntimeException e) {
+            // the backend rejects points outside the prime-order subgroup by throwing
+            return false;
+        }
+    }
+
+    private void complete(Pending pending, boolean valid, int reason, String message) {
+        ProofRecord r = pending.record;
+        Verdict verdict = new Verdict(r.id, r.curve, valid, reason, message, System.nanoTime() - pending.start);
+        metrics.verdict(verdict);
+        pending.future.complete(verdict);
+    }
+}
@@ -0,0 +1,466 @@
+package io.venture23zkp.sudoku.gateway;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Pull parser for a stream of snarkjs proofs. Records may sit one per line or back to back;
+ * each is one of:
+ * <ul>
+ * <li>an object holding a proof.json as {@code proof} (or its fields inlined) and the
+ * public.json array as {@code publicSignals} or {@code public};</li>
+ * <li>an object holding {@code calldata}, either as the nested array or as the
+ * {@code zkey export javacalldata} text in a string;</li>
+ * <li>the bare javacalldata text: {@code [a],[[b],[b]],[c],[input]}.</li>
+ * </ul>
+ * Objects may carry an {@code id} (default: the record's ordinal) and a {@code curve}
+ * (default: the proof's own {@code curve} field, then the parser's default). Unknown fields
+ * are skipped.
+ *
+ * <p>The parser reads through a fixed character buffer and builds no JSON tree: each field
+ * element, decimal or {@code 0x} hex, is accumulated straight from the characters into a
+ * 48-byte big-endian buffer, wide enough for both curves, and becomes a {@code BigInteger} only as
+ * it is stored into {@code a}, {@code b}, {@code c} or {@code input}. Memory use does not
+ * depend on the size of the input. A malformed record comes back as
+ * {@link ProofRecord#invalid}, and parsing resumes on the next line.
+ */
+public final class ProofParser implements Iterator<ProofRecord> {
+    private static final int MAX_WIDTH = 48;
+
+    private final Reader in;
+    private final String defaultCurve;
+    private final char[] buf = new char[1 << 16];
+    private int pos;
+    private int limit;
+
+    private final int[] limbs = new int[MAX_WIDTH / 4];
+    private final byte[] scratch = new byte[MAX_WIDTH];
+    private final StringBuilder name = new StringBuilder();
+    private BigInteger[] elements = new BigInteger[16];
+    private int size;
+    private long ordinal;
+
+    // fields of the record being read
+    private String id;
+    private String curve;
+    private String proofCurve;
+    private BigInteger[] a;
+    private BigInteger[][] b;
+    private BigInteger[] c;
+    private BigInteger[] input;
+
+    public ProofParser(Reader in, String defaultCurve) {
+        this.in = in;
+        this.defaultCurve = defaultCurve;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return peekToken() >= 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ProofRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ordinal++;
+        id = null;
+        curve = null;
+        proofCurve = null;
+        a = c = input = null;
+        b = null;
+        try {
+            try {
+                readRecord();
+            } catch (IllegalArgumentException e) {
+                skipLine();
+                return ProofRecord.invalid(id != null ? id : Long.toString(ordinal), e.getMessage());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (id == null) {
+            id = Long.toString(ordinal);
+        }
+        if (a == null || b == null || c == null) {
+            return ProofRecord.invalid(id, "missing proof");
+        }
+        if (input == null) {
+            return ProofRecord.invalid(id, "missing publicSignals");
+        }
+        return new ProofRecord(id, curve != null ? curve : proofCurve != null ? proofCurve : defaultCurve,
+                a, b, c, input);
+    }
+
+    // syntax errors throw; a record that parses but lacks fields is reported by next()
+    private void readRecord() throws IOException {
+        if (peekToken() == '[') {
+            size = 0;
+            do {
+                readElements();
+            } while (peekToken() == ',' && read() == ',');
+            fromCalldata();
+        } else {
+            readObject(true);
+        }
+    }
+
+    private void readObject(boolean top) throws IOException {
+        expect('{');
+        if (peekToken() == '}') {
+            read();
+            return;
+        }
+        do {
+            readName();
+            expect(':');
+            if (top && is("id")) {
+                id = peekToken() == '"' ? readString() : readBareToken();
+            } else if (is("curve")) {
+                if (top) {
+                    curve = readString();
+                } else {
+                    proofCurve = readString();
+                }
+            } else if (top && is("proof")) {
+                readObject(false);
+            } else if (top && is("calldata")) {
+                size = 0;
+                if (peekToken() == '"') {
+                    read();
+                    readCalldataText();
+                } else {
+                    readElements();
+                }
+                fromCalldata();
+            } else if (top && (is("publicSignals") || is("public"))) {
+                size = 0;
+                readElements();
+                input = take(0, size);
+            } else if (is("pi_a")) {
+                a = readPoint();
+            } else if (is("pi_c")) {
+                c = readPoint();
+            } else if (is("pi_b")) {
+                // proof.json keeps Fp2 elements real part first; verifyProof takes the imaginary part first
+                size = 0;
+                readElements();
+                require(size >= 4, "pi_b: expected 2 Fp2 coordinates");
+                b = new BigInteger[][] { { elements[1], elements[0] }, { elements[3], elements[2] } };
+            } else {
+                skipValue();
+            }
+        } while (separator('}'));
+    }
+
+    // projective point as written by snarkjs; z is always 1
+    private BigInteger[] readPoint() throws IOException {
+        size = 0;
+        readElements();
+        require(size >= 2, "expected a point");
+        return take(0, 2);
+    }
+
+    // calldata lists a[2], b[2][2], c[2] and the public inputs, already in verifyProof order
+    private void fromCalldata() {
+        require(size >= 9, "calldata: expected a, b, c and inputs");
+        a = take(0, 2);
+        b = new BigInteger[][] { { elements[2], elements[3] }, { elements[4], elements[5] } };
+        c = take(6, 8);
+        input = take(8, size);
+    }
+
+    private BigInteger[] take(int from, int to) {
+        return Arrays.copyOfRange(elements, from, to);
+    }
+
+    private void add(BigInteger element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = element;
+    }
+
+    // an element, or arbitrarily nested arrays of them, flattened in order
+    private void readElements() throws IOException {
+        int ch = peekToken();
+        if (ch == '"') {
+            read();
+            add(readDigits());
+            expect('"');
+            return;
+        }
+        if (ch != '[') {
+            add(readDigits());
+            return;
+        }
+        read();
+        if (peekToken() == ']') {
+            read();
+            return;
+        }
+        do {
+            readElements();
+        } while (separator(']'));
+    }
+
+    // javacalldata text inside a JSON string: every digit run is an element
+    private void readCalldataText() throws IOException {
+        while (true) {
+            int ch = peek();
+            if (ch < 0) {
+                throw new IllegalArgumentException("unterminated string");
+            }
+            if (ch == '"') {
+                read();
+                return;
+            }
+            if (ch >= '0' && ch <= '9') {
+                add(readDigits());
+            } else {
+                read();
+                if (ch == '\\') {
+                    read();
+                }
+            }
+        }
+    }
+
+    // decimal, or hex after 0x, accumulated into the fixed-width limbs a batch of digits at a time
+    private BigInteger readDigits() throws IOException {
+        Arrays.fill(limbs, 0);
+        int radix = 10;
+        int digits = 0;
+        if (peek() == '0') {
+            read();
+            digits++;
+            int x = peek();
+            if (x == 'x' || x == 'X') {
+                read();
+                radix = 16;
+                digits = 0;
+            }
+        }
+        // 9 decimal or 7 hex digits keep the batch multiplier below 2^32
+        int batch = radix == 10 ? 9 : 7;
+        int pending = 0;
+        long chunk = 0;
+        long scale = 1;
+        int d;
+        while ((d = Character.digit(peek(), radix)) >= 0) {
+            read();
+            chunk = chunk * radix + d;
+            scale *= radix;
+            digits++;
+            if (++pending == batch) {
+                mulAdd(scale, chunk);
+                pending = 0;
+                chunk = 0;
+                scale = 1;
+            }
+        }
+        if (pending > 0) {
+            mulAdd(scale, chunk);
+        }
+        require(digits > 0, "expected a field element");
+        for (int i = 0; i < limbs.length; i++) {
+            int limb = limbs[i];
+            scratch[4 * i] = (byte) (limb >>> 24);
+            scratch[4 * i + 1] = (byte) (limb >>> 16);
+            scratch[4 * i + 2] = (byte) (limb >>> 8);
+            scratch[4 * i + 3] = (byte) limb;
+        }
+        return new BigInteger(1, scratch);
+    }
+
+    // limbs = limbs * mul + add, most significant limb first
+    private void mulAdd(long mul, long add) {
+        long carry = add;
+        for (int i = limbs.length - 1; i >= 0; i--) {
+            long v = (limbs[i] & 0xffffffffL) * mul + carry;
+            limbs[i] = (int) v;
+            carry = v >>> 32;
+        }
+        require(carry == 0, "field element wider than " + MAX_WIDTH + " bytes");
+    }
+
+    private void readName() throws IOException {
+        expect('"');
+        name.setLength(0);
+        readStringBody(name);
+    }
+
+    private boolean is(String key) {
+        return key.contentEquals(name);
+    }
+
+    private String readString() throws IOException {
+        expect('"');
+        StringBuilder sb = new StringBuilder();
+        readStringBody(sb);
+        return sb.toString();
+    }
+
+    private void readStringBody(StringBuilder sb) throws IOException {
+        while (true) {
+            int ch = read();
+            if (ch < 0) {
+                throw new IllegalArgumentException("unterminated string");
+            }
+            if (ch == '"') {
+                return;
+            }
+            if (ch == '\\') {
+                ch = read();
+                switch (ch) {
+                    case 'n':
+                        ch = '\n';
+                        break;
+                    case 't':
+                        ch = '\t';
+                        break;
+                    case 'r':
+                        ch = '\r';
+                        break;
+                    case 'b':
+                        ch = '\b';
+                        break;
+                    case 'f':
+                        ch = '\f';
+                        break;
+                    case 'u':
+                        ch = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int d = Character.digit(read(), 16);
+                            require(d >= 0, "bad \\u escape");
+                            ch = ch << 4 | d;
+                        }
+                        break;
+                    default:
+                        require(ch >= 0, "unterminated string");
+                }
+            }
+            sb.append((char) ch);
+        }
+    }
+
+    // a number, true, false or null, as text
+    private String readBareToken() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        int ch;
+        while ((ch = peek()) >= 0 && ",:]} \t\r\n".indexOf(ch) < 0) {
+            sb.append((char) read());
+        }
+        require(sb.length() > 0, "expected a value");
+        return sb.toString();
+    }
+
+    private void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            int ch = peekToken();
+            switch (ch) {
+                case -1:
+                    throw new IllegalArgumentException("unexpected end of input");
+                case '"':
+                    read();
+                    while ((ch = read()) != '"') {
+                        require(ch >= 0, "unterminated string");
+                        if (ch == '\\') {
+                            read();
+                        }
+                    }
+                    break;
+                case '{':
+                case '[':
+                    read();
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    require(depth > 0, "unexpected " + (char) ch);
+                    read();
+                    depth--;
+                    break;
+                case ',':
+                case ':':
+                    require(depth > 0, "unexpected " + (char) ch);
+                    read();
+                    break;
+                default:
+                    readBareToken();
+            }
+        } while (depth > 0);
+    }
+
+    // consumes ',' and returns true, or consumes the closing bracket and returns false
+    private boolean separator(char close) throws IOException {
+        int ch = peekToken();
+        if (ch == ',') {
+            read();
+            return true;
+        }
+        expect(close);
+        return false;
+    }
+
+    private void expect(char expected) throws IOException {
+        int ch = peekToken();
+        if (ch != expected) {
+            throw new IllegalArgumentException("expected '" + expected + "' but found "
+                    + (ch < 0 ? "end of input" : "'" + (char) ch + "'"));
+        }
+        read();
+    }
+
+    private void skipLine() throws IOException {
+        int ch;
+        do {
+            ch = read();
+        } while (ch >= 0 && ch != '\n');
+    }
+
+    private int peekToken() throws IOException {
+        int ch;
+        while ((ch = peek()) == ' ' || ch == '\n' || ch == '\r' || ch == '\t') {
+            pos++;
+        }
+        return ch;
+    }
+
+    private int peek() throws IOException {
+        if (pos == limit) {
+            limit = in.read(buf, 0, buf.length);
+            pos = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buf[pos];
+    }
+
+    private int read() throws IOException {
+        int ch = peek();
+        if (ch >= 0) {
+            pos++;
+        }
+        return ch;
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.venture23zkp.sudoku.gateway;
+
+import java.math.BigInteger;
+
+/**
+ * One proof to verify, in the argument shape of {@code verifyProof(a, b, c, input)}.
+ * A record that could not be parsed carries the parse error instead of a proof.
+ */
+public final class ProofRecord {
+    final String id;
+    final String curve;
+    final BigInteger[] a;
+    final BigInteger[][] b;
+    final BigInteger[] c;
+    final BigInteger[] input;
+    final String error;
+
+    public ProofRecord(String id, String curve, BigInteger[] a, BigInteger[][] b, BigInteger[] c,
+                       BigInteger[] input) {
+        this(id, curve, a, b, c, input, null);
+    }
+
+    private ProofRecord(String id, String curve, BigInteger[] a, BigInteger[][] b, BigInteger[] c,
+                        BigInteger[] input, String error) {
+        this.id = id;
+        this.curve = curve;
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.input = input;
+        this.error = error;
+    }
+
+    public static ProofRecord invalid(String id, String error) {
+        return new ProofRecord(id, null, null, null, null, null, error);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCurve() {
+        return curve;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
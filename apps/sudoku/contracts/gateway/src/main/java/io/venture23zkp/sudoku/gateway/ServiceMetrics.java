@@ -0,0 +1,145 @@
+package io.venture23zkp.sudoku.gateway;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counters of a {@link CoalescingVerifier}: verdicts by outcome, batches and the pairing
+ * checks they took, a histogram of batch sizes in power-of-two buckets, and the latency
+ * from submission to verdict over the most recent {@value #SAMPLES} proofs.
+ */
+public final class ServiceMetrics {
+    static final int SAMPLES = 1 << 14;
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+    private final AtomicLong valid = new AtomicLong();
+    private final AtomicLong invalid = new AtomicLong();
+    private final AtomicLong unreadable = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong pairingChecks = new AtomicLong();
+    private final AtomicLong bisections = new AtomicLong();
+    // bucket k counts batches of (2^(k-1), 2^k] proofs
+    private final AtomicLongArray batchSizes = new AtomicLongArray(32);
+    private final long[] latencies = new long[SAMPLES];
+    private long recorded;
+
+    void verdict(Verdict verdict) {
+        if (verdict.valid) {
+            valid.incrementAndGet();
+        } else if (verdict.reason == Verdict.UNREADABLE) {
+            unreadable.incrementAndGet();
+        } else {
+            invalid.incrementAndGet();
+        }
+        synchronized (latencies) {
+            latencies[(int) (recorded++ % SAMPLES)] = verdict.nanos;
+        }
+    }
+
+    void batch(int size) {
+        batches.incrementAndGet();
+        batchSizes.incrementAndGet(32 - Integer.numberOfLeadingZeros(size - 1));
+    }
+
+    void pairingCheck() {
+        pairingChecks.incrementAndGet();
+    }
+
+    void bisection() {
+        bisections.incrementAndGet();
+    }
+
+    public long proofs() {
+        return valid.get() + invalid.get() + unreadable.get();
+    }
+
+    public long valid() {
+        return valid.get();
+    }
+
+    public long invalid() {
+        return invalid.get();
+    }
+
+    public long unreadable() {
+        return unreadable.get();
+    }
+
+    public long batches() {
+        return batches.get();
+    }
+
+    public long pairingChecks() {
+        return pairingChecks.get();
+    }
+
+    public long bisections() {
+        return bisections.get();
+    }
+
+    /**
+     * Batches of up to {@code 2^k} proofs and more than {@code 2^(k-1)}, indexed by k.
+     */
+    public long[] batchSizeHistogram() {
+        long[] histogram = new long[batchSizes.length()];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = batchSizes.get(i);
+        }
+        return histogram;
+    }
+
+    /**
+     * The latency at percentile {@code p} (0 to 100) of the recent samples, in
+     * microseconds; 0 before the first verdict.
+     */
+    public long latencyMicros(double p) {
+        return percentile(sortedLatencies(), p) / 1000;
+    }
+
+    public String toJson() {
+        long[] sorted = sortedLatencies();
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("{\"proofs\":").append(proofs())
+                .append(",\"valid\":").append(valid())
+                .append(",\"invalid\":").append(invalid())
+                .append(",\"unreadable\":").append(unreadable())
+                .append(",\"batches\":").append(batches())
+                .append(",\"pairingChecks\":").append(pairingChecks())
+                .append(",\"bisections\":").append(bisections())
+                .append(",\"latencyMicros\":{");
+        for (double p : PERCENTILES) {
+            sb.append("\"p").append(p == Math.rint(p) ? Long.toString((long) p) : Double.toString(p))
+                    .append("\":").append(percentile(sorted, p) / 1000).append(',');
+        }
+        sb.append("\"max\":").append(sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1000)
+                .append("},\"batchSizes\":{");
+        boolean first = true;
+        for (int k = 0; k < batchSizes.length(); k++) {
+            long count = batchSizes.get(k);
+            if (count != 0) {
+                sb.append(first ? "\"" : ",\"").append(1L << k).append("\":").append(count);
+                first = false;
+            }
+        }
+        return sb.append("}}").toString();
+    }
+
+    private long[] sortedLatencies() {
+        long[] sorted;
+        synchronized (latencies) {
+            sorted = Arrays.copyOf(latencies, (int) Math.min(recorded, SAMPLES));
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    // nearest rank
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p / 100 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
@@ -0,0 +1,67 @@
+package io.venture23zkp.sudoku.gateway;
+
+/**
+ * The outcome for one proof. {@code reason} is a {@code ProofValidator} code,
+ * {@link #UNREADABLE} if the record could not be parsed or names an unknown curve, or
+ * {@link #BACKEND_ERROR} if the curve backend threw while checking it. A backend error
+ * counts as an invalid proof; the exception message is kept in the verdict.
+ */
+public final class Verdict {
+    public static final int UNREADABLE = -1;
+    public static final int BACKEND_ERROR = -2;
+
+    final String id;
+    final String curve;
+    final boolean valid;
+    final int reason;
+    final String message;
+    final long nanos;
+
+    Verdict(String id, String curve, boolean valid, int reason, String message, long nanos) {
+        this.id = id;
+        this.curve = curve;
+        this.valid = valid;
+        this.reason = reason;
+        this.message = message;
+        this.nanos = nanos;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    public int getReason() {
+        return reason;
+    }
+
+    public String toJson() {
+        StringBuilder sb = new StringBuilder(96).append("{\"id\":");
+        quote(sb, id).append(",\"valid\":").append(valid).append(",\"reason\":").append(reason);
+        if (curve != null) {
+            quote(sb.append(",\"curve\":"), curve);
+        }
+        if (message != null) {
+            quote(sb.append(",\"message\":"), message);
+        }
+        return sb.append(",\"micros\":").append(nanos / 1000).append('}').toString();
+    }
+
+    private static StringBuilder quote(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            if (ch == '"' || ch == '\\') {
+                sb.append('\\').append(ch);
+            } else if (ch < 0x20) {
+                sb.append(String.format("\\u%04x", (int) ch));
+            } else {
+                sb.append(ch);
+            }
+        }
+        return sb.append('"');
+    }
+}
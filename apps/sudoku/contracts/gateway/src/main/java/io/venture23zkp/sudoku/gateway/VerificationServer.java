@@ -0,0 +1,195 @@
+package io.venture23zkp.sudoku.gateway;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.venture23zkp.sudoku.Curve;
+import io.venture23zkp.sudoku.Groth16Verifier;
+import io.venture23zkp.sudoku.VerifyingKey;
+import io.venture23zkp.sudoku.curves.JvmCurveOps;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An embeddable HTTP front end for a {@link CoalescingVerifier}, on the JDK's built-in
+ * server.
+ * <ul>
+ * <li>{@code POST /verify[?curve=bls12381]}: a body of proof records in any form
+ * {@link ProofParser} reads; answers one JSON verdict per line, in request order. The
+ * records of a request and those of concurrent requests share batches.</li>
+ * <li>{@code GET /metrics}: {@link ServiceMetrics#toJson()}.</li>
+ * </ul>
+ * Each exchange runs on its own virtual thread where the runtime has them (Java 21+) and
+ * on a cached pool otherwise; a request thread only parses and then waits for its
+ * verdicts, the pairing checks run on the verifier's workers.
+ */
+public final class VerificationServer implements AutoCloseable {
+    private static final int MAX_RECORDS = 4096;
+
+    private final CoalescingVerifier verifier;
+    private final String defaultCurve;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public VerificationServer(CoalescingVerifier verifier, String defaultCurve, InetSocketAddress address)
+            throws IOException {
+        this.verifier = verifier;
+        this.defaultCurve = defaultCurve;
+        this.server = HttpServer.create(address, 0);
+        this.executor = requestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/verify", this::verify);
+        server.createContext("/metrics", this::metrics);
+    }
+
+    /**
+     * One virtual thread per task, looked up reflectively so the module still targets Java 11.
+     */
+    static ExecutorService requestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+        verifier.close();
+    }
+
+    private void verify(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, "{\"error\":\"use POST\"}\n");
+                return;
+            }
+            String curve = query(exchange.getRequestURI(), "curve", defaultCurve);
+            List<CompletableFuture<Verdict>> verdicts = new ArrayList<>();
+            try (Reader in = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+                ProofParser parser = new ProofParser(in, curve);
+                while (parser.hasNext()) {
+                    if (verdicts.size() == MAX_RECORDS) {
+                        // the proofs already queued are dropped from their batches
+                        for (CompletableFuture<Verdict> verdict : verdicts) {
+                            verdict.cancel(false);
+                        }
+                        respond(exchange, 413, "{\"error\":\"more than " + MAX_RECORDS + " proofs\"}\n");
+                        return;
+                    }
+                    verdicts.add(verifier.submit(parser.next()));
+                }
+            }
+            StringBuilder body = new StringBuilder(verdicts.size() * 96);
+            for (CompletableFuture<Verdict> verdict : verdicts) {
+                body.append(verdict.get().toJson()).append('\n');
+            }
+            respond(exchange, 200, body.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            respond(exchange, 500, "{\"error\":\"internal error\"}\n");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void metrics(HttpExchange exchange) throws IOException {
+        try {
+            respond(exchange, 200, verifier.metrics().toJson() + "\n");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String query(URI uri, String name, String fallback) {
+        String query = uri.getRawQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                String[] kv = pair.split("=", 2);
+                if (kv.length == 2 && kv[0].equals(name)) {
+                    return kv[1];
+                }
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * Command line entry point:
+     * <pre>
+     * VerificationServer [--port 8080] [--threads n] [--batch 32] [--delay-us 2000] [--key curve=vk.bin]...
+     * </pre>
+     */
+    public static void main(String[] args) throws Exception {
+        int port = 8080;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int batch = 32;
+        long delayMicros = 2000;
+        Map<String, Groth16Verifier> verifiers = BulkVerifier.builtinVerifiers(JvmCurveOps.INSTANCE);
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--port":
+                    port = Integer.parseInt(args[++i]);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--batch":
+                    batch = Integer.parseInt(args[++i]);
+                    break;
+                case "--delay-us":
+                    delayMicros = Long.parseLong(args[++i]);
+                    break;
+                case "--key": {
+                    String[] kv = args[++i].split("=", 2);
+                    VerifyingKey vk = VerifyingKey.decode(Files.readAllBytes(Paths.get(kv[1])));
+                    verifiers.put(kv[0], new Groth16Verifier(vk, JvmCurveOps.INSTANCE));
+                    break;
+                }
+                default:
+                    System.err.println("usage: VerificationServer [--port 8080] [--threads n] [--batch 32] "
+                            + "[--delay-us 2000] [--key curve=vk.bin]...");
+                    System.exit(2);
+            }
+        }
+        VerificationServer server = new VerificationServer(new CoalescingVerifier(verifiers, batch, delayMicros,
+                threads), Curve.BN128.getName(), new InetSocketAddress(port));
+        server.start();
+        System.err.printf("listening on %s, batches of up to %d within %d us%n", server.address(), batch,
+                delayMicros);
+    }
+}
@@ -0,0 +1,85 @@
+package io.venture23zkp.sudoku.gateway;
+
+import io.venture23zkp.sudoku.Curve;
+import io.venture23zkp.sudoku.Groth16Verifier;
+import io.venture23zkp.sudoku.VerifyingKey;
+import io.venture23zkp.sudoku.curves.JvmCurveOps;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * Command line entry point:
+ * <pre>
+ * VerifyProofs [--curve bn128|bls12381] [--threads n] [--key curve=vk.bin]... [proofs|-]
+ * </pre>
+ * Writes one JSON verdict per line to stdout and the throughput statistics to stderr.
+ * {@code --key} replaces a built-in key with one in {@link VerifyingKey#encode()} form.
+ * Exits with 1 if any proof was rejected.
+ */
+public final class VerifyProofs {
+
+    private VerifyProofs() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+
+    // the exit status: 0 if every proof verified, 1 otherwise
+    static int run(String[] args, InputStream stdin, OutputStream stdout, PrintStream stderr)
+            throws IOException, InterruptedException {
+        String curve = Curve.BN128.getName();
+        int threads = Runtime.getRuntime().availableProcessors();
+        String file = "-";
+        Map<String, Groth16Verifier> verifiers = BulkVerifier.builtinVerifiers(JvmCurveOps.INSTANCE);
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--curve":
+                    curve = args[++i];
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--key": {
+                    String[] kv = args[++i].split("=", 2);
+                    VerifyingKey vk = VerifyingKey.decode(Files.readAllBytes(Paths.get(kv[1])));
+                    verifiers.put(kv[0], new Groth16Verifier(vk, JvmCurveOps.INSTANCE));
+                    break;
+                }
+                default:
+                    file = args[i];
+            }
+        }
+
+        BufferedReader in = "-".equals(file)
+                ? new BufferedReader(new InputStreamReader(stdin, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(file), StandardCharsets.UTF_8);
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(stdout, StandardCharsets.UTF_8));
+        BulkVerifier.Stats stats;
+        try (BufferedReader r = in) {
+            stats = new BulkVerifier(verifiers, threads).verifyAll(new ProofParser(r, curve), verdict -> {
+                try {
+                    out.write(verdict.toJson());
+                    out.newLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        out.flush();
+        stderr.println(stats);
+        return stats.total() == stats.valid() ? 0 : 1;
+    }
+}
@@ -0,0 +1,196 @@
+package io.venture23zkp.sudoku.gateway;
+
+import io.venture23zkp.sudoku.Curve;
+import io.venture23zkp.sudoku.CurveOps;
+import io.venture23zkp.sudoku.Groth16Verifier;
+import io.venture23zkp.sudoku.TestKeys;
+import io.venture23zkp.sudoku.curves.JvmCurveOps;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkVerifierTest {
+    private static final JvmCurveOps OPS = JvmCurveOps.INSTANCE;
+    private static final TestKeys KEYS = new TestKeys(Curve.BN128, 1, 11, OPS);
+
+    private static ProofRecord prove(String id, long input) {
+        TestKeys.TestProof p = KEYS.prove(BigInteger.valueOf(input));
+        return new ProofRecord(id, Curve.BN128.getName(), p.a, p.b, p.c, new BigInteger[] { BigInteger.valueOf(input) });
+    }
+
+    // a valid proof presented for another input
+    private static ProofRecord forge(String id, long input) {
+        ProofRecord p = prove(id, input);
+        return new ProofRecord(id, p.curve, p.a, p.b, p.c, new BigInteger[] { BigInteger.valueOf(input + 1) });
+    }
+
+    private static BulkVerifier verifier(CurveOps ops, int parallelism) {
+        return new BulkVerifier(Map.of(Curve.BN128.getName(), new Groth16Verifier(KEYS.vk, ops)), parallelism);
+    }
+
+    private static String calldata(ProofRecord p) {
+        return "{\"id\":\"" + p.id + "\",\"calldata\":[[\"" + p.a[0] + "\",\"" + p.a[1] + "\"],[[\"" + p.b[0][0]
+                + "\",\"" + p.b[0][1] + "\"],[\"" + p.b[1][0] + "\",\"" + p.b[1][1] + "\"]],[\"" + p.c[0] + "\",\""
+                + p.c[1] + "\"],[\"" + p.input[0] + "\"]]}\n";
+    }
+
+    // the JvmCurveOps pairing, held back until the gate opens or thrown from
+    private static final class GatedOps implements CurveOps {
+        final CountDownLatch gate;
+        final RuntimeException failure;
+
+        GatedOps(CountDownLatch gate, RuntimeException failure) {
+            this.gate = gate;
+            this.failure = failure;
+        }
+
+        @Override
+        public byte[] ecAdd(String curve, byte[] data, boolean compressed) {
+            return OPS.ecAdd(curve, data, compressed);
+        }
+
+        @Override
+        public byte[] ecScalarMul(String curve, byte[] scalar, byte[] data, boolean compressed) {
+            return OPS.ecScalarMul(curve, scalar, data, compressed);
+        }
+
+        @Override
+        public boolean ecPairingCheck(String curve, byte[] data, boolean compressed) {
+            if (failure != null) {
+                throw failure;
+            }
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return OPS.ecPairingCheck(curve, data, compressed);
+        }
+
+        @Override
+        public byte[] hash(String algorithm, byte[] msg) {
+            return OPS.hash(algorithm, msg);
+        }
+    }
+
+    @Test
+    void countsEveryKindOfVerdict() throws Exception {
+        List<ProofRecord> records = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            records.add(i == 2 ? forge("p" + i, i) : prove("p" + i, i));
+        }
+        records.add(ProofRecord.invalid("bad", "bad json"));
+        ProofRecord p = prove("other", 1);
+        records.add(new ProofRecord("other", "bls12381", p.a, p.b, p.c, p.input));
+
+        List<Verdict> verdicts = new ArrayList<>();
+        BulkVerifier.Stats stats = verifier(OPS, 3).verifyAll(records.iterator(), verdicts::add);
+        assertEquals(8, verdicts.size());
+        assertEquals(8, stats.total());
+        assertEquals(5, stats.valid());
+        assertEquals(1, stats.invalid());
+        assertEquals(2, stats.unreadable());
+        for (Verdict verdict : verdicts) {
+            boolean valid = verdict.getId().startsWith("p") && !verdict.getId().equals("p2");
+            assertEquals(valid, verdict.isValid(), verdict.getId());
+            if (verdict.getId().startsWith("p")) {
+                assertEquals(0, verdict.getReason(), verdict.getId());
+            } else {
+                assertEquals(Verdict.UNREADABLE, verdict.getReason(), verdict.getId());
+            }
+        }
+    }
+
+    @Test
+    void reportsBackendExceptionsWithTheirOwnReason() {
+        BulkVerifier verifier = verifier(new GatedOps(null, new IllegalArgumentException("not in G2")), 1);
+        Verdict verdict = verifier.verify(prove("e", 1));
+        assertFalse(verdict.isValid());
+        assertEquals(Verdict.BACKEND_ERROR, verdict.getReason());
+        assertTrue(verdict.toJson().contains("\"reason\":-2,\"curve\":\"bn128\",\"message\":\"not in G2\""),
+                verdict.toJson());
+    }
+
+    @Test
+    void keepsAtMostFourProofsPerThreadInFlight() throws Exception {
+        CountDownLatch gate = new CountDownLatch(1);
+        BulkVerifier verifier = verifier(new GatedOps(gate, null), 1);
+        ProofRecord record = prove("w", 1);
+        AtomicInteger pulled = new AtomicInteger();
+        Iterator<ProofRecord> records = new Iterator<ProofRecord>() {
+            @Override
+            public boolean hasNext() {
+                return pulled.get() < 20;
+            }
+
+            @Override
+            public ProofRecord next() {
+                pulled.incrementAndGet();
+                return record;
+            }
+        };
+        AtomicReference<BulkVerifier.Stats> stats = new AtomicReference<>();
+        Thread producer = new Thread(() -> {
+            try {
+                stats.set(verifier.verifyAll(records, verdict -> { }));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        // four records held by the window, and a fifth waiting for a permit
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (pulled.get() < 5 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(200);
+        assertEquals(5, pulled.get());
+
+        gate.countDown();
+        producer.join(60_000);
+        assertEquals(20, stats.get().total());
+        assertEquals(20, stats.get().valid());
+    }
+
+    @Test
+    void exitsWithOneIfAnyProofIsRejected() throws Exception {
+        Path key = Files.createTempFile("vk", ".bin");
+        try {
+            Files.write(key, KEYS.vk.encode());
+            String[] args = { "--threads", "2", "--key", "bn128=" + key, "-" };
+            String valid = calldata(prove("a", 1)) + calldata(prove("b", 2));
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ByteArrayOutputStream err = new ByteArrayOutputStream();
+            assertEquals(0, VerifyProofs.run(args, new ByteArrayInputStream(valid.getBytes(StandardCharsets.UTF_8)),
+                    out, new PrintStream(err, true, "UTF-8")));
+            assertEquals(2, out.toString("UTF-8").split("\n").length);
+            assertTrue(err.toString("UTF-8").startsWith("total=2 valid=2 invalid=0 unreadable=0"), err.toString("UTF-8"));
+
+            String mixed = valid + calldata(forge("c", 3)) + "not json\n";
+            out.reset();
+            err.reset();
+            assertEquals(1, VerifyProofs.run(args, new ByteArrayInputStream(mixed.getBytes(StandardCharsets.UTF_8)),
+                    out, new PrintStream(err, true, "UTF-8")));
+            assertTrue(out.toString("UTF-8").contains("{\"id\":\"c\",\"valid\":false,\"reason\":0"), out.toString("UTF-8"));
+            assertTrue(err.toString("UTF-8").startsWith("total=4 valid=2 invalid=1 unreadable=1"), err.toString("UTF-8"));
+        } finally {
+            Files.delete(key);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.venture23zkp.sudoku.gateway;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProofParserTest {
+    // the same proof as proof.json + public.json and as calldata; b is swapped between the two
+    private static final String PROOF_JSON = "{\"id\":\"p\",\"proof\":{\"pi_a\":[\"1\",\"2\",\"1\"],"
+            + "\"pi_b\":[[\"3\",\"4\"],[\"5\",\"6\"],[\"1\",\"0\"]],\"pi_c\":[\"7\",\"8\",\"1\"],"
+            + "\"protocol\":\"groth16\",\"curve\":\"bls12381\"},\"publicSignals\":[\"9\"]}";
+    private static final String CALLDATA = "{\"calldata\":[[\"0x01\",\"0x02\"],[[\"0x04\",\"0x03\"],"
+            + "[\"0x06\",\"0x05\"]],[\"0x07\",\"0x08\"],[\"0x09\"]]}";
+    private static final String CALLDATA_TEXT = "[\"0x01\", \"0x02\"],[[\"0x04\", \"0x03\"],[\"0x06\", \"0x05\"]],"
+            + "[\"0x07\", \"0x08\"],[\"0x09\"]";
+
+    private static List<ProofRecord> parse(String text) {
+        List<ProofRecord> records = new ArrayList<>();
+        new ProofParser(new StringReader(text), "bn128").forEachRemaining(records::add);
+        return records;
+    }
+
+    private static void assertProof(ProofRecord r) {
+        assertNull(r.error, r.error);
+        assertArrayEquals(new BigInteger[] { BigInteger.ONE, BigInteger.TWO }, r.a);
+        assertArrayEquals(new BigInteger[] { BigInteger.valueOf(4), BigInteger.valueOf(3) }, r.b[0]);
+        assertArrayEquals(new BigInteger[] { BigInteger.valueOf(6), BigInteger.valueOf(5) }, r.b[1]);
+        assertArrayEquals(new BigInteger[] { BigInteger.valueOf(7), BigInteger.valueOf(8) }, r.c);
+        assertArrayEquals(new BigInteger[] { BigInteger.valueOf(9) }, r.input);
+    }
+
+    @Test
+    void readsEveryFormIntoTheSameArguments() {
+        String textInString = "{\"calldata\":\"" + CALLDATA_TEXT.replace("\"", "\\\"") + "\"}";
+        List<ProofRecord> records = parse(PROOF_JSON + "\n" + CALLDATA + CALLDATA_TEXT + "\n" + textInString);
+        assertEquals(4, records.size());
+        records.forEach(ProofParserTest::assertProof);
+        assertEquals("p", records.get(0).id);
+        assertEquals("bls12381", records.get(0).curve);
+        assertEquals("2", records.get(1).id);
+        assertEquals("bn128", records.get(1).curve);
+    }
+
+    @Test
+    void decodesFullWidthElements() {
+        BigInteger p = new BigInteger("1a0111ea397fe69a4b1ba7b6434bacd764774b84f38512bf6730d2a0f6b0f6241eabfffe"
+                + "b153ffffb9feffffffffaaab", 16);
+        List<ProofRecord> records = parse("[\"0x" + p.toString(16) + "\",\"" + p + "\"],[[1,2],[3,4]],[5,6],[7]");
+        assertEquals(p, records.get(0).a[0]);
+        assertEquals(p, records.get(0).a[1]);
+
+        String tooWide = BigInteger.ONE.shiftLeft(384).toString();
+        assertNotNull(parse("[" + tooWide + ",2],[[1,2],[3,4]],[5,6],[7]").get(0).error);
+    }
+
+    @Test
+    void resumesAfterAMalformedRecord() {
+        List<ProofRecord> records = parse("{\"id\":\"bad\",\"proof\":{\"pi_a\":[\"x\"]}}\n"
+                + "{\"proof\":{\"pi_a\":[1,2],\"pi_b\":[[3,4],[5,6]],\"pi_c\":[7,8]}}\n" + PROOF_JSON);
+        assertEquals(3, records.size());
+        assertEquals("bad", records.get(0).id);
+        assertNotNull(records.get(0).error);
+        assertEquals("missing publicSignals", records.get(1).error);
+        assertProof(records.get(2));
+    }
+}
@@ -0,0 +1,165 @@
+package io.venture23zkp.sudoku.gateway;
+
+import io.venture23zkp.sudoku.Curve;
+import io.venture23zkp.sudoku.Groth16Verifier;
+import io.venture23zkp.sudoku.TestKeys;
+import io.venture23zkp.sudoku.curves.JvmCurveOps;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerificationServerTest {
+    private static final JvmCurveOps OPS = JvmCurveOps.INSTANCE;
+
+    // one public input on bn128; proofs are solved from the key's trapdoor
+    private static final TestKeys KEYS = new TestKeys(Curve.BN128, 1, 7, OPS);
+    private static final Groth16Verifier VERIFIER = new Groth16Verifier(KEYS.vk, OPS);
+
+    private static ProofRecord prove(String id, BigInteger input) {
+        TestKeys.TestProof p = KEYS.prove(input);
+        return new ProofRecord(id, Curve.BN128.getName(), p.a, p.b, p.c, new BigInteger[] { input });
+    }
+
+    // a valid proof presented for another input
+    private static ProofRecord forge(String id, BigInteger input) {
+        ProofRecord p = prove(id, input);
+        return new ProofRecord(id, p.curve, p.a, p.b, p.c, new BigInteger[] { input.add(BigInteger.ONE) });
+    }
+
+    private static CoalescingVerifier verifier(int maxBatch, long maxDelayMicros) {
+        return new CoalescingVerifier(Map.of(Curve.BN128.getName(), VERIFIER), maxBatch, maxDelayMicros, 2);
+    }
+
+    @Test
+    void bisectsAFailingBatchDownToTheBadProofs() throws Exception {
+        try (CoalescingVerifier verifier = verifier(16, 60_000_000)) {
+            List<CompletableFuture<Verdict>> verdicts = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                BigInteger input = BigInteger.valueOf(100 + i);
+                ProofRecord record = i == 5 || i == 11 ? forge("p" + i, input) : prove("p" + i, input);
+                verdicts.add(verifier.submit(record));
+            }
+            for (int i = 0; i < 16; i++) {
+                Verdict verdict = verdicts.get(i).get();
+                assertEquals("p" + i, verdict.getId());
+                assertEquals(i != 5 && i != 11, verdict.isValid(), "proof " + i);
+            }
+            ServiceMetrics metrics = verifier.metrics();
+            assertEquals(1, metrics.batches());
+            assertEquals(1, metrics.batchSizeHistogram()[4]);
+            assertEquals(14, metrics.valid());
+            assertEquals(2, metrics.invalid());
+            // 16 -> 8 + 8 -> ..., a passing first half settles the second without a check
+            assertEquals(7, metrics.bisections());
+            assertEquals(11, metrics.pairingChecks());
+        }
+    }
+
+    @Test
+    void coalescesConcurrentSubmissionsUntilTheDeadline() throws Exception {
+        try (CoalescingVerifier verifier = verifier(64, 1_000_000)) {
+            List<ProofRecord> records = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                records.add(prove("q" + i, BigInteger.valueOf(i)));
+            }
+            List<CompletableFuture<Verdict>> verdicts = new ArrayList<>();
+            records.parallelStream().map(verifier::submit).forEach(f -> {
+                synchronized (verdicts) {
+                    verdicts.add(f);
+                }
+            });
+            for (CompletableFuture<Verdict> verdict : verdicts) {
+                assertTrue(verdict.get().isValid());
+            }
+            assertEquals(1, verifier.metrics().batches());
+            assertEquals(1, verifier.metrics().pairingChecks());
+
+            // malformed and unknown records never reach a batch
+            assertFalse(verifier.submit(ProofRecord.invalid("x", "bad json")).get().isValid());
+            ProofRecord p = prove("y", BigInteger.ONE);
+            Verdict unknown = verifier.submit(new ProofRecord("y", "bls12381", p.a, p.b, p.c, p.input)).get();
+            assertEquals(Verdict.UNREADABLE, unknown.getReason());
+            assertEquals(1, verifier.metrics().batches());
+            assertEquals(2, verifier.metrics().unreadable());
+        }
+    }
+
+    @Test
+    void settlesTheOpenBatchOnClose() throws Exception {
+        CoalescingVerifier verifier = verifier(64, 60_000_000);
+        CompletableFuture<Verdict> valid = verifier.submit(prove("v", BigInteger.ONE));
+        CompletableFuture<Verdict> forged = verifier.submit(forge("f", BigInteger.TWO));
+        CompletableFuture<Verdict> dropped = verifier.submit(prove("d", BigInteger.TEN));
+        dropped.cancel(false);
+        verifier.close();
+
+        assertTrue(valid.get(30, TimeUnit.SECONDS).isValid());
+        assertFalse(forged.get(30, TimeUnit.SECONDS).isValid());
+        // the cancelled proof was left out of the batch
+        assertEquals(1, verifier.metrics().batchSizeHistogram()[1]);
+        assertEquals(2, verifier.metrics().valid() + verifier.metrics().invalid());
+
+        ExecutionException late = assertThrows(ExecutionException.class,
+                () -> verifier.submit(prove("l", BigInteger.ONE)).get(30, TimeUnit.SECONDS));
+        assertTrue(late.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    void servesVerdictsAndMetricsOverHttp() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            ProofRecord p = i == 1 ? forge("h" + i, BigInteger.TEN) : prove("h" + i, BigInteger.TEN);
+            body.append("{\"id\":\"").append(p.id).append("\",\"calldata\":[[\"").append(p.a[0]).append("\",\"")
+                    .append(p.a[1]).append("\"],[[\"").append(p.b[0][0]).append("\",\"").append(p.b[0][1])
+                    .append("\"],[\"").append(p.b[1][0]).append("\",\"").append(p.b[1][1]).append("\"]],[\"")
+                    .append(p.c[0]).append("\",\"").append(p.c[1]).append("\"],[\"").append(p.input[0])
+                    .append("\"]]}\n");
+        }
+        body.append("not json\n");
+        try (VerificationServer server = new VerificationServer(verifier(16, 1000), "bn128",
+                new InetSocketAddress("127.0.0.1", 0))) {
+            server.start();
+            String base = "http://127.0.0.1:" + server.address().getPort();
+            String[] lines = request(base + "/verify", "POST", body.toString(), 200).split("\n");
+            assertEquals(4, lines.length);
+            assertTrue(lines[0].startsWith("{\"id\":\"h0\",\"valid\":true"), lines[0]);
+            assertTrue(lines[1].startsWith("{\"id\":\"h1\",\"valid\":false"), lines[1]);
+            assertTrue(lines[2].startsWith("{\"id\":\"h2\",\"valid\":true"), lines[2]);
+            assertTrue(lines[3].contains("\"valid\":false,\"reason\":-1"), lines[3]);
+
+            String metrics = request(base + "/metrics", "GET", null, 200);
+            assertTrue(metrics.startsWith("{\"proofs\":4,\"valid\":2,\"invalid\":1,\"unreadable\":1,"), metrics);
+            assertTrue(metrics.contains("\"latencyMicros\":{\"p50\":"), metrics);
+            request(base + "/verify", "GET", null, 405);
+        }
+    }
+
+    private static String request(String url, String method, String body, int status) throws Exception {
+        HttpURLConnection conn = (HttpURLConnection) new URL(url).openConnection();
+        conn.setRequestMethod(method);
+        if (body != null) {
+            conn.setDoOutput(true);
+            try (OutputStream out = conn.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        assertEquals(status, conn.getResponseCode());
+        try (InputStream in = status < 400 ? conn.getInputStream() : conn.getErrorStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.venture23zkp.sudoku.prover;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The sectioned binary container of the iden3 tools (.r1cs, .wtns, .zkey):
+ * magic (4) | version (4) | nSections (4) | { type (4) | size (8) | content }*, all
+ * little-endian. The file is memory-mapped once and every section is a little-endian
+ * view into the mapping; nothing is copied.
+ */
+final class BinFile {
+    private final Path path;
+    private final int version;
+    private final Map<Integer, ByteBuffer> sections = new HashMap<>();
+
+    private BinFile(Path path, int version) {
+        this.path = path;
+        this.version = version;
+    }
+
+    static BinFile open(Path path, String magic) throws IOException {
+        MappedByteBuffer buf;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            // a single mapping is limited to 2 GB, far beyond the sudoku circuits
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(path + ": files over 2 GB are not supported");
+            }
+            buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+        if (buf.limit() < 12) {
+            throw new IllegalArgumentException(path + ": not a " + magic + " file");
+        }
+        byte[] m = new byte[4];
+        for (int i = 0; i < 4; i++) {
+            m[i] = buf.get(i);
+        }
+        if (!magic.equals(new String(m, StandardCharsets.US_ASCII))) {
+            throw new IllegalArgumentException(path + ": not a " + magic + " file");
+        }
+        BinFile file = new BinFile(path, buf.getInt(4));
+        int count = buf.getInt(8);
+        long pos = 12;
+        for (int i = 0; i < count; i++) {
+            if (pos + 12 > buf.limit()) {
+                throw new IllegalArgumentException(path + ": truncated section table");
+            }
+            int type = buf.getInt((int) pos);
+            long length = buf.getLong((int) pos + 4);
+            pos += 12;
+            if (length < 0 || pos + length > buf.limit()) {
+                throw new IllegalArgumentException(path + ": section " + type + " runs past the end of the file");
+            }
+            ByteBuffer section = buf.duplicate();
+            section.position((int) pos).limit((int) (pos + length));
+            file.sections.putIfAbsent(type, section.slice().order(ByteOrder.LITTLE_ENDIAN));
+            pos += length;
+        }
+        return file;
+    }
+
+    int version() {
+        return version;
+    }
+
+    ByteBuffer section(int type) {
+        ByteBuffer section = sections.get(type);
+        if (section == null) {
+            throw new IllegalArgumentException(path + ": missing section " + type);
+        }
+        return section;
+    }
+
+    ByteBuffer optionalSection(int type) {
+        return sections.get(type);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    /**
+     * Reads a field element of {@code fieldSize} little-endian bytes at {@code offset}
+     * as 64-bit limbs, least significant first.
+     */
+    static long[] readLimbs(ByteBuffer buf, int offset, int fieldSize) {
+        long[] limbs = new long[fieldSize / 8];
+        for (int i = 0; i < limbs.length; i++) {
+            limbs[i] = buf.getLong(offset + 8 * i);
+        }
+        return limbs;
+    }
+
+    static BigInteger readBigInteger(ByteBuffer buf, int offset, int fieldSize) {
+        byte[] be = new byte[fieldSize];
+        for (int i = 0; i < fieldSize; i++) {
+            be[fieldSize - 1 - i] = buf.get(offset + i);
+        }
+        return new BigInteger(1, be);
+    }
+}
@@ -0,0 +1,85 @@
+package io.venture23zkp.sudoku.prover;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command line entry point:
+ * <pre>
+ * CheckWitness [--threads n] [--failures n] circuit.r1cs witness.wtns...
+ * </pre>
+ * Checks every witness against the constraint system and prints, per witness, the
+ * throughput and the first failing constraints with their A, B and C values and the
+ * labels of the wires involved (look them up in the circuit's .sym file). A witness that
+ * satisfies every constraint leaves a failing proof to the proof or the verifying key.
+ * Exits with 1 if any witness fails.
+ */
+public final class CheckWitness {
+
+    private CheckWitness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxFailures = 10;
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--failures":
+                    maxFailures = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    files.add(Paths.get(args[i]));
+            }
+        }
+        if (files.size() < 2) {
+            System.err.println("usage: CheckWitness [--threads n] [--failures n] circuit.r1cs witness.wtns...");
+            System.exit(2);
+        }
+
+        R1cs r1cs = R1cs.open(files.get(0));
+        ConstraintChecker checker = new ConstraintChecker(r1cs);
+        String field = r1cs.curveName() != null ? r1cs.curveName() : r1cs.prime().toString();
+        System.out.printf("%s: %s, %d constraints, %d wires, %d public%n",
+                files.get(0), field, r1cs.constraints(), r1cs.wires(), r1cs.publicSignals());
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        int failed = 0;
+        for (Path file : files.subList(1, files.size())) {
+            ConstraintChecker.Report report;
+            try {
+                Witness witness = Witness.open(file);
+                int limit = maxFailures;
+                report = pool.submit(() -> checker.check(witness, limit)).get();
+            } catch (Exception e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                System.out.printf("%s: UNREADABLE %s%n", file, cause.getMessage());
+                failed++;
+                continue;
+            }
+            System.out.printf("%s: %s %s%n", file, report.ok() ? "OK" : "FAILED", report);
+            for (ConstraintChecker.Failure f : report.failures()) {
+                StringBuilder labels = new StringBuilder();
+                for (int wire : f.wires()) {
+                    labels.append(labels.length() == 0 ? "" : ",").append(wire);
+                    long label = r1cs.label(wire);
+                    if (label >= 0) {
+                        labels.append('=').append(label);
+                    }
+                }
+                System.out.printf("  %s wires[=labels] %s%n", f, labels);
+            }
+            if (!report.ok()) {
+                failed++;
+            }
+        }
+        pool.shutdown();
+        System.exit(failed == 0 ? 0 : 1);
+    }
+}
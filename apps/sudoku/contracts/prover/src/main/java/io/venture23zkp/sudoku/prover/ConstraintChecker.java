@@ -0,0 +1,204 @@
+package io.venture23zkp.sudoku.prover;
+
+import io.venture23zkp.sudoku.curves.Fp;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Checks A.w * B.w = C.w for every constraint of an {@link R1cs} against a {@link Witness},
+ * in chunks spread over the fork-join pool the call runs in. The witness is converted to
+ * Montgomery form once; coefficients stay canonical as read from the mapping, so each
+ * term is one Montgomery multiplication that yields the canonical product.
+ */
+public final class ConstraintChecker {
+    private static final int CHUNK = 1024;
+
+    public static final class Failure {
+        final int constraint;
+        final BigInteger a;
+        final BigInteger b;
+        final BigInteger c;
+        final int[] wires;
+
+        Failure(int constraint, BigInteger a, BigInteger b, BigInteger c, int[] wires) {
+            this.constraint = constraint;
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.wires = wires;
+        }
+
+        public int constraint() {
+            return constraint;
+        }
+
+        public BigInteger a() {
+            return a;
+        }
+
+        public BigInteger b() {
+            return b;
+        }
+
+        public BigInteger c() {
+            return c;
+        }
+
+        /**
+         * The distinct wires with a term in A, B or C, in file order.
+         */
+        public int[] wires() {
+            return wires;
+        }
+
+        @Override
+        public String toString() {
+            return "constraint " + constraint + ": A=" + a + " B=" + b + " C=" + c;
+        }
+    }
+
+    public static final class Report {
+        final int constraints;
+        final int failureCount;
+        final List<Failure> failures;
+        final long elapsedNanos;
+
+        Report(int constraints, int failureCount, List<Failure> failures, long elapsedNanos) {
+            this.constraints = constraints;
+            this.failureCount = failureCount;
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public boolean ok() {
+            return failureCount == 0;
+        }
+
+        public int failureCount() {
+            return failureCount;
+        }
+
+        /**
+         * The failing constraints with the lowest indexes, at most as many as requested.
+         */
+        public List<Failure> failures() {
+            return failures;
+        }
+
+        public double constraintsPerSecond() {
+            return elapsedNanos == 0 ? 0 : constraints * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("constraints=%d failed=%d elapsed=%.3fs rate=%.0f/s",
+                    constraints, failureCount, elapsedNanos / 1e9, constraintsPerSecond());
+        }
+    }
+
+    private final R1cs r1cs;
+    private final Fp fp;
+    private final int[] offsets;
+    private final long[] unit;
+
+    public ConstraintChecker(R1cs r1cs) {
+        this.r1cs = r1cs;
+        this.fp = new Fp(r1cs.prime);
+        if (8 * fp.limbs() != r1cs.fieldSize) {
+            throw new IllegalArgumentException(r1cs.path + ": field size " + r1cs.fieldSize
+                    + " does not match the prime");
+        }
+        this.offsets = r1cs.constraintOffsets();
+        this.unit = new long[fp.limbs()];
+        this.unit[0] = 1;
+    }
+
+    /**
+     * Checks every constraint and reports the first {@code maxFailures} failing ones.
+     * Runs on the fork-join pool of the calling thread, or the common pool.
+     */
+    public Report check(Witness witness, int maxFailures) {
+        if (!witness.prime.equals(r1cs.prime)) {
+            throw new IllegalArgumentException(witness.path + ": field does not match " + r1cs.path);
+        }
+        if (witness.count != r1cs.nWires) {
+            throw new IllegalArgumentException(witness.path + ": " + witness.count + " values for "
+                    + r1cs.nWires + " wires");
+        }
+        long start = System.nanoTime();
+        long[][] w = witness.toMontgomery(fp);
+        AtomicInteger failureCount = new AtomicInteger();
+        int chunks = (offsets.length + CHUNK - 1) / CHUNK;
+        List<Failure> failures = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> checkChunk(w, chunk * CHUNK, Math.min(offsets.length, (chunk + 1) * CHUNK),
+                        maxFailures, failureCount))
+                .flatMap(List::stream)
+                .sorted(Comparator.comparingInt(Failure::constraint))
+                .limit(maxFailures)
+                .collect(Collectors.toList());
+        return new Report(offsets.length, failureCount.get(), failures, System.nanoTime() - start);
+    }
+
+    private List<Failure> checkChunk(long[][] w, int from, int to, int maxFailures, AtomicInteger failureCount) {
+        ByteBuffer buf = r1cs.constraints;
+        List<Failure> failures = new ArrayList<>();
+        int[] pos = new int[1];
+        for (int i = from; i < to; i++) {
+            pos[0] = offsets[i];
+            long[] a = evaluate(buf, pos, w, i);
+            long[] b = evaluate(buf, pos, w, i);
+            long[] c = evaluate(buf, pos, w, i);
+            // a, b and c are canonical, so a * b / R must equal c / R
+            if (!fp.eq(fp.mul(a, b), fp.mul(c, unit))) {
+                failureCount.incrementAndGet();
+                if (failures.size() < maxFailures) {
+                    failures.add(new Failure(i, Fp.fromLimbs(a), Fp.fromLimbs(b), Fp.fromLimbs(c), wires(i)));
+                }
+            }
+        }
+        return failures;
+    }
+
+    // sum(coefficient * w[wire]) over one linear combination, advancing pos past it
+    private long[] evaluate(ByteBuffer buf, int[] pos, long[][] w, int constraint) {
+        int p = pos[0];
+        int terms = buf.getInt(p);
+        p += 4;
+        long[] acc = fp.zero();
+        for (int t = 0; t < terms; t++) {
+            int wire = buf.getInt(p);
+            if (wire < 0 || wire >= w.length) {
+                throw new IllegalArgumentException(r1cs.path + ": constraint " + constraint
+                        + " references wire " + wire);
+            }
+            acc = fp.add(acc, fp.mul(BinFile.readLimbs(buf, p + 4, r1cs.fieldSize), w[wire]));
+            p += 4 + r1cs.fieldSize;
+        }
+        pos[0] = p;
+        return acc;
+    }
+
+    private int[] wires(int constraint) {
+        ByteBuffer buf = r1cs.constraints;
+        Set<Integer> wires = new LinkedHashSet<>();
+        int p = offsets[constraint];
+        for (int lc = 0; lc < 3; lc++) {
+            int terms = buf.getInt(p);
+            p += 4;
+            for (int t = 0; t < terms; t++) {
+                wires.add(buf.getInt(p));
+                p += 4 + r1cs.fieldSize;
+            }
+        }
+        return wires.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,154 @@
+package io.venture23zkp.sudoku.prover;
+
+import io.venture23zkp.sudoku.curves.Fp;
+
+import java.math.BigInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * The multiplicative subgroup of the n-th roots of unity in the scalar field, with an
+ * in-place radix-2 number theoretic transform over it. Elements are in Montgomery form.
+ * The roots follow ffjavascript, which snarkjs builds its keys with: for r - 1 = 2^s * t
+ * and g the least quadratic non-residue, the 2^k-th root is (g^t)^(2^(s - k)).
+ */
+final class EvaluationDomain {
+    // stages with fewer butterflies than this run on the calling thread
+    private static final int PARALLEL_THRESHOLD = 1 << 10;
+
+    private final Fp fr;
+    private final int size;
+    private final int log;
+    private final long[][] twiddles;
+    private final long[][] inverseTwiddles;
+    private final long[] sizeInverse;
+    private final long[] cosetShift;
+
+    EvaluationDomain(Fp fr, int size) {
+        if (size < 2 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("domain size " + size + " is not a power of two");
+        }
+        this.fr = fr;
+        this.size = size;
+        this.log = Integer.numberOfTrailingZeros(size);
+        BigInteger r = fr.modulus();
+        BigInteger rMinusOne = r.subtract(BigInteger.ONE);
+        int s = rMinusOne.getLowestSetBit();
+        if (log + 1 > s) {
+            throw new IllegalArgumentException("the field has no roots of unity of order 2^" + (log + 1));
+        }
+        BigInteger t = rMinusOne.shiftRight(s);
+        BigInteger halfOrder = rMinusOne.shiftRight(1);
+        BigInteger g = BigInteger.TWO;
+        while (g.modPow(halfOrder, r).equals(BigInteger.ONE)) {
+            g = g.add(BigInteger.ONE);
+        }
+        BigInteger root2n = g.modPow(t, r).modPow(BigInteger.ONE.shiftLeft(s - log - 1), r);
+        BigInteger root = root2n.multiply(root2n).mod(r);
+        this.twiddles = powers(fr.fromBigInteger(root), size / 2);
+        this.inverseTwiddles = powers(fr.fromBigInteger(root.modInverse(r)), size / 2);
+        this.sizeInverse = fr.fromBigInteger(BigInteger.valueOf(size).modInverse(r));
+        this.cosetShift = fr.fromBigInteger(root2n);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Coefficients to evaluations at the roots of unity.
+     */
+    void fft(long[][] a) {
+        transform(a, twiddles);
+    }
+
+    /**
+     * Evaluations at the roots of unity to coefficients.
+     */
+    void ifft(long[][] a) {
+        transform(a, inverseTwiddles);
+        forEach(size, i -> a[i] = fr.mul(a[i], sizeInverse));
+    }
+
+    /**
+     * Multiplies coefficient i by w^i for the primitive 2n-th root w, so that a following
+     * {@link #fft} evaluates at the odd 2n-th roots, where the vanishing polynomial
+     * x^n - 1 is -2 and does not vanish.
+     */
+    void shiftToCoset(long[][] a) {
+        // chunks start from w^from and walk up by multiplication
+        int chunk = Math.min(size, PARALLEL_THRESHOLD);
+        forEach(size / chunk, size / chunk > 1, c -> {
+            int from = c * chunk;
+            long[] power = pow(cosetShift, from);
+            for (int i = from; i < from + chunk; i++) {
+                a[i] = fr.mul(a[i], power);
+                power = fr.mul(power, cosetShift);
+            }
+        });
+    }
+
+    private void transform(long[][] a, long[][] roots) {
+        if (a.length != size) {
+            throw new IllegalArgumentException("expected " + size + " values, got " + a.length);
+        }
+        for (int i = 1, j = 0; i < size; i++) {
+            int bit = size >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                long[] tmp = a[i];
+                a[i] = a[j];
+                a[j] = tmp;
+            }
+        }
+        for (int stage = 1; stage <= log; stage++) {
+            int half = 1 << (stage - 1);
+            int step = size >> stage;
+            forEach(size / 2, b -> {
+                int j = b & (half - 1);
+                int i = ((b - j) << 1) + j;
+                long[] u = a[i];
+                long[] v = fr.mul(a[i + half], roots[j * step]);
+                a[i] = fr.add(u, v);
+                a[i + half] = fr.sub(u, v);
+            });
+        }
+    }
+
+    private long[][] powers(long[] base, int count) {
+        long[][] powers = new long[count][];
+        powers[0] = fr.one();
+        for (int i = 1; i < count; i++) {
+            powers[i] = fr.mul(powers[i - 1], base);
+        }
+        return powers;
+    }
+
+    private long[] pow(long[] base, int e) {
+        long[] result = fr.one();
+        for (int bit = 31 - Integer.numberOfLeadingZeros(e); bit >= 0; bit--) {
+            result = fr.sqr(result);
+            if (((e >>> bit) & 1) != 0) {
+                result = fr.mul(result, base);
+            }
+        }
+        return result;
+    }
+
+    private static void forEach(int count, IntConsumer body) {
+        forEach(count, count >= PARALLEL_THRESHOLD, body);
+    }
+
+    private static void forEach(int count, boolean parallel, IntConsumer body) {
+        if (!parallel) {
+            for (int i = 0; i < count; i++) {
+                body.accept(i);
+            }
+        } else {
+            IntStream.range(0, count).parallel().forEach(body);
+        }
+    }
+}
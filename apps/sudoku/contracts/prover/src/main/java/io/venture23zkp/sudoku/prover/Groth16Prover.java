@@ -0,0 +1,138 @@
+package io.venture23zkp.sudoku.prover;
+
+import io.venture23zkp.sudoku.curves.Fp;
+import io.venture23zkp.sudoku.curves.ProverCurve;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Groth16 prover for snarkjs proving keys, the same computation as {@code snarkjs groth16
+ * prove}:
+ * <ol>
+ * <li>the A and B matrices times the witness give the evaluations of A(x) and B(x) on the
+ * domain, and C = A * B pointwise;</li>
+ * <li>each is interpolated, shifted to the coset of odd 2n-th roots and evaluated there,
+ * where A * B - C is h(x) times the constant x^n - 1;</li>
+ * <li>the proof points are multi-scalar multiplications of the witness and of those
+ * evaluations with the key's point sections, plus the blinding terms.</li>
+ * </ol>
+ * The transforms and the multiplications run on the fork-join pool the caller is in, or
+ * the common pool. A prover is immutable after construction and may be shared.
+ */
+public final class Groth16Prover {
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Zkey zkey;
+    private final ProverCurve curve;
+    private final Fp fr;
+    private final EvaluationDomain domain;
+    // the coefficient section, decoded once; values stay as stored (Montgomery form times R)
+    private final int[] matrix;
+    private final int[] constraint;
+    private final int[] signal;
+    private final long[][] value;
+
+    public Groth16Prover(Zkey zkey) {
+        this.zkey = zkey;
+        this.curve = zkey.curve;
+        this.fr = new Fp(zkey.prime);
+        this.domain = new EvaluationDomain(fr, zkey.domainSize);
+        ByteBuffer coefs = zkey.coefs;
+        int count = coefs.getInt(0);
+        this.matrix = new int[count];
+        this.constraint = new int[count];
+        this.signal = new int[count];
+        this.value = new long[count][];
+        int entry = 12 + zkey.n8r;
+        for (int i = 0; i < count; i++) {
+            int pos = 4 + i * entry;
+            matrix[i] = coefs.getInt(pos);
+            constraint[i] = coefs.getInt(pos + 4);
+            signal[i] = coefs.getInt(pos + 8);
+            value[i] = BinFile.readLimbs(coefs, pos + 12, zkey.n8r);
+            if (matrix[i] < 0 || matrix[i] > 1 || constraint[i] < 0 || constraint[i] >= zkey.domainSize
+                    || signal[i] < 0 || signal[i] >= zkey.nVars) {
+                throw new IllegalArgumentException(zkey.path + ": coefficient " + i + " is out of range");
+            }
+        }
+    }
+
+    public Zkey zkey() {
+        return zkey;
+    }
+
+    public Proof prove(Witness witness) {
+        return prove(witness, randomScalar(), randomScalar());
+    }
+
+    /**
+     * Proves with the given blinding factors; fixed ones make the proof deterministic.
+     */
+    Proof prove(Witness witness, BigInteger r, BigInteger s) {
+        if (!witness.prime.equals(zkey.prime) || witness.count != zkey.nVars) {
+            throw new IllegalArgumentException(witness.path + ": witness does not match " + zkey.path);
+        }
+        long[][] w = witness.toLimbs(fr);
+
+        long[][] h = quotientEvaluations(w);
+
+        int nPublic = zkey.nPublic;
+        ProverCurve.G1 a = curve.msmG1(zkey.pointsA, 0, w);
+        ProverCurve.G1 b1 = curve.msmG1(zkey.pointsB1, 0, w);
+        ProverCurve.G2 b = curve.msmG2(zkey.pointsB2, 0, w);
+        ProverCurve.G1 c = curve.msmG1(zkey.pointsC, 0, Arrays.copyOfRange(w, nPublic + 1, w.length));
+        c = curve.add(c, curve.msmG1(zkey.pointsH, 0, h));
+
+        a = curve.add(curve.add(a, zkey.alpha1), curve.mul(zkey.delta1, r));
+        b = curve.add(curve.add(b, zkey.beta2), curve.mul(zkey.delta2, s));
+        b1 = curve.add(curve.add(b1, zkey.beta1), curve.mul(zkey.delta1, s));
+        c = curve.add(c, curve.mul(a, s));
+        c = curve.add(c, curve.mul(b1, r));
+        c = curve.add(c, curve.neg(curve.mul(zkey.delta1, r.multiply(s))));
+
+        BigInteger[] publicSignals = new BigInteger[nPublic];
+        for (int i = 0; i < nPublic; i++) {
+            publicSignals[i] = witness.get(i + 1);
+        }
+        return new Proof(curve.name(), curve.affine(a), curve.affine(b), curve.affine(c), publicSignals);
+    }
+
+    // A * B - C on the odd 2n-th roots, as canonical limbs for the H points
+    private long[][] quotientEvaluations(long[][] w) {
+        int n = domain.size();
+        long[][][] abc = new long[3][n][];
+        for (long[][] poly : abc) {
+            Arrays.fill(poly, fr.zero());
+        }
+        long[][] a = abc[0];
+        long[][] b = abc[1];
+        for (int i = 0; i < value.length; i++) {
+            // stored value * R times canonical w is w * v in Montgomery form
+            long[] term = fr.mul(value[i], w[signal[i]]);
+            long[][] target = matrix[i] == 0 ? a : b;
+            target[constraint[i]] = fr.add(target[constraint[i]], term);
+        }
+        for (int i = 0; i < n; i++) {
+            abc[2][i] = fr.mul(a[i], b[i]);
+        }
+        IntStream.range(0, 3).parallel().forEach(k -> {
+            domain.ifft(abc[k]);
+            domain.shiftToCoset(abc[k]);
+            domain.fft(abc[k]);
+        });
+        long[] unit = new long[fr.limbs()];
+        unit[0] = 1;
+        long[][] h = new long[n][];
+        IntStream.range(0, n).parallel().forEach(i ->
+                h[i] = fr.mul(fr.sub(fr.mul(a[i], b[i]), abc[2][i]), unit));
+        return h;
+    }
+
+    private BigInteger randomScalar() {
+        return new BigInteger(zkey.prime.bitLength() + 64, RANDOM).mod(zkey.prime);
+    }
+}
@@ -0,0 +1,91 @@
+package io.venture23zkp.sudoku.prover;
+
+import java.math.BigInteger;
+
+/**
+ * A Groth16 proof in the argument order of the generated verifiers' {@code verifyProof}:
+ * a and c as {x, y}, b as {{x.imaginary, x.real}, {y.imaginary, y.real}}, with the public
+ * signals the witness committed to.
+ */
+public final class Proof {
+    private final String curve;
+    private final BigInteger[] a;
+    private final BigInteger[][] b;
+    private final BigInteger[] c;
+    private final BigInteger[] publicSignals;
+
+    Proof(String curve, BigInteger[] a, BigInteger[][] b, BigInteger[] c, BigInteger[] publicSignals) {
+        this.curve = curve;
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.publicSignals = publicSignals;
+    }
+
+    public String curve() {
+        return curve;
+    }
+
+    public BigInteger[] a() {
+        return a.clone();
+    }
+
+    public BigInteger[][] b() {
+        return new BigInteger[][] { b[0].clone(), b[1].clone() };
+    }
+
+    public BigInteger[] c() {
+        return c.clone();
+    }
+
+    public BigInteger[] publicSignals() {
+        return publicSignals.clone();
+    }
+
+    /**
+     * One JSON line holding the proof as snarkjs writes proof.json, with its Fp2 elements
+     * real part first, and the public.json array; the gateway's proof parser reads it back.
+     */
+    public String toJson(String id) {
+        StringBuilder sb = new StringBuilder("{");
+        if (id != null) {
+            sb.append("\"id\":");
+            string(sb, id);
+            sb.append(',');
+        }
+        sb.append("\"curve\":\"").append(curve).append("\",\"proof\":{\"pi_a\":[");
+        elements(sb, a[0], a[1], BigInteger.ONE);
+        sb.append("],\"pi_b\":[[");
+        elements(sb, b[0][1], b[0][0]);
+        sb.append("],[");
+        elements(sb, b[1][1], b[1][0]);
+        sb.append("],[");
+        elements(sb, BigInteger.ONE, BigInteger.ZERO);
+        sb.append("]],\"pi_c\":[");
+        elements(sb, c[0], c[1], BigInteger.ONE);
+        sb.append("],\"protocol\":\"groth16\",\"curve\":\"").append(curve).append("\"},\"publicSignals\":[");
+        elements(sb, publicSignals);
+        return sb.append("]}").toString();
+    }
+
+    private static void elements(StringBuilder sb, BigInteger... values) {
+        for (int i = 0; i < values.length; i++) {
+            sb.append(i == 0 ? "\"" : ",\"").append(values[i]).append('"');
+        }
+    }
+
+    private static void string(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            if (ch == '"' || ch == '\\') {
+                sb.append('\\').append(ch);
+            } else if (ch < 0x20) {
+                sb.append(String.format("\\u%04x", (int) ch));
+            } else {
+                sb.append(ch);
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -0,0 +1,72 @@
+package io.venture23zkp.sudoku.prover;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command line entry point:
+ * <pre>
+ * Prove [--threads n] circuit.zkey witness.wtns...
+ * </pre>
+ * Proves every witness with the key and writes one JSON line per proof to stdout, the
+ * proof.json and public.json of snarkjs with the witness file as id, the record format
+ * the gateway's VerifyProofs reads. Timings go to stderr. Exits with 1 if any witness
+ * could not be proved.
+ */
+public final class Prove {
+
+    private Prove() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--threads")) {
+                threads = Integer.parseInt(args[++i]);
+            } else {
+                files.add(Paths.get(args[i]));
+            }
+        }
+        if (files.size() < 2) {
+            System.err.println("usage: Prove [--threads n] circuit.zkey witness.wtns...");
+            System.exit(2);
+        }
+
+        long start = System.nanoTime();
+        Zkey zkey = Zkey.open(files.get(0));
+        Groth16Prover prover = new Groth16Prover(zkey);
+        System.err.printf("%s: %s, %d signals, %d public, domain %d, loaded in %d ms%n",
+                files.get(0), zkey.curve().name(), zkey.signals(), zkey.publicSignals(), zkey.domainSize(),
+                (System.nanoTime() - start) / 1_000_000);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        int failed = 0;
+        for (Path file : files.subList(1, files.size())) {
+            long t0 = System.nanoTime();
+            Proof proof;
+            try {
+                Witness witness = Witness.open(file);
+                proof = pool.submit(() -> prover.prove(witness)).get();
+            } catch (Exception e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                System.err.printf("%s: FAILED %s%n", file, cause.getMessage());
+                failed++;
+                continue;
+            }
+            out.write(proof.toJson(file.toString()));
+            out.newLine();
+            out.flush();
+            System.err.printf("%s: proved in %d ms%n", file, (System.nanoTime() - t0) / 1_000_000);
+        }
+        pool.shutdown();
+        System.exit(failed == 0 ? 0 : 1);
+    }
+}
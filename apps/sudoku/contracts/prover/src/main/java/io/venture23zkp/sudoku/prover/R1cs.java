@@ -0,0 +1,123 @@
+package io.venture23zkp.sudoku.prover;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * A constraint system as circom writes it with {@code --r1cs}, memory-mapped. The header
+ * section holds the field and the wire counts; the constraint section holds, per
+ * constraint, the linear combinations A, B and C as nTerms (4) | { wire (4) | coefficient
+ * (fieldSize, little-endian, canonical) }*. Constraints are read from the mapping as they
+ * are checked.
+ */
+public final class R1cs {
+    static final int HEADER = 1;
+    static final int CONSTRAINTS = 2;
+    static final int WIRE_TO_LABEL = 3;
+
+    static final BigInteger BN128_SCALAR_FIELD =
+            new BigInteger("21888242871839275222246405745257275088548364400416034343698204186575808495617");
+    static final BigInteger BLS12_381_SCALAR_FIELD =
+            new BigInteger("52435875175126190479447740508185965837690552500527637822603658699938581184513");
+
+    final Path path;
+    final int fieldSize;
+    final BigInteger prime;
+    final int nWires;
+    final int nPubOut;
+    final int nPubIn;
+    final int nPrvIn;
+    final long nLabels;
+    final int nConstraints;
+    final ByteBuffer constraints;
+    private final ByteBuffer labels;
+
+    private R1cs(BinFile file) {
+        this.path = file.path();
+        ByteBuffer header = file.section(HEADER);
+        this.fieldSize = header.getInt(0);
+        if (fieldSize <= 0 || fieldSize % 8 != 0) {
+            throw new IllegalArgumentException(path + ": unsupported field size " + fieldSize);
+        }
+        this.prime = BinFile.readBigInteger(header, 4, fieldSize);
+        int pos = 4 + fieldSize;
+        this.nWires = header.getInt(pos);
+        this.nPubOut = header.getInt(pos + 4);
+        this.nPubIn = header.getInt(pos + 8);
+        this.nPrvIn = header.getInt(pos + 12);
+        this.nLabels = header.getLong(pos + 16);
+        this.nConstraints = header.getInt(pos + 24);
+        this.constraints = file.section(CONSTRAINTS);
+        this.labels = file.optionalSection(WIRE_TO_LABEL);
+    }
+
+    public static R1cs open(Path path) throws IOException {
+        return new R1cs(BinFile.open(path, "r1cs"));
+    }
+
+    public BigInteger prime() {
+        return prime;
+    }
+
+    public int wires() {
+        return nWires;
+    }
+
+    public int constraints() {
+        return nConstraints;
+    }
+
+    /**
+     * Public signals: outputs, then public inputs.
+     */
+    public int publicSignals() {
+        return nPubOut + nPubIn;
+    }
+
+    /**
+     * The label (signal id in the circom .sym file) of a wire, or -1 if the file has no
+     * wire-to-label map.
+     */
+    public long label(int wire) {
+        return labels == null ? -1 : labels.getLong(8 * wire);
+    }
+
+    /**
+     * Byte offset of every constraint in the constraint section, found in one pass over the
+     * term counts so that the constraints can be checked in any order.
+     */
+    int[] constraintOffsets() {
+        int[] offsets = new int[nConstraints];
+        int termSize = 4 + fieldSize;
+        int limit = constraints.limit();
+        int pos = 0;
+        for (int i = 0; i < nConstraints; i++) {
+            offsets[i] = pos;
+            for (int lc = 0; lc < 3; lc++) {
+                if (pos + 4 > limit) {
+                    throw new IllegalArgumentException(path + ": constraint " + i + " is truncated");
+                }
+                pos += 4 + constraints.getInt(pos) * termSize;
+            }
+        }
+        if (pos > limit) {
+            throw new IllegalArgumentException(path + ": constraint " + (nConstraints - 1) + " is truncated");
+        }
+        return offsets;
+    }
+
+    /**
+     * The field name as in verification_key.json, or null for another prime.
+     */
+    public String curveName() {
+        if (prime.equals(BN128_SCALAR_FIELD)) {
+            return "bn128";
+        }
+        if (prime.equals(BLS12_381_SCALAR_FIELD)) {
+            return "bls12381";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,81 @@
+package io.venture23zkp.sudoku.prover;
+
+import io.venture23zkp.sudoku.curves.Fp;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+/**
+ * A witness as written by circom's generate_witness.js, memory-mapped: a header section of
+ * fieldSize (4) | prime | count (4), then count field elements, little-endian and
+ * canonical. Wire 0 is the constant 1.
+ */
+public final class Witness {
+    static final int HEADER = 1;
+    static final int VALUES = 2;
+
+    final Path path;
+    final int fieldSize;
+    final BigInteger prime;
+    final int count;
+    private final ByteBuffer values;
+
+    private Witness(BinFile file) {
+        this.path = file.path();
+        ByteBuffer header = file.section(HEADER);
+        this.fieldSize = header.getInt(0);
+        if (fieldSize <= 0 || fieldSize % 8 != 0) {
+            throw new IllegalArgumentException(path + ": unsupported field size " + fieldSize);
+        }
+        this.prime = BinFile.readBigInteger(header, 4, fieldSize);
+        this.count = header.getInt(4 + fieldSize);
+        this.values = file.section(VALUES);
+        if ((long) count * fieldSize > values.limit()) {
+            throw new IllegalArgumentException(path + ": " + count + " values do not fit the value section");
+        }
+    }
+
+    public static Witness open(Path path) throws IOException {
+        return new Witness(BinFile.open(path, "wtns"));
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public BigInteger get(int i) {
+        return BinFile.readBigInteger(values, i * fieldSize, fieldSize);
+    }
+
+    /**
+     * All values in Montgomery form of {@code fp}, converted in parallel.
+     */
+    long[][] toMontgomery(Fp fp) {
+        long[][] w = new long[count][];
+        IntStream.range(0, count).parallel().forEach(i -> {
+            w[i] = fp.fromCanonical(BinFile.readLimbs(values, i * fieldSize, fieldSize));
+            if (w[i] == null) {
+                throw new IllegalArgumentException(path + ": value " + i + " is not below the prime");
+            }
+        });
+        return w;
+    }
+
+    /**
+     * All values as canonical limbs, the scalars of the prover's multiplications, each
+     * checked to be below the prime of {@code fp}.
+     */
+    long[][] toLimbs(Fp fp) {
+        long[][] w = new long[count][];
+        IntStream.range(0, count).parallel().forEach(i -> {
+            w[i] = BinFile.readLimbs(values, i * fieldSize, fieldSize);
+            if (w[i].length != fp.limbs() || fp.fromCanonical(w[i]) == null) {
+                throw new IllegalArgumentException(path + ": value " + i + " is not below the prime");
+            }
+        });
+        return w;
+    }
+}
@@ -0,0 +1,157 @@
+package io.venture23zkp.sudoku.prover;
+
+import io.venture23zkp.sudoku.curves.ProverCurve;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * A Groth16 proving key as snarkjs writes it ({@code groth16 setup}, {@code zkey
+ * contribute}), memory-mapped. Points are in the {@link ProverCurve} zkey layout; the
+ * point sections are handed to the multi-scalar multiplications as they are mapped.
+ * <ul>
+ * <li>1: protocol (4), 1 for Groth16</li>
+ * <li>2: n8q (4) | q | n8r (4) | r | nVars (4) | nPublic (4) | domainSize (4) | alpha1 |
+ * beta1 | beta2 | gamma2 | delta1 | delta2</li>
+ * <li>3: IC, nPublic + 1 G1 points</li>
+ * <li>4: nCoefs (4) | { matrix (4) | constraint (4) | signal (4) | value (n8r) }*, the A (0)
+ * and B (1) matrices with values in Montgomery form times R, so one Montgomery
+ * multiplication by 1 maps them into Montgomery form</li>
+ * <li>5, 6, 7: A, B in G1 and B in G2, one point per signal</li>
+ * <li>8: C, one point per private signal</li>
+ * <li>9: H, domainSize points</li>
+ * </ul>
+ */
+public final class Zkey {
+    static final int HEADER = 1;
+    static final int GROTH16_HEADER = 2;
+    static final int IC = 3;
+    static final int COEFS = 4;
+    static final int POINTS_A = 5;
+    static final int POINTS_B1 = 6;
+    static final int POINTS_B2 = 7;
+    static final int POINTS_C = 8;
+    static final int POINTS_H = 9;
+
+    static final int GROTH16 = 1;
+
+    final Path path;
+    final ProverCurve curve;
+    final BigInteger prime;
+    final int n8r;
+    final int nVars;
+    final int nPublic;
+    final int domainSize;
+    final ProverCurve.G1 alpha1;
+    final ProverCurve.G1 beta1;
+    final ProverCurve.G2 beta2;
+    final ProverCurve.G2 gamma2;
+    final ProverCurve.G1 delta1;
+    final ProverCurve.G2 delta2;
+    final ByteBuffer ic;
+    final ByteBuffer coefs;
+    final ByteBuffer pointsA;
+    final ByteBuffer pointsB1;
+    final ByteBuffer pointsB2;
+    final ByteBuffer pointsC;
+    final ByteBuffer pointsH;
+
+    private Zkey(BinFile file) {
+        this.path = file.path();
+        if (file.section(HEADER).getInt(0) != GROTH16) {
+            throw new IllegalArgumentException(path + ": not a Groth16 key");
+        }
+        ByteBuffer header = file.section(GROTH16_HEADER);
+        int n8q = header.getInt(0);
+        BigInteger q = BinFile.readBigInteger(header, 4, n8q);
+        this.curve = ProverCurve.byBaseField(q);
+        if (curve == null || curve.fieldSize() != n8q) {
+            throw new IllegalArgumentException(path + ": unsupported curve");
+        }
+        int pos = 4 + n8q;
+        this.n8r = header.getInt(pos);
+        this.prime = BinFile.readBigInteger(header, pos + 4, n8r);
+        if (!prime.equals(curve.scalarField())) {
+            throw new IllegalArgumentException(path + ": scalar field does not match " + curve.name());
+        }
+        pos += 4 + n8r;
+        this.nVars = header.getInt(pos);
+        this.nPublic = header.getInt(pos + 4);
+        this.domainSize = header.getInt(pos + 8);
+        if (domainSize <= 0 || Integer.bitCount(domainSize) != 1) {
+            throw new IllegalArgumentException(path + ": domain size " + domainSize + " is not a power of two");
+        }
+        pos += 12;
+        int g1 = curve.g1Size();
+        int g2 = curve.g2Size();
+        this.alpha1 = curve.readG1(header, pos);
+        this.beta1 = curve.readG1(header, pos + g1);
+        this.beta2 = curve.readG2(header, pos + 2 * g1);
+        this.gamma2 = curve.readG2(header, pos + 2 * g1 + g2);
+        this.delta1 = curve.readG1(header, pos + 2 * g1 + 2 * g2);
+        this.delta2 = curve.readG2(header, pos + 3 * g1 + 2 * g2);
+
+        this.ic = points(file, IC, nPublic + 1, g1);
+        this.coefs = file.section(COEFS);
+        this.pointsA = points(file, POINTS_A, nVars, g1);
+        this.pointsB1 = points(file, POINTS_B1, nVars, g1);
+        this.pointsB2 = points(file, POINTS_B2, nVars, g2);
+        this.pointsC = points(file, POINTS_C, nVars - nPublic - 1, g1);
+        this.pointsH = points(file, POINTS_H, domainSize, g1);
+        if (coefs.limit() < 4 || 4 + (long) coefs.getInt(0) * (12 + n8r) > coefs.limit()) {
+            throw new IllegalArgumentException(path + ": truncated coefficient section");
+        }
+    }
+
+    public static Zkey open(Path path) throws IOException {
+        return new Zkey(BinFile.open(path, "zkey"));
+    }
+
+    private ByteBuffer points(BinFile file, int type, int count, int size) {
+        ByteBuffer section = file.section(type);
+        if (section.limit() != (long) count * size) {
+            throw new IllegalArgumentException(path + ": section " + type + " should hold " + count + " points");
+        }
+        return section;
+    }
+
+    public ProverCurve curve() {
+        return curve;
+    }
+
+    public int signals() {
+        return nVars;
+    }
+
+    public int publicSignals() {
+        return nPublic;
+    }
+
+    public int domainSize() {
+        return domainSize;
+    }
+
+    // the verifying key is part of the proving key
+
+    public ProverCurve.G1 alpha1() {
+        return alpha1;
+    }
+
+    public ProverCurve.G2 beta2() {
+        return beta2;
+    }
+
+    public ProverCurve.G2 gamma2() {
+        return gamma2;
+    }
+
+    public ProverCurve.G2 delta2() {
+        return delta2;
+    }
+
+    public ProverCurve.G1 ic(int i) {
+        return curve.readG1(ic, i * curve.g1Size());
+    }
+}
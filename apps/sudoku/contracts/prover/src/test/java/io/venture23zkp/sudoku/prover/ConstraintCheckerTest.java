@@ -0,0 +1,137 @@
+package io.venture23zkp.sudoku.prover;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConstraintCheckerTest {
+    private static final BigInteger P = R1cs.BLS12_381_SCALAR_FIELD;
+    private static final BigInteger MINUS_ONE = P.subtract(BigInteger.ONE);
+
+    // wires: 1, out, x, y, t with x * y = t and (t + 1) * 1 = out, then x * (x - 1) = 0 for copies
+    private static Path circuit(Path dir, int copies) throws IOException {
+        ByteArrayOutputStream constraints = new ByteArrayOutputStream();
+        for (int i = 0; i < copies; i++) {
+            lc(constraints, 2, BigInteger.ONE);
+            lc(constraints, 3, BigInteger.ONE);
+            lc(constraints, 4, BigInteger.ONE);
+
+            lc(constraints, 4, BigInteger.ONE, 0, BigInteger.ONE);
+            lc(constraints, 0, BigInteger.ONE);
+            lc(constraints, 1, BigInteger.ONE);
+        }
+        ByteBuffer header = le(4 + 32 + 28);
+        header.putInt(32).put(field(P)).putInt(5).putInt(1).putInt(0).putInt(2).putLong(5).putInt(2 * copies);
+        ByteBuffer labels = le(5 * 8);
+        for (int i = 0; i < 5; i++) {
+            labels.putLong(100 + i);
+        }
+        return write(dir.resolve("c.r1cs"), "r1cs", new int[] { 2, 1, 3 },
+                constraints.toByteArray(), header.array(), labels.array());
+    }
+
+    private static Path witness(Path dir, String name, BigInteger... values) throws IOException {
+        ByteBuffer header = le(4 + 32 + 4);
+        header.putInt(32).put(field(P)).putInt(values.length);
+        ByteBuffer body = le(32 * values.length);
+        for (BigInteger v : values) {
+            body.put(field(v));
+        }
+        return write(dir.resolve(name), "wtns", new int[] { 1, 2 }, header.array(), body.array());
+    }
+
+    // (wire, coefficient) pairs
+    private static void lc(ByteArrayOutputStream out, Object... terms) {
+        ByteBuffer buf = le(4 + terms.length / 2 * 36);
+        buf.putInt(terms.length / 2);
+        for (int i = 0; i < terms.length; i += 2) {
+            buf.putInt((Integer) terms[i]).put(field((BigInteger) terms[i + 1]));
+        }
+        out.writeBytes(buf.array());
+    }
+
+    private static Path write(Path path, String magic, int[] types, byte[]... sections) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(magic.getBytes());
+        out.writeBytes(le(8).putInt(1).putInt(types.length).array());
+        for (int i = 0; i < types.length; i++) {
+            out.writeBytes(le(12).putInt(types[i]).putLong(sections[i].length).array());
+            out.writeBytes(sections[i]);
+        }
+        return Files.write(path, out.toByteArray());
+    }
+
+    private static ByteBuffer le(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static byte[] field(BigInteger v) {
+        byte[] le = new byte[32];
+        byte[] be = v.toByteArray();
+        for (int i = 0; i < be.length && i < 32; i++) {
+            le[i] = be[be.length - 1 - i];
+        }
+        return le;
+    }
+
+    @Test
+    void reportsTheFailingConstraints() throws Exception {
+        Path dir = Files.createTempDirectory("r1cs");
+        R1cs r1cs = R1cs.open(circuit(dir, 3000));
+        assertEquals("bls12381", r1cs.curveName());
+        assertEquals(6000, r1cs.constraints());
+        assertEquals(1, r1cs.publicSignals());
+        assertEquals(103, r1cs.label(3));
+        ConstraintChecker checker = new ConstraintChecker(r1cs);
+
+        // (p - 1)^2 = 1 only holds after reduction
+        Witness good = Witness.open(witness(dir, "good.wtns", BigInteger.ONE, BigInteger.TWO, MINUS_ONE, MINUS_ONE,
+                BigInteger.ONE));
+        ConstraintChecker.Report report = checker.check(good, 5);
+        assertTrue(report.ok(), report.toString());
+        assertTrue(report.constraintsPerSecond() > 0);
+
+        Witness bad = Witness.open(witness(dir, "bad.wtns", BigInteger.ONE, BigInteger.valueOf(3), MINUS_ONE,
+                MINUS_ONE, BigInteger.ONE));
+        report = checker.check(bad, 5);
+        assertFalse(report.ok());
+        assertEquals(3000, report.failureCount());
+        List<ConstraintChecker.Failure> failures = report.failures();
+        assertEquals(5, failures.size());
+        for (int i = 0; i < failures.size(); i++) {
+            ConstraintChecker.Failure f = failures.get(i);
+            assertEquals(2 * i + 1, f.constraint());
+            assertEquals(BigInteger.TWO, f.a());
+            assertEquals(BigInteger.ONE, f.b());
+            assertEquals(BigInteger.valueOf(3), f.c());
+            assertArrayEquals(new int[] { 4, 0, 1 }, f.wires());
+        }
+    }
+
+    @Test
+    void rejectsMismatchedFiles() throws Exception {
+        Path dir = Files.createTempDirectory("r1cs");
+        ConstraintChecker checker = new ConstraintChecker(R1cs.open(circuit(dir, 1)));
+        Witness short1 = Witness.open(witness(dir, "short.wtns", BigInteger.ONE, BigInteger.TWO));
+        assertThrows(IllegalArgumentException.class, () -> checker.check(short1, 1));
+        Witness outOfField = Witness.open(witness(dir, "big.wtns", BigInteger.ONE, BigInteger.TWO, P,
+                BigInteger.ONE, BigInteger.ONE));
+        assertThrows(IllegalArgumentException.class, () -> checker.check(outOfField, 1));
+
+        Path truncated = dir.resolve("truncated.r1cs");
+        byte[] bytes = Files.readAllBytes(dir.resolve("c.r1cs"));
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 40));
+        assertThrows(IllegalArgumentException.class, () -> R1cs.open(truncated));
+        assertThrows(IllegalArgumentException.class, () -> Witness.open(dir.resolve("c.r1cs")));
+    }
+}
@@ -0,0 +1,305 @@
+package io.venture23zkp.sudoku.prover;
+
+import io.venture23zkp.sudoku.Curve;
+import io.venture23zkp.sudoku.Groth16Verifier;
+import io.venture23zkp.sudoku.P1;
+import io.venture23zkp.sudoku.P2;
+import io.venture23zkp.sudoku.PedersenBN128Verifier;
+import io.venture23zkp.sudoku.Sha256BLS12381Verifier;
+import io.venture23zkp.sudoku.VerifyingKey;
+import io.venture23zkp.sudoku.curves.JvmCurveOps;
+import io.venture23zkp.sudoku.curves.ProverCurve;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class Groth16ProverTest {
+    // wires: 1, out, x, y, t with x * y = t and (t + 3) * 1 = out
+    private static final int N_VARS = 5;
+    private static final int N_PUBLIC = 1;
+    private static final int DOMAIN = 4;
+    // {matrix, constraint, signal, coefficient}; rows 2 and 3 are the ones snarkjs adds per public signal
+    private static final int[][] COEFS = {
+            { 0, 0, 2, 1 }, { 0, 1, 4, 1 }, { 0, 1, 0, 3 }, { 0, 2, 0, 1 }, { 0, 3, 1, 1 },
+            { 1, 0, 3, 1 }, { 1, 1, 0, 1 } };
+    // C is implied by A * B; {constraint, signal}
+    private static final int[][] C_TERMS = { { 0, 4 }, { 1, 1 } };
+
+    /**
+     * A key from a known toxic waste, computed the long way: the QAP polynomials evaluated
+     * at tau through the Lagrange basis, and H through the basis of the 2n-th roots.
+     */
+    private static final class Setup {
+        final ProverCurve curve;
+        final Curve vkCurve;
+        final BigInteger r;
+        final BigInteger tau = BigInteger.valueOf(123456789);
+        final BigInteger alpha = BigInteger.valueOf(1111);
+        final BigInteger beta = BigInteger.valueOf(2222);
+        final BigInteger gamma = BigInteger.valueOf(3333);
+        final BigInteger delta = BigInteger.valueOf(4444);
+        final ProverCurve.G1 g1;
+        final ProverCurve.G2 g2;
+
+        Setup(ProverCurve curve, Curve vkCurve) {
+            this.curve = curve;
+            this.vkCurve = vkCurve;
+            this.r = curve.scalarField();
+            byte[] p1 = P1.generator(vkCurve).bytes();
+            int n = p1.length / 2;
+            this.g1 = curve.g1(be(p1, 0, n), be(p1, n, n));
+            byte[] p2 = P2.generator(vkCurve).bytes();
+            this.g2 = curve.g2(new BigInteger[][] {
+                    { be(p2, 0, n), be(p2, n, n) }, { be(p2, 2 * n, n), be(p2, 3 * n, n) } });
+        }
+
+        // the 2^k-th root of unity the prover uses
+        BigInteger root(int size) {
+            BigInteger rMinusOne = r.subtract(BigInteger.ONE);
+            int s = rMinusOne.getLowestSetBit();
+            BigInteger g = BigInteger.TWO;
+            while (!g.modPow(rMinusOne.shiftRight(1), r).equals(rMinusOne)) {
+                g = g.add(BigInteger.ONE);
+            }
+            int log = Integer.numberOfTrailingZeros(size);
+            return g.modPow(rMinusOne.shiftRight(s), r).modPow(BigInteger.ONE.shiftLeft(s - log), r);
+        }
+
+        // L_j(tau) over the size-th roots of unity
+        BigInteger lagrange(int size, int j) {
+            BigInteger x = root(size).modPow(BigInteger.valueOf(j), r);
+            BigInteger num = tau.modPow(BigInteger.valueOf(size), r).subtract(BigInteger.ONE).multiply(x);
+            BigInteger den = BigInteger.valueOf(size).multiply(tau.subtract(x)).mod(r);
+            return num.multiply(den.modInverse(r)).mod(r);
+        }
+
+        BigInteger[] poly(int matrix) {
+            BigInteger[] p = new BigInteger[N_VARS];
+            Arrays.fill(p, BigInteger.ZERO);
+            for (int[] coef : COEFS) {
+                if (coef[0] == matrix) {
+                    p[coef[2]] = p[coef[2]].add(BigInteger.valueOf(coef[3]).multiply(lagrange(DOMAIN, coef[1])));
+                }
+            }
+            return p;
+        }
+
+        Path zkey(Path dir) throws IOException {
+            BigInteger[] u = poly(0);
+            BigInteger[] v = poly(1);
+            BigInteger[] w = new BigInteger[N_VARS];
+            Arrays.fill(w, BigInteger.ZERO);
+            for (int[] term : C_TERMS) {
+                w[term[1]] = w[term[1]].add(lagrange(DOMAIN, term[0]));
+            }
+            BigInteger gammaInv = gamma.modInverse(r);
+            BigInteger deltaInv = delta.modInverse(r);
+            int n8q = curve.fieldSize();
+            int g1Size = curve.g1Size();
+            int g2Size = curve.g2Size();
+
+            ByteBuffer header = le(4 + n8q + 4 + 32 + 12 + 3 * g1Size + 3 * g2Size);
+            header.putInt(n8q).put(field(curve.baseField(), n8q)).putInt(32).put(field(r, 32))
+                    .putInt(N_VARS).putInt(N_PUBLIC).putInt(DOMAIN);
+            int pos = header.position();
+            curve.writeG1(curve.mul(g1, alpha), header, pos);
+            curve.writeG1(curve.mul(g1, beta), header, pos + g1Size);
+            curve.writeG2(curve.mul(g2, beta), header, pos + 2 * g1Size);
+            curve.writeG2(curve.mul(g2, gamma), header, pos + 2 * g1Size + g2Size);
+            curve.writeG1(curve.mul(g1, delta), header, pos + 2 * g1Size + 2 * g2Size);
+            curve.writeG2(curve.mul(g2, delta), header, pos + 3 * g1Size + 2 * g2Size);
+
+            ByteBuffer ic = le((N_PUBLIC + 1) * g1Size);
+            ByteBuffer c = le((N_VARS - N_PUBLIC - 1) * g1Size);
+            ByteBuffer a = le(N_VARS * g1Size);
+            ByteBuffer b1 = le(N_VARS * g1Size);
+            ByteBuffer b2 = le(N_VARS * g2Size);
+            for (int s = 0; s < N_VARS; s++) {
+                BigInteger k = beta.multiply(u[s]).add(alpha.multiply(v[s])).add(w[s]);
+                if (s <= N_PUBLIC) {
+                    curve.writeG1(curve.mul(g1, k.multiply(gammaInv)), ic, s * g1Size);
+                } else {
+                    curve.writeG1(curve.mul(g1, k.multiply(deltaInv)), c, (s - N_PUBLIC - 1) * g1Size);
+                }
+                curve.writeG1(curve.mul(g1, u[s]), a, s * g1Size);
+                curve.writeG1(curve.mul(g1, v[s]), b1, s * g1Size);
+                curve.writeG2(curve.mul(g2, v[s]), b2, s * g2Size);
+            }
+            ByteBuffer h = le(DOMAIN * g1Size);
+            for (int i = 0; i < DOMAIN; i++) {
+                curve.writeG1(curve.mul(g1, lagrange(2 * DOMAIN, 2 * i + 1).multiply(deltaInv)), h, i * g1Size);
+            }
+
+            // stored as v * R^2 with R = 2^256
+            BigInteger r2 = BigInteger.ONE.shiftLeft(512).mod(r);
+            ByteBuffer coefs = le(4 + COEFS.length * (12 + 32));
+            coefs.putInt(COEFS.length);
+            for (int[] coef : COEFS) {
+                coefs.putInt(coef[0]).putInt(coef[1]).putInt(coef[2])
+                        .put(field(BigInteger.valueOf(coef[3]).multiply(r2).mod(r), 32));
+            }
+            return write(dir.resolve(curve.name() + ".zkey"), "zkey", new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 9 },
+                    le(4).putInt(1).array(), header.array(), ic.array(), coefs.array(), a.array(), b1.array(),
+                    b2.array(), c.array(), h.array());
+        }
+
+        Groth16Verifier verifier(Zkey zkey) {
+            int n = curve.fieldSize();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.writeBytes(new byte[] { 1, (byte) vkCurve.getId(), 0, N_PUBLIC });
+            g1(out, curve.affine(zkey.alpha1()), n);
+            g2(out, curve.affine(zkey.beta2()), n);
+            g2(out, curve.affine(zkey.gamma2()), n);
+            g2(out, curve.affine(zkey.delta2()), n);
+            for (int i = 0; i <= N_PUBLIC; i++) {
+                g1(out, curve.affine(zkey.ic(i)), n);
+            }
+            return new Groth16Verifier(VerifyingKey.decode(out.toByteArray()), JvmCurveOps.INSTANCE);
+        }
+
+        Path witness(Path dir, String name, long... values) throws IOException {
+            ByteBuffer header = le(4 + 32 + 4);
+            header.putInt(32).put(field(r, 32)).putInt(values.length);
+            ByteBuffer body = le(32 * values.length);
+            for (long v : values) {
+                body.put(field(BigInteger.valueOf(v).mod(r), 32));
+            }
+            return write(dir.resolve(curve.name() + "-" + name), "wtns", new int[] { 1, 2 },
+                    header.array(), body.array());
+        }
+    }
+
+    private static void g1(ByteArrayOutputStream out, BigInteger[] p, int n) {
+        out.writeBytes(be(p[0], n));
+        out.writeBytes(be(p[1], n));
+    }
+
+    private static void g2(ByteArrayOutputStream out, BigInteger[][] p, int n) {
+        for (BigInteger[] coordinate : p) {
+            out.writeBytes(be(coordinate[0], n));
+            out.writeBytes(be(coordinate[1], n));
+        }
+    }
+
+    private static BigInteger be(byte[] buf, int offset, int len) {
+        return new BigInteger(1, Arrays.copyOfRange(buf, offset, offset + len));
+    }
+
+    private static byte[] be(BigInteger v, int len) {
+        byte[] out = new byte[len];
+        byte[] raw = v.toByteArray();
+        int n = Math.min(raw.length, len);
+        System.arraycopy(raw, raw.length - n, out, len - n, n);
+        return out;
+    }
+
+    private static Path write(Path path, String magic, int[] types, byte[]... sections) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(magic.getBytes());
+        out.writeBytes(le(8).putInt(1).putInt(types.length).array());
+        for (int i = 0; i < types.length; i++) {
+            out.writeBytes(le(12).putInt(types[i]).putLong(sections[i].length).array());
+            out.writeBytes(sections[i]);
+        }
+        return Files.write(path, out.toByteArray());
+    }
+
+    private static ByteBuffer le(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static byte[] field(BigInteger v, int len) {
+        byte[] le = new byte[len];
+        byte[] be = v.toByteArray();
+        for (int i = 0; i < be.length && i < len; i++) {
+            le[i] = be[be.length - 1 - i];
+        }
+        return le;
+    }
+
+    private static void provesAndVerifies(ProverCurve curve, Curve vkCurve) throws Exception {
+        Path dir = Files.createTempDirectory("zkey");
+        Setup setup = new Setup(curve, vkCurve);
+        Zkey zkey = Zkey.open(setup.zkey(dir));
+        assertEquals(curve, zkey.curve());
+        assertEquals(N_PUBLIC, zkey.publicSignals());
+        Groth16Prover prover = new Groth16Prover(zkey);
+        Groth16Verifier verifier = setup.verifier(zkey);
+
+        Witness witness = Witness.open(setup.witness(dir, "good.wtns", 1, 18, 3, 5, 15));
+        Proof proof = prover.prove(witness);
+        assertArrayEquals(new BigInteger[] { BigInteger.valueOf(18) }, proof.publicSignals());
+        assertTrue(verifier.verifyProof(proof.a(), proof.b(), proof.c(), proof.publicSignals()));
+        assertFalse(verifier.verifyProof(proof.a(), proof.b(), proof.c(), new BigInteger[] { BigInteger.valueOf(19) }));
+
+        // fresh blinding every time, fixed blinding reproduces the proof
+        Proof other = prover.prove(witness);
+        assertFalse(Arrays.equals(proof.a(), other.a()));
+        assertTrue(verifier.verifyProof(other.a(), other.b(), other.c(), other.publicSignals()));
+        Proof fixed = prover.prove(witness, BigInteger.TEN, BigInteger.TWO);
+        assertArrayEquals(fixed.c(), prover.prove(witness, BigInteger.TEN, BigInteger.TWO).c());
+
+        // x * y != t leaves a remainder, so the H term is wrong
+        Witness bad = Witness.open(setup.witness(dir, "bad.wtns", 1, 19, 3, 5, 16));
+        Proof forged = prover.prove(bad);
+        assertFalse(verifier.verifyProof(forged.a(), forged.b(), forged.c(), forged.publicSignals()));
+
+        Witness tooShort = Witness.open(setup.witness(dir, "short.wtns", 1, 18, 3, 5));
+        assertThrows(IllegalArgumentException.class, () -> prover.prove(tooShort));
+    }
+
+    @Test
+    void bn128ProofsVerify() throws Exception {
+        provesAndVerifies(ProverCurve.BN128, Curve.BN128);
+    }
+
+    @Test
+    void bls12381ProofsVerify() throws Exception {
+        provesAndVerifies(ProverCurve.BLS12_381, Curve.BLS12_381);
+    }
+
+    // circuits/build.sh leaves the zkey and the witness of circuits/inputs in build_<circuit>,
+    // and copies the key's verification_key.json to the contracts that generate the verifiers
+    @ParameterizedTest
+    @ValueSource(strings = {"sudoku_pedersen", "sudoku_sha256"})
+    void provesTheBuiltinBoardWithTheCircuitBuild(String circuit) throws IOException {
+        Path dir = Paths.get("..", "..", "circuits", "build_" + circuit);
+        Path zkeyPath = dir.resolve(circuit + "_0001.zkey");
+        Path witnessPath = dir.resolve("witness.wtns");
+        assumeTrue(Files.exists(zkeyPath) && Files.exists(witnessPath), dir + " is written by circuits/build.sh");
+        Zkey zkey = Zkey.open(zkeyPath);
+        Groth16Verifier verifier = circuit.equals("sudoku_pedersen") ? new PedersenBN128Verifier(JvmCurveOps.INSTANCE)
+                : new Sha256BLS12381Verifier(JvmCurveOps.INSTANCE);
+
+        Proof proof = new Groth16Prover(zkey).prove(Witness.open(witnessPath));
+        assertEquals(verifier.verifyingKey().nPublic(), proof.publicSignals().length);
+        assertTrue(verifier.verifyProof(proof.a(), proof.b(), proof.c(), proof.publicSignals()));
+        BigInteger[] other = proof.publicSignals().clone();
+        other[0] = other[0].add(BigInteger.ONE);
+        assertFalse(verifier.verifyProof(proof.a(), proof.b(), proof.c(), other));
+    }
+
+    @Test
+    void proofJsonIsSnarkjsLayout() {
+        Proof proof = new Proof("bn128", new BigInteger[] { BigInteger.ONE, BigInteger.TWO },
+                new BigInteger[][] { { BigInteger.valueOf(3), BigInteger.valueOf(4) },
+                        { BigInteger.valueOf(5), BigInteger.valueOf(6) } },
+                new BigInteger[] { BigInteger.valueOf(7), BigInteger.valueOf(8) }, new BigInteger[] { BigInteger.TEN });
+        assertEquals("{\"id\":\"w\\\"1\",\"curve\":\"bn128\",\"proof\":{\"pi_a\":[\"1\",\"2\",\"1\"],"
+                + "\"pi_b\":[[\"4\",\"3\"],[\"6\",\"5\"],[\"1\",\"0\"]],\"pi_c\":[\"7\",\"8\",\"1\"],"
+                + "\"protocol\":\"groth16\",\"curve\":\"bn128\"},\"publicSignals\":[\"10\"]}", proof.toJson("w\"1"));
+    }
+}
@@ -76,6 +76,9 @@ async function pedersenBoardHash(board) {
     return pedersen.babyJub.F.toObject(res[0])
 }
 
+// the sha256 circuit outputs its digest as a BLS12-381 scalar, so ids are reduced by it
+const BLS12_381_SCALAR_FIELD = BigInt("52435875175126190479447740508185965837690552500527637822603658699938581184513")
+
 function sha256(data) {
     return createHash('sha256').update(data).digest('hex');
 }
@@ -89,7 +92,7 @@ function sha256BoardHash(board) {
         e2 = board[2 * i];
         data[i] = e1 * 16 + e2;
     }
-    return BigInt("0x" + sha256(data))
+    return BigInt("0x" + sha256(data)) % BLS12_381_SCALAR_FIELD
 }
 
 export default function Sudoku() {